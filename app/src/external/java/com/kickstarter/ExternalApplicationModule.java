@@ -13,6 +13,7 @@ import com.kickstarter.services.ApiClientV2;
 import com.kickstarter.services.ApiServiceV2;
 import com.kickstarter.services.ApolloClientTypeV2;
 import com.kickstarter.services.KSApolloClientV2;
+import com.kickstarter.services.RequestLanes;
 
 import javax.inject.Singleton;
 
@@ -41,14 +42,15 @@ public final class ExternalApplicationModule {
   @Singleton
   @NonNull
   static ApiClientTypeV2 provideApiClientTypeV2(final @NonNull ApiServiceV2 apiService, final @NonNull Gson gson) {
-    return Secrets.IS_OSS ? new MockApiClientV2() : new ApiClientV2(apiService, gson);
+    return Secrets.IS_OSS || BuildConfig.MOCK_CLIENTS ? new MockApiClientV2() : new ApiClientV2(apiService, gson);
   }
 
 
   @Provides
   @Singleton
   @NonNull
-  static ApolloClientTypeV2 provideApolloClientTypeV2(final @NonNull ApolloClient apolloClient, final @NonNull Gson gson) {
-    return Secrets.IS_OSS ? new MockApolloClientV2() : new KSApolloClientV2(apolloClient, gson);
+  static ApolloClientTypeV2 provideApolloClientTypeV2(final @NonNull ApolloClient apolloClient, final @NonNull Gson gson,
+    final @NonNull RequestLanes requestLanes) {
+    return Secrets.IS_OSS || BuildConfig.MOCK_CLIENTS ? new MockApolloClientV2() : new KSApolloClientV2(apolloClient, gson, requestLanes);
   }
 }
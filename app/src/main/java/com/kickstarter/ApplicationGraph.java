@@ -2,6 +2,7 @@ package com.kickstarter;
 
 import com.kickstarter.libs.Environment;
 import com.kickstarter.libs.utils.ApplicationLifecycleUtil;
+import com.kickstarter.services.MutationOutboxWorker;
 import com.kickstarter.services.firebase.MessageService;
 import com.kickstarter.services.firebase.RegisterTokenWorker;
 import com.kickstarter.services.firebase.ResetDeviceIdWorker;
@@ -16,6 +17,7 @@ public interface ApplicationGraph {
   void inject(KSWebView __);
   void inject(KSApplication __);
   void inject(MessageService __);
+  void inject(MutationOutboxWorker __);
   void inject(RegisterTokenWorker __);
   void inject(ResetDeviceIdWorker __);
   void inject(UnregisterTokenWorker __);
@@ -14,12 +14,15 @@ import com.google.firebase.analytics.FirebaseAnalytics;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardsStore;
 import com.kickstarter.libs.ApiEndpoint;
 import com.kickstarter.libs.AttributionEvents;
 import com.kickstarter.libs.Build;
+import com.kickstarter.libs.CheckoutPrewarm;
 import com.kickstarter.libs.CurrentConfigV2;
 import com.kickstarter.libs.CurrentConfigTypeV2;
 import com.kickstarter.libs.CurrentUserTypeV2;
+import com.kickstarter.libs.DiscoverySnapshotStore;
 import com.kickstarter.libs.DateTimeTypeConverter;
 import com.kickstarter.libs.DeviceRegistrar;
 import com.kickstarter.libs.DeviceRegistrarType;
@@ -33,8 +36,11 @@ import com.kickstarter.libs.KSString;
 import com.kickstarter.libs.AnalyticEvents;
 import com.kickstarter.libs.CurrentUserV2;
 import com.kickstarter.libs.Logout;
+import com.kickstarter.libs.PersistentCookieStore;
+import com.kickstarter.libs.ProjectSearchIndex;
 import com.kickstarter.libs.PushNotifications;
 import com.kickstarter.libs.SegmentTrackingClient;
+import com.kickstarter.libs.SnapshotStore;
 import com.kickstarter.libs.TrackingClientType;
 import com.kickstarter.libs.braze.BrazeClient;
 import com.kickstarter.libs.braze.RemotePushClientType;
@@ -43,6 +49,7 @@ import com.kickstarter.libs.featureflag.FeatureFlagClientType;
 import com.kickstarter.libs.graphql.DateAdapter;
 import com.kickstarter.libs.graphql.DateTimeAdapter;
 import com.kickstarter.libs.graphql.Iso8601DateTimeAdapter;
+import com.kickstarter.libs.htmlparser.StoryViewElementsCache;
 import com.kickstarter.libs.keystore.EncryptionEngine;
 import com.kickstarter.libs.preferences.BooleanPreference;
 import com.kickstarter.libs.preferences.BooleanPreferenceType;
@@ -64,21 +71,30 @@ import com.kickstarter.libs.qualifiers.WebEndpoint;
 import com.kickstarter.libs.qualifiers.WebRetrofit;
 import com.kickstarter.libs.utils.PlayServicesCapability;
 import com.kickstarter.libs.utils.Secrets;
+import com.kickstarter.models.Update;
+import com.kickstarter.services.ActivityFeedRepository;
 import com.kickstarter.services.ApiClientTypeV2;
 import com.kickstarter.services.ApiServiceV2;
 import com.kickstarter.services.ApolloClientTypeV2;
 import com.kickstarter.services.KSWebViewClient;
+import com.kickstarter.services.MutationOutbox;
+import com.kickstarter.services.MutationOutboxWorker;
+import com.kickstarter.services.RequestLanes;
+import com.kickstarter.services.UpdatesRepository;
 import com.kickstarter.services.interceptors.ApiRequestInterceptor;
 import com.kickstarter.services.interceptors.GraphQLInterceptor;
 import com.kickstarter.services.interceptors.KSRequestInterceptor;
+import com.kickstarter.services.interceptors.RequestLaneInterceptor;
 import com.kickstarter.services.interceptors.WebRequestInterceptor;
 import com.kickstarter.type.Date;
 import com.kickstarter.ui.SharedPreferenceKey;
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase;
 import com.stripe.android.PaymentConfiguration;
 import com.stripe.android.Stripe;
 
 import org.joda.time.DateTime;
 
+import java.io.File;
 import java.net.CookieManager;
 import java.util.Arrays;
 import java.util.List;
@@ -91,6 +107,7 @@ import androidx.preference.PreferenceManager;
 import dagger.Module;
 import dagger.Provides;
 import io.reactivex.Scheduler;
+import kotlin.Unit;
 import okhttp3.CookieJar;
 import okhttp3.JavaNetCookieJar;
 import okhttp3.OkHttpClient;
@@ -132,7 +149,15 @@ public class ApplicationModule {
     final @NonNull Stripe stripe,
     final @NonNull @WebEndpoint String webEndpoint,
     final @NonNull FirebaseAnalyticsClientType firebaseAnalyticsClientType,
-    final @NonNull FeatureFlagClientType featureFlagClient) {
+    final @NonNull FeatureFlagClientType featureFlagClient,
+    final @NonNull DiscoverySnapshotStore discoverySnapshotStore,
+    final @NonNull SnapshotStore<ActivityFeedRepository.Feed> activityFeedSnapshots,
+    final @NonNull SnapshotStore<Update> updateSnapshots,
+    final @NonNull ProjectSearchIndex projectSearchIndex,
+    final @NonNull MutationOutbox mutationOutbox,
+    final @NonNull PPOCardsStore ppoCardsStore,
+    final @NonNull StoryViewElementsCache storyViewElementsCache,
+    final @NonNull CheckoutPrewarm checkoutPrewarm) {
 
     return Environment.builder()
       .activitySamplePreference(activitySamplePreference)
@@ -159,9 +184,87 @@ public class ApplicationModule {
       .webEndpoint(webEndpoint)
       .firebaseAnalyticsClient(firebaseAnalyticsClientType)
       .featureFlagClient(featureFlagClient)
+      .discoverySnapshotStore(discoverySnapshotStore)
+      .activityFeedSnapshots(activityFeedSnapshots)
+      .updateSnapshots(updateSnapshots)
+      .projectSearchIndex(projectSearchIndex)
+      .mutationOutbox(mutationOutbox)
+      .ppoCardsStore(ppoCardsStore)
+      .storyViewElementsCache(storyViewElementsCache)
+      .checkoutPrewarm(checkoutPrewarm)
       .build();
   }
 
+  @Provides
+  @Singleton
+  @NonNull
+  static ProjectSearchIndex provideProjectSearchIndex() {
+    return new ProjectSearchIndex();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static DiscoverySnapshotStore provideDiscoverySnapshotStore(final @ApplicationContext @NonNull Context context, final @NonNull Gson gson) {
+    return new DiscoverySnapshotStore(new File(context.getFilesDir(), "discovery_snapshots"), gson);
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static SnapshotStore<ActivityFeedRepository.Feed> provideActivityFeedSnapshots(final @ApplicationContext @NonNull Context context,
+    final @NonNull Gson gson) {
+    return new SnapshotStore<>(new File(context.getFilesDir(), "activity_feed_snapshots"), gson, ActivityFeedRepository.Feed.class);
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static SnapshotStore<Update> provideUpdateSnapshots(final @ApplicationContext @NonNull Context context, final @NonNull Gson gson) {
+    return new SnapshotStore<>(new File(context.getFilesDir(), "update_snapshots"), gson, Update.class,
+      SnapshotStore.MAX_AGE_MILLIS, UpdatesRepository.MAX_STORED_UPDATES);
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static RefreshUserUseCase provideRefreshUserUseCase(final @NonNull Environment environment) {
+    return RefreshUserUseCase.from(environment);
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static PPOCardsStore providePPOCardsStore(final @ApplicationContext @NonNull Context context, final @NonNull Gson gson) {
+    return new PPOCardsStore(
+      new SnapshotStore<>(new File(context.getFilesDir(), "pledged_projects_overview_snapshots"), gson, PPOCardsStore.Cards.class)
+    );
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static StoryViewElementsCache provideStoryViewElementsCache() {
+    return new StoryViewElementsCache();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static CheckoutPrewarm provideCheckoutPrewarm() {
+    return new CheckoutPrewarm();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static MutationOutbox provideMutationOutbox(final @ApplicationContext @NonNull Context context, final @NonNull Gson gson) {
+    return new MutationOutbox(new File(context.getFilesDir(), "mutation_outbox.json"), gson, () -> {
+      MutationOutboxWorker.schedule(context);
+      return Unit.INSTANCE;
+    });
+  }
+
   @Provides
   @Nonnull
   @Singleton
@@ -183,13 +286,29 @@ public class ApplicationModule {
     return new FeatureFlagClient(build);
   }
 
+  @Provides
+  @Singleton
+  @NonNull
+  static RequestLanes provideRequestLanes() {
+    return new RequestLanes();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static RequestLaneInterceptor provideRequestLaneInterceptor(final @NonNull RequestLanes requestLanes) {
+    return new RequestLaneInterceptor(requestLanes);
+  }
+
   @Provides
   @Singleton
   @NonNull
   static ApolloClient provideApolloClient(final @NonNull Build build, final @NonNull HttpLoggingInterceptor httpLoggingInterceptor,
-    final @NonNull GraphQLInterceptor graphQLInterceptor, @NonNull @WebEndpoint final String webEndpoint, final @NonNull KSRequestInterceptor ksRequestInterceptor) {
+    final @NonNull GraphQLInterceptor graphQLInterceptor, @NonNull @WebEndpoint final String webEndpoint, final @NonNull KSRequestInterceptor ksRequestInterceptor,
+    final @NonNull RequestLaneInterceptor requestLaneInterceptor) {
 
     final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+      .addInterceptor(requestLaneInterceptor)
       .addInterceptor(graphQLInterceptor)
       .addInterceptor(ksRequestInterceptor);
 
@@ -214,9 +333,11 @@ public class ApplicationModule {
   @NonNull
   static OkHttpClient provideOkHttpClient(final @NonNull ApiRequestInterceptor apiRequestInterceptor, final @NonNull CookieJar cookieJar,
     final @NonNull HttpLoggingInterceptor httpLoggingInterceptor, final @NonNull KSRequestInterceptor ksRequestInterceptor,
-    final @NonNull Build build, final @NonNull WebRequestInterceptor webRequestInterceptor) {
+    final @NonNull Build build, final @NonNull WebRequestInterceptor webRequestInterceptor,
+    final @NonNull RequestLaneInterceptor requestLaneInterceptor) {
 
-    final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+      .addInterceptor(requestLaneInterceptor);
 
     // Only log in debug mode to avoid leaking sensitive information.
     if (build.isDebug()) {
@@ -402,8 +523,9 @@ public class ApplicationModule {
   @Provides
   @Singleton
   static AttributionEvents provideAttributionEvents(
-    final @NonNull ApolloClientTypeV2 apolloClient) {
-    return new AttributionEvents(apolloClient);
+    final @NonNull ApolloClientTypeV2 apolloClient,
+    final @NonNull MutationOutbox mutationOutbox) {
+    return new AttributionEvents(apolloClient, mutationOutbox);
   }
 
   @Provides
@@ -448,8 +570,8 @@ public class ApplicationModule {
 
   @Provides
   @Singleton
-  static CookieManager provideCookieManager() {
-    return new CookieManager();
+  static CookieManager provideCookieManager(final @ApplicationContext @NonNull Context context, final @NonNull Gson gson) {
+    return new CookieManager(new PersistentCookieStore(new File(context.getFilesDir(), "cookies.json"), gson), null);
   }
 
   @Provides
@@ -523,16 +645,20 @@ public class ApplicationModule {
 
   @Provides
   @Singleton
-  static Logout provideLogout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserTypeV2 currentUser, final @NonNull CurrentUserTypeV2 currentUserV2) {
-    return new Logout(cookieManager, currentUserV2);
+  static Logout provideLogout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserTypeV2 currentUser, final @NonNull CurrentUserTypeV2 currentUserV2,
+    final @NonNull DiscoverySnapshotStore discoverySnapshotStore, final @NonNull ProjectSearchIndex projectSearchIndex,
+    final @NonNull MutationOutbox mutationOutbox, final @NonNull PPOCardsStore ppoCardsStore,
+    final @NonNull SnapshotStore<ActivityFeedRepository.Feed> activityFeedSnapshots, final @NonNull SnapshotStore<Update> updateSnapshots) {
+    return new Logout(cookieManager, currentUserV2, discoverySnapshotStore, projectSearchIndex, mutationOutbox, ppoCardsStore,
+      activityFeedSnapshots, updateSnapshots);
   }
 
   @Provides
   @Singleton
   @NonNull
   static PushNotifications providePushNotifications(final @ApplicationContext @NonNull Context context,
-    final @NonNull ApiClientTypeV2 client) {
-    return new PushNotifications(context, client);
+    final @NonNull ApiClientTypeV2 client, final @NonNull PPOCardsStore ppoCardsStore) {
+    return new PushNotifications(context, client, ppoCardsStore);
   }
 
   @Provides
@@ -3,14 +3,22 @@ package com.kickstarter;
 import android.text.TextUtils;
 
 import com.google.firebase.crashlytics.FirebaseCrashlytics;
+import com.google.gson.Gson;
 import com.kickstarter.libs.ApiEndpoint;
+import com.kickstarter.libs.CurrentConfigTypeV2;
 import com.kickstarter.libs.FirebaseHelper;
 import com.kickstarter.libs.PushNotifications;
 import com.kickstarter.libs.SegmentTrackingClient;
 import com.kickstarter.libs.braze.RemotePushClientType;
 import com.kickstarter.libs.featureflag.FeatureFlagClientType;
+import com.kickstarter.libs.startup.StartupOrchestrator;
+import com.kickstarter.libs.startup.StartupStage;
+import com.kickstarter.libs.startup.StartupStep;
+import com.kickstarter.libs.startup.StartupTrace;
 import com.kickstarter.libs.utils.ApplicationLifecycleUtil;
 import com.kickstarter.libs.utils.Secrets;
+import com.kickstarter.services.GsonAdapterPrewarmer;
+import com.kickstarter.services.MutationOutbox;
 
 import org.joda.time.DateTime;
 
@@ -18,6 +26,9 @@ import java.net.CookieHandler;
 import java.net.CookieManager;
 import java.net.HttpCookie;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -26,18 +37,26 @@ import androidx.annotation.CallSuper;
 import androidx.multidex.MultiDex;
 import androidx.multidex.MultiDexApplication;
 
+import kotlin.Unit;
+
+import io.reactivex.disposables.Disposable;
 import io.reactivex.exceptions.UndeliverableException;
 import io.reactivex.plugins.RxJavaPlugins;
 import timber.log.Timber;
 
 public class KSApplication extends MultiDexApplication implements IKSApplicationComponent {
   private ApplicationComponent component;
+  private final StartupTrace startupTrace = new StartupTrace();
   @Inject protected CookieManager cookieManager;
   @Inject protected PushNotifications pushNotifications;
   @Inject protected RemotePushClientType remotePushClientType;
   @Inject protected SegmentTrackingClient segmentTrackingClient;
 
   @Inject protected FeatureFlagClientType ffClient;
+  @Inject protected CurrentConfigTypeV2 currentConfig;
+  @Inject protected Gson gson;
+  @Inject protected MutationOutbox mutationOutbox;
+  private Disposable configFeaturesSubscription;
 
   @Override
   @CallSuper
@@ -60,35 +79,82 @@ public class KSApplication extends MultiDexApplication implements IKSApplication
   }
 
   private void initApplication() {
-    MultiDex.install(this);
+    new StartupOrchestrator(applicationSteps(), this.startupTrace).start();
+  }
 
-    // Only log for internal builds
-    if (BuildConfig.FLAVOR.equals("internal")) {
-      Timber.plant(new Timber.DebugTree());
-    }
+  /**
+   * Steps run from `onCreate`, Firebase initialization will trigger `dependenciesSteps` once
+   * the installation identifier is available.
+   */
+  protected List<StartupStep> applicationSteps() {
+    return Arrays.asList(
+      step("multidex", StartupStage.EAGER, Collections.emptyList(), () -> MultiDex.install(this)),
+      step("timber", StartupStage.EAGER, Collections.emptyList(), () -> {
+        // Only log for internal builds
+        if (BuildConfig.FLAVOR.equals("internal")) {
+          Timber.plant(new Timber.DebugTree());
+        }
+      }),
+      step("rxErrorHandler", StartupStage.EAGER, Collections.emptyList(), this::createErrorHandler),
+      step("firebase", StartupStage.EAGER, Arrays.asList("multidex", "rxErrorHandler"), () ->
+        FirebaseHelper.initialize(getApplicationContext(), this.ffClient, this::initializeDependencies)
+      ),
+      // - Builds Gson's reflective adapters for the REST envelopes before the first responses arrive
+      step("gsonAdapters", StartupStage.BACKGROUND, Collections.emptyList(), () -> GsonAdapterPrewarmer.prewarm(this.gson)),
+      // - Sends the mutations a previous process queued and could not send
+      step("mutationOutbox", StartupStage.BACKGROUND, Collections.emptyList(), this.mutationOutbox::drainIfPending),
+      // - Keeps the feature flag snapshot in sync with the flags coming with the config, for the whole process
+      step("configFeatureFlags", StartupStage.BACKGROUND, Collections.emptyList(), () ->
+        this.configFeaturesSubscription = this.currentConfig.observable()
+          .subscribe(config -> this.ffClient.updateConfigFeatures(config.features()))
+      )
+    );
+  }
 
-    createErrorHandler();
-    FirebaseHelper.initialize(getApplicationContext(), this.ffClient, this::initializeDependencies);
+  /**
+   * Steps depending on the Firebase installation identifier. Only the ones needed before the
+   * first activity is displayed run eagerly, the rest is deferred.
+   */
+  protected List<StartupStep> dependenciesSteps() {
+    return Arrays.asList(
+      // - Every request carries the visitor cookie, including the first ones
+      step("visitorCookie", StartupStage.EAGER, Collections.emptyList(), this::setVisitorCookie),
+      // - Push messages received on a cold start are emitted right after onCreate, the subscriptions must exist
+      step("pushNotifications", StartupStage.EAGER, Collections.emptyList(), this.pushNotifications::initialize),
+      // - Refreshes the config and user when the first activity resumes, so it must see it
+      step("lifecycleCallbacks", StartupStage.EAGER, Collections.emptyList(), () -> {
+        final ApplicationLifecycleUtil appUtil = new ApplicationLifecycleUtil(this);
+        registerActivityLifecycleCallbacks(appUtil);
+        registerComponentCallbacks(appUtil);
+      }),
+      // - Builds the Segment SDK once the first frame is drawn, with the config already emitted by then
+      step("segment", StartupStage.IDLE, Collections.emptyList(), () -> {
+        if (this.segmentTrackingClient != null) {
+          this.segmentTrackingClient.initialize();
+        }
+      }),
+      // - Braze opens its session when the first activity starts, registering the callbacks only adds a listener
+      step("brazeLifecycleCallbacks", StartupStage.EAGER, Collections.emptyList(), () ->
+        this.remotePushClientType.registerActivityLifecycleCallbacks(this)
+      )
+    );
   }
 
   //- Returns Boolean because incompatible Java "void" type with kotlin "Void" type for the lambda declaration
   private boolean initializeDependencies() {
-    setVisitorCookie();
-    this.pushNotifications.initialize();
-
-    final ApplicationLifecycleUtil appUtil = new ApplicationLifecycleUtil(this);
-    registerActivityLifecycleCallbacks(appUtil);
-    registerComponentCallbacks(appUtil);
-
-    // - Initialize Segment SDK
-    if (this.segmentTrackingClient != null) {
-      this.segmentTrackingClient.initialize();
-    }
+    new StartupOrchestrator(dependenciesSteps(), this.startupTrace).start();
+    return true;
+  }
 
-    // - Register lifecycle callback for Braze
-    this.remotePushClientType.registerActivityLifecycleCallbacks(this);
+  public StartupTrace startupTrace() {
+    return this.startupTrace;
+  }
 
-    return true;
+  private static StartupStep step(final String name, final StartupStage stage, final List<String> dependsOn, final Runnable action) {
+    return new StartupStep(name, stage, dependsOn, () -> {
+      action.run();
+      return Unit.INSTANCE;
+    });
   }
 
   public ApplicationComponent component() {
@@ -0,0 +1,163 @@
+package com.kickstarter.features.pledgedprojectsoverview.data
+
+import androidx.paging.PagingSource
+import androidx.paging.PagingState
+import com.kickstarter.libs.SnapshotStore
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import kotlinx.coroutines.flow.MutableStateFlow
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * Local store of the pledged projects overview: the cards loaded so far, the cursor of the next page and the alert
+ * count. The `PledgedProjectsRemoteMediator` writes the pages fetched into it and the screen pages through
+ * [pagingSource], so the cards of the last visit are displayed at once.
+ *
+ * The cards are kept in the [snapshotStore], which is cleared on logout. They are refreshed from the network once
+ * older than [maxAgeMillis], or once [invalidate]d, like when a pledge related push is received.
+ */
+class PPOCardsStore @JvmOverloads constructor(
+    private val snapshotStore: SnapshotStore<Cards>?,
+    private val maxAgeMillis: Long = MAX_AGE_MILLIS,
+    private val clock: () -> Long = { System.currentTimeMillis() },
+    private val diskScheduler: Scheduler = Schedulers.io()
+) {
+
+    /**
+     * @param nextCursor null once every page was loaded
+     * @param isStale true when the cards should be refreshed before being trusted
+     */
+    data class Cards(
+        val cards: List<PPOCard> = emptyList(),
+        val nextCursor: String? = null,
+        val totalAlerts: Int = 0,
+        val isStale: Boolean = false
+    )
+
+    /**
+     * Alert count of the last page loaded, the network page loader emits into it.
+     */
+    val totalAlerts = MutableStateFlow(0)
+
+    private var cards: Cards? = null
+    private var savedAtMillis: Long? = null
+    private var isInvalidated = false
+    private val pagingSources = CopyOnWriteArrayList<PagingSource<Int, PPOCard>>()
+
+    /**
+     * @return the cards stored, read from disk the first time
+     */
+    @Synchronized
+    fun cards(): Cards {
+        cards?.let { return it }
+
+        val snapshot = snapshotStore?.read(CARDS_KEY)
+        savedAtMillis = snapshot?.savedAtMillis
+        return (snapshot?.data ?: Cards()).also {
+            cards = it
+            totalAlerts.value = it.totalAlerts
+        }
+    }
+
+    /**
+     * @return true when there are no stored cards, or they are too old or invalidated
+     */
+    @Synchronized
+    fun needsRefresh(): Boolean {
+        val stored = cards()
+        val savedAt = savedAtMillis ?: return true
+        return isInvalidated || stored.isStale || clock() - savedAt > maxAgeMillis
+    }
+
+    /**
+     * Replaces the stored cards with the first page fetched.
+     */
+    fun replace(cards: List<PPOCard>, nextCursor: String?) = synchronized(this) {
+        isInvalidated = false
+        write(Cards(cards, nextCursor, totalAlerts.value))
+    }
+
+    /**
+     * Adds the next page fetched after the stored cards.
+     */
+    fun append(cards: List<PPOCard>, nextCursor: String?) = synchronized(this) {
+        write(cards().let { it.copy(cards = it.cards + cards, nextCursor = nextCursor, totalAlerts = totalAlerts.value) })
+    }
+
+    /**
+     * Marks the stored cards as outdated, they are still displayed while the next visit refreshes them.
+     */
+    @Synchronized
+    fun invalidate() {
+        isInvalidated = true
+        diskScheduler.scheduleDirect {
+            synchronized(this) {
+                if (isInvalidated) snapshotStore?.write(CARDS_KEY, cards().copy(isStale = true))
+            }
+        }
+    }
+
+    /**
+     * Forgets the cards of the user logging out, along with their snapshot.
+     */
+    @Synchronized
+    fun clear() {
+        snapshotStore?.clear()
+        cards = null
+        savedAtMillis = null
+        isInvalidated = false
+        totalAlerts.value = 0
+        invalidatePagingSources()
+    }
+
+    /**
+     * @return a new source paging through the stored cards, invalidated whenever they change
+     */
+    fun pagingSource(): PagingSource<Int, PPOCard> =
+        PPOCardsPagingSource(this).also { source ->
+            pagingSources.add(source)
+            source.registerInvalidatedCallback { pagingSources.remove(source) }
+        }
+
+    private fun write(updated: Cards) {
+        cards = updated
+        savedAtMillis = clock()
+        snapshotStore?.write(CARDS_KEY, updated)
+        invalidatePagingSources()
+    }
+
+    private fun invalidatePagingSources() = pagingSources.forEach { it.invalidate() }
+
+    /**
+     * Pages through the stored cards, keyed by position.
+     */
+    private class PPOCardsPagingSource(private val store: PPOCardsStore) : PagingSource<Int, PPOCard>() {
+
+        override val jumpingSupported = true
+
+        override fun getRefreshKey(state: PagingState<Int, PPOCard>): Int? =
+            state.anchorPosition?.let { maxOf(0, it - state.config.initialLoadSize / 2) }
+
+        override suspend fun load(params: LoadParams<Int>): LoadResult<Int, PPOCard> {
+            val cards = store.cards().cards
+            val key = (params.key ?: 0).coerceIn(0, cards.size)
+
+            // - The key of a prepend is the position of the first card already loaded
+            val start = if (params is LoadParams.Prepend) maxOf(0, key - params.loadSize) else key
+            val end = if (params is LoadParams.Prepend) key else minOf(cards.size, key + params.loadSize)
+
+            return LoadResult.Page(
+                data = cards.subList(start, end),
+                prevKey = if (start > 0) start else null,
+                nextKey = if (end < cards.size) end else null,
+                itemsBefore = start,
+                itemsAfter = cards.size - end
+            )
+        }
+    }
+
+    companion object {
+        const val MAX_AGE_MILLIS = 60L * 60 * 1000
+        private const val CARDS_KEY = "cards"
+    }
+}
@@ -85,7 +85,8 @@ class PledgedProjectsOverviewActivity : AppCompatActivity() {
 
                 val isLoading =
                     ppoUIState.isLoading || ppoCardPagingSource.loadState.append is LoadState.Loading || ppoCardPagingSource.loadState.refresh is LoadState.Loading
-                val isErrored = ppoUIState.isErrored || ppoCardPagingSource.loadState.hasError
+                // - The stored cards stay displayed when refreshing them fails
+                val isErrored = ppoUIState.isErrored || (ppoCardPagingSource.loadState.hasError && ppoCardPagingSource.itemCount == 0)
                 val showEmptyState =
                     ppoCardPagingSource.loadState.refresh is LoadState.NotLoading && ppoCardPagingSource.itemCount == 0
 
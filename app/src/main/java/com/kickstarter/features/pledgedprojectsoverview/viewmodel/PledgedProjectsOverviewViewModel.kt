@@ -4,13 +4,17 @@ import androidx.compose.material.SnackbarDuration
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import androidx.lifecycle.viewModelScope
+import androidx.paging.ExperimentalPagingApi
+import androidx.paging.LoadType
 import androidx.paging.Pager
 import androidx.paging.PagingConfig
 import androidx.paging.PagingData
 import androidx.paging.PagingSource
 import androidx.paging.PagingState
+import androidx.paging.RemoteMediator
 import com.kickstarter.R
 import com.kickstarter.features.pledgedprojectsoverview.data.PPOCard
+import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardsStore
 import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOverviewQueryData
 import com.kickstarter.libs.AnalyticEvents
 import com.kickstarter.libs.Environment
@@ -84,6 +88,52 @@ class PledgedProjectsPagingSource(
     }
 }
 
+/**
+ * Fetches the pages of pledged projects through [networkSource] into the [store] the screen pages through, the stored
+ * cards are displayed at once and only refreshed when [PPOCardsStore.needsRefresh].
+ */
+@OptIn(ExperimentalPagingApi::class)
+class PledgedProjectsRemoteMediator(
+    private val store: PPOCardsStore,
+    private val networkSource: PledgedProjectsPagingSource,
+    private val analyticEvents: AnalyticEvents,
+    private val limit: Int = PAGE_LIMIT,
+) : RemoteMediator<Int, PPOCard>() {
+
+    override suspend fun initialize(): InitializeAction {
+        if (store.needsRefresh()) return InitializeAction.LAUNCH_INITIAL_REFRESH
+
+        // - The network source tracks the page viewed when it loads
+        val cards = store.cards()
+        analyticEvents.trackPledgedProjectsOverviewPageViewed(cards.cards, cards.totalAlerts)
+        return InitializeAction.SKIP_INITIAL_REFRESH
+    }
+
+    override suspend fun load(loadType: LoadType, state: PagingState<Int, PPOCard>): MediatorResult {
+        val params = when (loadType) {
+            LoadType.REFRESH -> PagingSource.LoadParams.Refresh("", limit, false)
+            LoadType.PREPEND -> return MediatorResult.Success(endOfPaginationReached = true)
+            LoadType.APPEND -> {
+                val cursor = store.cards().nextCursor ?: return MediatorResult.Success(endOfPaginationReached = true)
+                PagingSource.LoadParams.Append(cursor, limit, false)
+            }
+        }
+
+        return when (val result = networkSource.load(params)) {
+            is PagingSource.LoadResult.Page -> {
+                if (loadType == LoadType.REFRESH) {
+                    store.replace(result.data, result.nextKey)
+                } else {
+                    store.append(result.data, result.nextKey)
+                }
+                MediatorResult.Success(endOfPaginationReached = result.nextKey == null)
+            }
+            is PagingSource.LoadResult.Error -> MediatorResult.Error(result.throwable)
+            is PagingSource.LoadResult.Invalid -> MediatorResult.Error(IllegalStateException("Invalid pledged projects page"))
+        }
+    }
+}
+
 data class PledgedProjectsOverviewUIState(
     val isLoading: Boolean = false,
     val isErrored: Boolean = false,
@@ -99,8 +149,8 @@ class PledgedProjectsOverviewViewModel(
     private val apolloClient = requireNotNull(environment.apolloClientV2())
     private val analyticEvents = requireNotNull(environment.analytics())
 
-    private val mutableTotalAlerts = MutableStateFlow<Int>(0)
-    val totalAlertsState = mutableTotalAlerts.asStateFlow()
+    private val ppoCardsStore = requireNotNull(environment.ppoCardsStore())
+    val totalAlertsState = ppoCardsStore.totalAlerts.asStateFlow()
 
     private val mutablePPOUIState = MutableStateFlow(PledgedProjectsOverviewUIState())
     val ppoCardsState: StateFlow<PagingData<PPOCard>> = mutablePpoCards.asStateFlow()
@@ -109,7 +159,7 @@ class PledgedProjectsOverviewViewModel(
     val paymentRequiresAction: SharedFlow<String>
         get() = mutablePaymentRequiresAction.asSharedFlow()
 
-    private var pagingSource = PledgedProjectsPagingSource(apolloClient = apolloClient, analyticEvents = analyticEvents, totalAlerts = mutableTotalAlerts, limit = PAGE_LIMIT)
+    private val networkSource = PledgedProjectsPagingSource(apolloClient = apolloClient, analyticEvents = analyticEvents, totalAlerts = ppoCardsStore.totalAlerts, limit = PAGE_LIMIT)
 
     val ppoUIState: StateFlow<PledgedProjectsOverviewUIState>
         get() = mutablePPOUIState
@@ -129,21 +179,27 @@ class PledgedProjectsOverviewViewModel(
             )
 
     init {
-        getPledgedProjects()
+        getPledgedProjects(forceRefresh = false)
     }
 
-    fun getPledgedProjects() {
+    /**
+     * @param forceRefresh false to display the stored cards without refreshing them when they are recent enough
+     */
+    @OptIn(ExperimentalPagingApi::class)
+    fun getPledgedProjects(forceRefresh: Boolean = true) {
+        if (forceRefresh) ppoCardsStore.invalidate()
+
         viewModelScope.launch(ioDispatcher) {
             try {
                 Pager(
-                    PagingConfig(
+                    config = PagingConfig(
                         pageSize = PAGE_LIMIT,
                         prefetchDistance = 3,
                         enablePlaceholders = true,
-                    )
-                ) {
-                    pagingSource
-                }
+                    ),
+                    remoteMediator = PledgedProjectsRemoteMediator(ppoCardsStore, networkSource, analyticEvents),
+                    pagingSourceFactory = { ppoCardsStore.pagingSource() }
+                )
                     .flow
                     .onStart {
                         emitCurrentState(isLoading = true)
@@ -7,6 +7,7 @@ import com.kickstarter.libs.utils.EventContextValues
 import com.kickstarter.libs.utils.EventName
 import com.kickstarter.models.Project
 import com.kickstarter.services.ApolloClientTypeV2
+import com.kickstarter.services.MutationOutbox
 import com.kickstarter.services.mutations.CreateAttributionEventData
 import com.kickstarter.services.transformers.encodeRelayId
 import com.kickstarter.ui.data.ProjectData
@@ -16,9 +17,12 @@ import timber.log.Timber
  * Similar to the [AnalyticEvents] class but specifically for sending attribution events to KSR
  * event attribution backend.
  *
+ * When a [mutationOutbox] is provided the events are queued in it, so they are sent in batches and
+ * are not lost while offline.
  */
 class AttributionEvents(
-    val apolloClient: ApolloClientTypeV2
+    val apolloClient: ApolloClientTypeV2,
+    private val mutationOutbox: MutationOutbox? = null
 ) {
     /**
      * Sends data to the backend for event attribution when the projects screen is loaded.
@@ -40,6 +44,12 @@ class AttributionEvents(
             eventProperties = eventProperties,
             projectId = encodeRelayId(project)
         )
+
+        mutationOutbox?.let {
+            it.enqueueAttributionEvent(attributionEventData)
+            return
+        }
+
         createAttributionEvent(attributionEventData)
             .subscribe {
                 Timber.tag("Event Attribution").d("Project page viewed sent to backend: %s", it)
@@ -0,0 +1,71 @@
+package com.kickstarter.libs
+
+import com.kickstarter.models.StoredCard
+import io.reactivex.Observable
+import io.reactivex.disposables.Disposable
+import timber.log.Timber
+
+/**
+ * Checkout data fetched ahead of the checkout screen: the stored cards of the user are requested as soon as a reward
+ * is selected, while the user goes through the add-ons, so the checkout displays them without waiting on the request.
+ *
+ * The setup and payment intents are still created by the checkout, on demand. A prewarm is only handed once, to the
+ * user it was started for, and is dropped once older than [maxAgeMillis] or [discard]ed when the flow is abandoned.
+ * A dropped prewarm which was never handed cancels its request.
+ */
+class CheckoutPrewarm @JvmOverloads constructor(
+    private val maxAgeMillis: Long = MAX_AGE_MILLIS,
+    private val clock: () -> Long = { System.currentTimeMillis() }
+) {
+
+    private class Prewarm(
+        val userId: Long,
+        val startedAtMillis: Long,
+        val storedCards: Observable<List<StoredCard>>,
+        val request: Disposable
+    )
+
+    private var prewarm: Prewarm? = null
+
+    /**
+     * Starts fetching the stored cards of the user [userId] with [request], unless a recent prewarm for them exists.
+     */
+    @Synchronized
+    fun start(userId: Long, request: Observable<List<StoredCard>>) {
+        prewarm?.let { if (it.userId == userId && !it.isExpired()) return }
+
+        prewarm?.request?.dispose()
+        // - Unlike cache(), the connection of a replay can be disposed, cancelling the request
+        var connection: Disposable? = null
+        val storedCards = request.take(1).replay(1).autoConnect(1) { connection = it }
+        storedCards.subscribe({}, { Timber.w(it, "Unable to prewarm the stored cards") })
+        prewarm = Prewarm(userId, clock(), storedCards, requireNotNull(connection))
+    }
+
+    /**
+     * @return the stored cards prewarmed for the user [userId], null if there is no usable prewarm. The prewarm is
+     * consumed either way.
+     */
+    @Synchronized
+    fun storedCards(userId: Long): Observable<List<StoredCard>>? {
+        val current = prewarm ?: return null
+        prewarm = null
+        if (current.userId != userId || current.isExpired()) {
+            current.request.dispose()
+            return null
+        }
+        return current.storedCards
+    }
+
+    @Synchronized
+    fun discard() {
+        prewarm?.request?.dispose()
+        prewarm = null
+    }
+
+    private fun Prewarm.isExpired() = clock() - startedAtMillis > maxAgeMillis
+
+    companion object {
+        const val MAX_AGE_MILLIS = 5L * 60 * 1000
+    }
+}
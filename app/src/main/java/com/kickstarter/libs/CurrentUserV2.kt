@@ -34,6 +34,9 @@ abstract class CurrentUserTypeV2 {
 
     /**
      * Updates the persisted current user with a fresh, new user.
+     *
+     * A user identical to the persisted one, once serialized, is neither emitted nor written again: [observable]
+     * only emits actual changes of the current user.
      */
     abstract fun refresh(freshUser: User)
 
@@ -135,8 +138,15 @@ class CurrentUserV2(
     }
 
     override fun refresh(freshUser: User) {
+        val json = gson.toJson(freshUser, User::class.java)
+        // - Most refreshes fetch the same user again, no need to emit it nor to write it down
+        if (json == userPreference.get() && getUser() != null) {
+            Timber.d("${this.javaClass} Refresh current user, unchanged")
+            return
+        }
+
         user.onNext(KsOptional.of(freshUser))
-        userPreference.set(gson.toJson(freshUser, User::class.java))
+        userPreference.set(json)
         Timber.d("${this.javaClass} Refresh current user")
     }
 
@@ -1,28 +1,39 @@
 package com.kickstarter.libs;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 import org.joda.time.DateTime;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
-public class DateTimeTypeConverter implements JsonSerializer<DateTime>, JsonDeserializer<DateTime> {
+/**
+ * Streaming adapter for timestamps in seconds, reads straight from the {@link JsonReader}
+ * instead of building an intermediate `JsonElement` for every date of a response.
+ */
+public class DateTimeTypeConverter extends TypeAdapter<DateTime> {
   @Override
-  public JsonElement serialize(final @NonNull DateTime src, final @NonNull Type srcType,
-    final @NonNull JsonSerializationContext context) {
-    return new JsonPrimitive(src.getMillis() / 1000);
+  public void write(final @NonNull JsonWriter out, final @Nullable DateTime value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+    out.value(value.getMillis() / 1000);
   }
 
   @Override
-  public DateTime deserialize(final @NonNull JsonElement json, final @NonNull Type type,
-    final @NonNull JsonDeserializationContext context) {
-    return new DateTime(json.getAsInt() * 1000L);
+  public @Nullable DateTime read(final @NonNull JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    // - Fractional seconds are truncated, as JsonElement.getAsInt did. nextLong also accepts numeric strings
+    final long seconds = in.peek() == JsonToken.NUMBER ? (long) in.nextDouble() : in.nextLong();
+    return new DateTime(seconds * 1000L);
   }
 }
@@ -0,0 +1,79 @@
+package com.kickstarter.libs
+
+import com.google.gson.Gson
+import com.google.gson.reflect.TypeToken
+import com.kickstarter.libs.SnapshotStore.Snapshot
+import com.kickstarter.models.Category
+import com.kickstarter.models.Project
+import com.kickstarter.services.DiscoveryParams
+import java.io.File
+
+/**
+ * Disk snapshot of the first page of each discovery sort tab and of the categories, displayed at cold start while
+ * the network refresh runs, and while offline. Each of them is kept in its own [SnapshotStore] under [directory].
+ */
+class DiscoverySnapshotStore @JvmOverloads constructor(
+    directory: File,
+    gson: Gson,
+    maxAgeMillis: Long = SnapshotStore.MAX_AGE_MILLIS,
+    clock: () -> Long = { System.currentTimeMillis() }
+) {
+
+    private val projectSnapshots = SnapshotStore<List<Project>>(File(directory, "projects"), gson, projectsType, maxAgeMillis, clock = clock)
+    private val categorySnapshots = SnapshotStore<List<Category>>(File(directory, "categories"), gson, categoriesType, maxAgeMillis, clock = clock)
+
+    /**
+     * @return the snapshot of the first page for [params], null if [params] are not the ones of a sort tab or
+     * there is no usable snapshot
+     */
+    fun projects(params: DiscoveryParams): Snapshot<List<Project>>? =
+        key(params)?.let { projectSnapshots.read(it) }
+
+    fun saveProjects(params: DiscoveryParams, projects: List<Project>) {
+        val key = key(params) ?: return
+        if (projects.isNotEmpty()) projectSnapshots.write(key, projects)
+    }
+
+    fun categories(): Snapshot<List<Category>>? = categorySnapshots.read(CATEGORIES_KEY)
+
+    fun saveCategories(categories: List<Category>) {
+        if (categories.isNotEmpty()) categorySnapshots.write(CATEGORIES_KEY, categories)
+    }
+
+    /**
+     * Deletes every snapshot, the recommended tabs are specific to the logged in user.
+     */
+    fun clear() {
+        projectSnapshots.clear()
+        categorySnapshots.clear()
+    }
+
+    companion object {
+        private const val CATEGORIES_KEY = "categories"
+
+        private val projectsType = object : TypeToken<List<Project>>() {}.type
+        private val categoriesType = object : TypeToken<List<Category>>() {}.type
+
+        /**
+         * Only the first page of the sort tabs is kept, filtered or searched feeds are not.
+         *
+         * @return the snapshot file name for [params], null if they are not the ones of a sort tab
+         */
+        @JvmStatic
+        fun key(params: DiscoveryParams): String? {
+            val isSortTab = params.category() == null && params.categoryParam() == null &&
+                params.location() == null && params.locationParam() == null &&
+                params.term() == null && params.similarTo() == null && params.tagId() == null &&
+                params.pledged() == null && params.starred() == null && params.social() == null &&
+                params.staffPicks() == null && params.state() == null &&
+                (params.backed() == null || params.recommended() == true) &&
+                (params.page() == null || params.page() == 1)
+
+            if (!isSortTab) return null
+
+            val sort = params.sort() ?: DiscoveryParams.Sort.MAGIC
+            val isRecommended = params.recommended() == true
+            return "projects_${sort.name.lowercase()}" + if (isRecommended) "_recommended" else ""
+        }
+    }
+}
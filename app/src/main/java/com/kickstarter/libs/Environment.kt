@@ -2,12 +2,18 @@ package com.kickstarter.libs
 
 import android.content.SharedPreferences
 import com.google.gson.Gson
+import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardsStore
 import com.kickstarter.libs.featureflag.FeatureFlagClientType
+import com.kickstarter.libs.htmlparser.StoryViewElementsCache
 import com.kickstarter.libs.preferences.BooleanPreferenceType
 import com.kickstarter.libs.preferences.IntPreferenceType
 import com.kickstarter.libs.utils.PlayServicesCapability
+import com.kickstarter.models.Update
+import com.kickstarter.services.ActivityFeedRepository
 import com.kickstarter.services.ApiClientTypeV2
 import com.kickstarter.services.ApolloClientTypeV2
+import com.kickstarter.services.MutationOutbox
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
 import com.stripe.android.Stripe
 import java.net.CookieManager
 
@@ -35,8 +41,19 @@ class Environment private constructor(
     private val stripe: Stripe?,
     private val webEndpoint: String,
     private val firebaseAnalyticsClient: FirebaseAnalyticsClientType?,
-    private val featureFlagClient: FeatureFlagClientType?
+    private val featureFlagClient: FeatureFlagClientType?,
+    private val discoverySnapshotStore: DiscoverySnapshotStore?,
+    private val activityFeedSnapshots: SnapshotStore<ActivityFeedRepository.Feed>?,
+    private val updateSnapshots: SnapshotStore<Update>?,
+    private val projectSearchIndex: ProjectSearchIndex?,
+    private val mutationOutbox: MutationOutbox?,
+    private val ppoCardsStore: PPOCardsStore?,
+    private val storyViewElementsCache: StoryViewElementsCache?,
+    private val checkoutPrewarm: CheckoutPrewarm?
 ) {
+    // - Shared by every screen of this environment, it fetches with its api client and refreshes its current user
+    private val refreshUserUseCase = currentUserV2?.let { RefreshUserUseCase(apiClientV2, it) }
+
     fun activitySamplePreference() = this.activitySamplePreference
     fun apiClientV2() = this.apiClientV2
     fun apolloClientV2() = this.apolloClientV2
@@ -61,6 +78,15 @@ class Environment private constructor(
     fun webEndpoint() = this.webEndpoint
     fun firebaseAnalyticsClient() = this.firebaseAnalyticsClient
     fun featureFlagClient() = this.featureFlagClient
+    fun discoverySnapshotStore() = this.discoverySnapshotStore
+    fun activityFeedSnapshots() = this.activityFeedSnapshots
+    fun updateSnapshots() = this.updateSnapshots
+    fun projectSearchIndex() = this.projectSearchIndex
+    fun mutationOutbox() = this.mutationOutbox
+    fun refreshUserUseCase() = this.refreshUserUseCase
+    fun ppoCardsStore() = this.ppoCardsStore
+    fun storyViewElementsCache() = this.storyViewElementsCache
+    fun checkoutPrewarm() = this.checkoutPrewarm
 
     data class Builder(
         private var activitySamplePreference: IntPreferenceType? = null,
@@ -86,7 +112,15 @@ class Environment private constructor(
         private var stripe: Stripe? = null,
         private var webEndpoint: String = "",
         private var firebaseAnalyticsClient: FirebaseAnalyticsClientType? = null,
-        private var featureFlagClient: FeatureFlagClientType? = null
+        private var featureFlagClient: FeatureFlagClientType? = null,
+        private var discoverySnapshotStore: DiscoverySnapshotStore? = null,
+        private var activityFeedSnapshots: SnapshotStore<ActivityFeedRepository.Feed>? = null,
+        private var updateSnapshots: SnapshotStore<Update>? = null,
+        private var projectSearchIndex: ProjectSearchIndex? = null,
+        private var mutationOutbox: MutationOutbox? = null,
+        private var ppoCardsStore: PPOCardsStore? = null,
+        private var storyViewElementsCache: StoryViewElementsCache? = null,
+        private var checkoutPrewarm: CheckoutPrewarm? = null
     ) {
         fun activitySamplePreference(activitySamplePreference: IntPreferenceType) = apply { this.activitySamplePreference = activitySamplePreference }
         fun apiClientV2(apiClientV2: ApiClientTypeV2) = apply { this.apiClientV2 = apiClientV2 }
@@ -113,6 +147,14 @@ class Environment private constructor(
         fun firebaseAnalyticsClient(firebaseAnalyticsClient: FirebaseAnalyticsClientType) = apply { this.firebaseAnalyticsClient = firebaseAnalyticsClient }
 
         fun featureFlagClient(featureFlag: FeatureFlagClientType) = apply { this.featureFlagClient = featureFlag }
+        fun discoverySnapshotStore(discoverySnapshotStore: DiscoverySnapshotStore) = apply { this.discoverySnapshotStore = discoverySnapshotStore }
+        fun activityFeedSnapshots(activityFeedSnapshots: SnapshotStore<ActivityFeedRepository.Feed>) = apply { this.activityFeedSnapshots = activityFeedSnapshots }
+        fun updateSnapshots(updateSnapshots: SnapshotStore<Update>) = apply { this.updateSnapshots = updateSnapshots }
+        fun projectSearchIndex(projectSearchIndex: ProjectSearchIndex) = apply { this.projectSearchIndex = projectSearchIndex }
+        fun mutationOutbox(mutationOutbox: MutationOutbox) = apply { this.mutationOutbox = mutationOutbox }
+        fun ppoCardsStore(ppoCardsStore: PPOCardsStore) = apply { this.ppoCardsStore = ppoCardsStore }
+        fun storyViewElementsCache(storyViewElementsCache: StoryViewElementsCache) = apply { this.storyViewElementsCache = storyViewElementsCache }
+        fun checkoutPrewarm(checkoutPrewarm: CheckoutPrewarm) = apply { this.checkoutPrewarm = checkoutPrewarm }
 
         fun build() = Environment(
             activitySamplePreference = activitySamplePreference,
@@ -138,7 +180,15 @@ class Environment private constructor(
             stripe = stripe,
             webEndpoint = webEndpoint,
             firebaseAnalyticsClient = firebaseAnalyticsClient,
-            featureFlagClient = featureFlagClient
+            featureFlagClient = featureFlagClient,
+            discoverySnapshotStore = discoverySnapshotStore,
+            activityFeedSnapshots = activityFeedSnapshots,
+            updateSnapshots = updateSnapshots,
+            projectSearchIndex = projectSearchIndex,
+            mutationOutbox = mutationOutbox,
+            ppoCardsStore = ppoCardsStore,
+            storyViewElementsCache = storyViewElementsCache,
+            checkoutPrewarm = checkoutPrewarm
         )
     }
 
@@ -166,7 +216,15 @@ class Environment private constructor(
         stripe = stripe,
         webEndpoint = webEndpoint,
         firebaseAnalyticsClient = firebaseAnalyticsClient,
-        featureFlagClient = featureFlagClient
+        featureFlagClient = featureFlagClient,
+        discoverySnapshotStore = discoverySnapshotStore,
+        activityFeedSnapshots = activityFeedSnapshots,
+        updateSnapshots = updateSnapshots,
+        projectSearchIndex = projectSearchIndex,
+        mutationOutbox = mutationOutbox,
+        ppoCardsStore = ppoCardsStore,
+        storyViewElementsCache = storyViewElementsCache,
+        checkoutPrewarm = checkoutPrewarm
     )
 
     companion object {
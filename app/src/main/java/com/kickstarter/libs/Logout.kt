@@ -1,14 +1,31 @@
 package com.kickstarter.libs
 
 import com.facebook.login.LoginManager
+import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardsStore
+import com.kickstarter.models.Update
+import com.kickstarter.services.ActivityFeedRepository
+import com.kickstarter.services.MutationOutbox
 import java.net.CookieManager
 
 class Logout(
     private val cookieManager: CookieManager,
-    private val currentUserV2: CurrentUserTypeV2
+    private val currentUserV2: CurrentUserTypeV2,
+    private val discoverySnapshotStore: DiscoverySnapshotStore? = null,
+    private val projectSearchIndex: ProjectSearchIndex? = null,
+    private val mutationOutbox: MutationOutbox? = null,
+    private val ppoCardsStore: PPOCardsStore? = null,
+    private val activityFeedSnapshots: SnapshotStore<ActivityFeedRepository.Feed>? = null,
+    private val updateSnapshots: SnapshotStore<Update>? = null
 ) {
     fun execute() {
         currentUserV2.logout()
+        discoverySnapshotStore?.clear()
+        activityFeedSnapshots?.clear()
+        // - Backers only updates are readable by backers only
+        updateSnapshots?.clear()
+        ppoCardsStore?.clear()
+        projectSearchIndex?.clear()
+        mutationOutbox?.clearWatches()
         cookieManager.cookieStore.removeAll()
         LoginManager.getInstance().logOut()
     }
@@ -0,0 +1,226 @@
+package com.kickstarter.libs
+
+import com.google.gson.Gson
+import com.google.gson.reflect.TypeToken
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import timber.log.Timber
+import java.io.File
+import java.io.IOException
+import java.net.CookieStore
+import java.net.HttpCookie
+import java.net.URI
+import java.util.concurrent.Executors
+
+/**
+ * Cookie store of the app wide `CookieManager`, shared by the OkHttp `JavaNetCookieJar` and the `HttpURLConnection`s,
+ * which keeps the persistent cookies, like the visitor and ref tag ones, across launches.
+ *
+ * The cookies are kept in memory, indexed by name so the ref tag cookie of a project is found without going through
+ * every cookie, see [find]. Every change is written to [file] in the background. Session cookies are not written, and
+ * expired cookies are dropped when the store is read and when it grows over [maxCookies].
+ */
+class PersistentCookieStore @JvmOverloads constructor(
+    private val file: File,
+    private val gson: Gson,
+    private val maxCookies: Int = MAX_COOKIES,
+    private val clock: () -> Long = { System.currentTimeMillis() },
+    private val diskScheduler: Scheduler = Schedulers.from(Executors.newSingleThreadExecutor())
+) : CookieStore {
+
+    /**
+     * @param expiresAtMillis null for the session cookies
+     */
+    data class StoredCookie(
+        val uri: String?,
+        val name: String,
+        val value: String,
+        val domain: String?,
+        val path: String?,
+        val expiresAtMillis: Long?,
+        val secure: Boolean,
+        val httpOnly: Boolean,
+        val version: Int
+    )
+
+    private data class Key(val name: String, val domain: String?, val path: String?)
+
+    private class Entry(val uri: URI?, val cookie: HttpCookie, val expiresAtMillis: Long?)
+
+    private var entries: LinkedHashMap<Key, Entry>? = null
+    private val keysByName = HashMap<String, MutableSet<Key>>()
+
+    @Synchronized
+    override fun add(uri: URI?, cookie: HttpCookie) {
+        val cookies = load()
+        val key = key(uri, cookie)
+        remove(cookies, key)
+
+        // - A cookie without max age is a session cookie, one with a zero max age deletes the stored one
+        if (cookie.maxAge != 0L) {
+            val expiresAtMillis = if (cookie.maxAge > 0) clock() + cookie.maxAge * 1000 else null
+            cookies[key] = Entry(uri, cookie, expiresAtMillis)
+            keysByName.getOrPut(key.name) { mutableSetOf() }.add(key)
+            if (cookies.size > maxCookies) compact(cookies)
+        }
+        save(cookies)
+    }
+
+    @Synchronized
+    override fun get(uri: URI): List<HttpCookie> {
+        val host = uri.host ?: return emptyList()
+        val now = clock()
+        return load().values
+            .filter { !it.isExpired(now) && domainMatches(it.cookie.domain ?: it.uri?.host, host) }
+            .map { it.cookie }
+    }
+
+    @Synchronized
+    override fun getCookies(): List<HttpCookie> {
+        val now = clock()
+        return load().values.filter { !it.isExpired(now) }.map { it.cookie }
+    }
+
+    @Synchronized
+    override fun getURIs(): List<URI> = load().values.mapNotNull { it.uri }.distinct()
+
+    @Synchronized
+    override fun remove(uri: URI?, cookie: HttpCookie): Boolean {
+        val cookies = load()
+        if (!remove(cookies, key(uri, cookie))) return false
+        save(cookies)
+        return true
+    }
+
+    @Synchronized
+    override fun removeAll(): Boolean {
+        val cookies = load()
+        if (cookies.isEmpty()) return false
+        cookies.clear()
+        keysByName.clear()
+        save(cookies)
+        return true
+    }
+
+    /**
+     * @return the unexpired cookie named [name], whatever its domain, null if there is none
+     */
+    @Synchronized
+    fun find(name: String): HttpCookie? {
+        val cookies = load()
+        val now = clock()
+        return keysByName[name.lowercase()]
+            ?.mapNotNull { cookies[it] }
+            ?.firstOrNull { !it.isExpired(now) }
+            ?.cookie
+    }
+
+    private fun key(uri: URI?, cookie: HttpCookie) =
+        Key(cookie.name.lowercase(), (cookie.domain ?: uri?.host)?.lowercase(), cookie.path)
+
+    private fun remove(cookies: MutableMap<Key, Entry>, key: Key): Boolean {
+        keysByName[key.name]?.let { keys ->
+            keys.remove(key)
+            if (keys.isEmpty()) keysByName.remove(key.name)
+        }
+        return cookies.remove(key) != null
+    }
+
+    /**
+     * Drops the expired cookies then, if there are still too many, the ones expiring first.
+     */
+    private fun compact(cookies: LinkedHashMap<Key, Entry>) {
+        val now = clock()
+        cookies.filterValues { it.isExpired(now) }.keys.forEach { remove(cookies, it) }
+
+        val excess = cookies.size - maxCookies
+        if (excess <= 0) return
+        cookies.entries
+            .filter { it.value.expiresAtMillis != null }
+            .sortedBy { it.value.expiresAtMillis }
+            .take(excess)
+            .map { it.key }
+            .forEach { remove(cookies, it) }
+    }
+
+    private fun load(): LinkedHashMap<Key, Entry> {
+        entries?.let { return it }
+
+        val cookies = LinkedHashMap<Key, Entry>()
+        try {
+            if (file.exists()) {
+                val now = clock()
+                file.reader(Charsets.UTF_8).use { gson.fromJson<List<StoredCookie>>(it, storedCookiesType) }
+                    ?.filter { (it.expiresAtMillis ?: 0L) > now }
+                    ?.forEach { stored ->
+                        val uri = stored.uri?.let { URI.create(it) }
+                        val cookie = stored.toCookie(now)
+                        val key = key(uri, cookie)
+                        cookies[key] = Entry(uri, cookie, stored.expiresAtMillis)
+                        keysByName.getOrPut(key.name) { mutableSetOf() }.add(key)
+                    }
+            }
+        } catch (e: Exception) {
+            Timber.e(e, "Unable to read the cookies")
+            file.delete()
+        }
+
+        entries = cookies
+        return cookies
+    }
+
+    private fun save(cookies: Map<Key, Entry>) {
+        val snapshot = cookies.values
+            .filter { it.expiresAtMillis != null }
+            .map { it.toStoredCookie() }
+
+        diskScheduler.scheduleDirect {
+            try {
+                file.parentFile?.mkdirs()
+                val temporary = File(file.path + ".tmp")
+                temporary.writer(Charsets.UTF_8).use { gson.toJson(snapshot, storedCookiesType, it) }
+                if (!temporary.renameTo(file)) temporary.delete()
+            } catch (e: IOException) {
+                Timber.e(e, "Unable to save the cookies")
+            }
+        }
+    }
+
+    private fun Entry.isExpired(now: Long) = expiresAtMillis != null && expiresAtMillis <= now
+
+    private fun Entry.toStoredCookie() = StoredCookie(
+        uri = uri?.toString(),
+        name = cookie.name,
+        value = cookie.value,
+        domain = cookie.domain,
+        path = cookie.path,
+        expiresAtMillis = expiresAtMillis,
+        secure = cookie.secure,
+        httpOnly = cookie.isHttpOnly,
+        version = cookie.version
+    )
+
+    private fun StoredCookie.toCookie(now: Long) = HttpCookie(name, value).also {
+        it.domain = domain
+        it.path = path
+        it.maxAge = ((expiresAtMillis ?: now) - now) / 1000
+        it.secure = secure
+        it.isHttpOnly = httpOnly
+        it.version = version
+    }
+
+    companion object {
+        const val MAX_COOKIES = 500
+
+        private val storedCookiesType = object : TypeToken<List<StoredCookie>>() {}.type
+
+        /**
+         * Domain matching of RFC 2965, which also accepts the domains without leading dot the servers send.
+         */
+        private fun domainMatches(domain: String?, host: String): Boolean {
+            if (domain == null) return false
+            val bare = domain.removePrefix(".")
+            return host.equals(bare, ignoreCase = true) || host.endsWith(".$bare", ignoreCase = true)
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.kickstarter.libs
+
+import com.kickstarter.models.Project
+import java.text.Normalizer
+import java.util.TreeMap
+
+/**
+ * In memory inverted index over the projects the app has recently displayed: discovery feeds, search results and
+ * project pages. Searching it is instant, so its results can be displayed while the network search runs.
+ *
+ * Every word of the name, creator, category and blurb of a project is indexed. A project matches a search when every
+ * word of the search is the prefix of one of its words. At most [maxProjects] projects are kept, the ones seen the
+ * longest time ago being evicted first.
+ */
+class ProjectSearchIndex @JvmOverloads constructor(private val maxProjects: Int = MAX_PROJECTS) {
+
+    private class Entry(val project: Project, val words: Map<String, Int>)
+
+    // - Insertion ordered, re-adding a project moves it to the end, so the first entry is the least recently seen
+    private val entries = LinkedHashMap<Long, Entry>()
+    private val projectIdsByWord = TreeMap<String, MutableSet<Long>>()
+
+    @Synchronized
+    fun add(projects: List<Project>) {
+        projects.forEach { add(it) }
+    }
+
+    @Synchronized
+    fun add(project: Project) {
+        remove(project.id())
+
+        val entry = Entry(project, weightedWords(project))
+        entries[project.id()] = entry
+        entry.words.keys.forEach { projectIdsByWord.getOrPut(it) { HashSet() }.add(project.id()) }
+
+        while (entries.size > maxProjects) {
+            remove(entries.keys.first())
+        }
+    }
+
+    /**
+     * @return the projects matching [term], best matches first, then most recently seen first
+     */
+    @Synchronized
+    fun search(term: String, limit: Int = MAX_RESULTS): List<Project> {
+        val searchWords = words(term).distinct()
+        if (searchWords.isEmpty()) return emptyList()
+
+        var candidates: Set<Long>? = null
+        for (word in searchWords) {
+            val matching = idsMatchingPrefix(word)
+            candidates = candidates?.intersect(matching) ?: matching
+            if (candidates.isEmpty()) return emptyList()
+        }
+
+        val recency = entries.keys.withIndex().associate { it.value to it.index }
+        return candidates.orEmpty()
+            .mapNotNull { entries[it] }
+            .sortedWith(
+                compareByDescending<Entry> { score(it, searchWords) }
+                    .thenByDescending { recency[it.project.id()] ?: 0 }
+            )
+            .take(limit)
+            .map { it.project }
+    }
+
+    fun size(): Int = synchronized(this) { entries.size }
+
+    @Synchronized
+    fun clear() {
+        entries.clear()
+        projectIdsByWord.clear()
+    }
+
+    private fun remove(projectId: Long) {
+        val entry = entries.remove(projectId) ?: return
+        entry.words.keys.forEach { word ->
+            projectIdsByWord[word]?.let {
+                it.remove(projectId)
+                if (it.isEmpty()) projectIdsByWord.remove(word)
+            }
+        }
+    }
+
+    private fun idsMatchingPrefix(prefix: String): Set<Long> {
+        val ids = HashSet<Long>()
+        projectIdsByWord.subMap(prefix, true, prefix + Char.MAX_VALUE, true).values.forEach { ids.addAll(it) }
+        return ids
+    }
+
+    /**
+     * Sum, for every search word, of the weight of the best project word it is a prefix of. Whole words weigh more.
+     */
+    private fun score(entry: Entry, searchWords: List<String>): Int =
+        searchWords.sumOf { searchWord ->
+            entry.words.maxOfOrNull { (word, weight) ->
+                when {
+                    word == searchWord -> weight * 2
+                    word.startsWith(searchWord) -> weight
+                    else -> 0
+                }
+            } ?: 0
+        }
+
+    companion object {
+        const val MAX_PROJECTS = 300
+        const val MAX_RESULTS = 10
+
+        private const val NAME_WEIGHT = 4
+        private const val CREATOR_WEIGHT = 3
+        private const val CATEGORY_WEIGHT = 2
+        private const val BLURB_WEIGHT = 1
+
+        private val separators = Regex("[^\\p{L}\\p{N}]+")
+        private val diacritics = Regex("\\p{Mn}+")
+
+        /**
+         * Lower cased words of [text] without diacritics, so "Café" matches "cafe".
+         */
+        @JvmStatic
+        fun words(text: String?): List<String> {
+            if (text.isNullOrBlank()) return emptyList()
+            val normalized = Normalizer.normalize(text.lowercase(), Normalizer.Form.NFD).replace(diacritics, "")
+            return normalized.split(separators).filter { it.isNotEmpty() }
+        }
+
+        /**
+         * Merges the results of the network search with the local ones: the network results keep their order and
+         * the local results the network did not return come after them.
+         */
+        @JvmStatic
+        fun merge(remote: List<Project>, local: List<Project>): List<Project> {
+            val remoteIds = remote.map { it.id() }.toHashSet()
+            return remote + local.filterNot { remoteIds.contains(it.id()) }
+        }
+
+        private fun weightedWords(project: Project): Map<String, Int> {
+            val weights = HashMap<String, Int>()
+            fun index(text: String?, weight: Int) = words(text).forEach { word ->
+                if ((weights[word] ?: 0) < weight) weights[word] = weight
+            }
+
+            index(project.blurb(), BLURB_WEIGHT)
+            index(project.category()?.name(), CATEGORY_WEIGHT)
+            index(project.creator().name(), CREATOR_WEIGHT)
+            index(project.name(), NAME_WEIGHT)
+            return weights
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.bumptech.glide.load.resource.bitmap.RoundedCorners
 import com.bumptech.glide.request.RequestOptions
 import com.google.firebase.crashlytics.FirebaseCrashlytics
 import com.kickstarter.R
+import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardsStore
 import com.kickstarter.libs.RefTag.Companion.push
 import com.kickstarter.libs.qualifiers.ApplicationContext
 import com.kickstarter.libs.rx.transformers.Transformers
@@ -46,7 +47,8 @@ import java.util.concurrent.ExecutionException
 
 class PushNotifications(
     @field:ApplicationContext @param:ApplicationContext private val context: Context,
-    private val client: ApiClientTypeV2
+    private val client: ApiClientTypeV2,
+    private val ppoCardsStore: PPOCardsStore? = null
 ) {
     private val notifications: PublishSubject<PushNotificationEnvelope> = PublishSubject.create()
     private val subscriptions = CompositeDisposable()
@@ -57,6 +59,13 @@ class PushNotifications(
     fun initialize() {
         createNotificationChannels()
 
+        // - The pledged projects overview lists the pledges needing an action, refreshed on the next visit
+        subscriptions.add(
+            notifications
+                .filter { it.isErroredPledge() || it.isSurvey() || it.isPledgeRedemption() }
+                .subscribe { ppoCardsStore?.invalidate() }
+        )
+
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isErroredPledge() }
@@ -9,8 +9,6 @@ import com.kickstarter.libs.utils.extensions.isKSApplication
 import com.kickstarter.models.User
 import com.kickstarter.models.extensions.NAME
 import com.kickstarter.models.extensions.getTraits
-import com.kickstarter.models.extensions.getUniqueTraits
-import com.kickstarter.models.extensions.persistTraits
 import com.segment.analytics.Analytics
 import com.segment.analytics.Middleware
 import com.segment.analytics.Properties
@@ -36,7 +34,7 @@ open class SegmentTrackingClient(
     override var config: Config? = null
 
     private var calledFromOnCreate = false
-    private var prefStorage = preference
+    private val traitsSnapshot = UserTraitsSnapshot(preference)
 
     init {
 
@@ -71,6 +69,9 @@ open class SegmentTrackingClient(
         if (build.isDebug) {
             Timber.d("${type().tag} initialize called from currentThread: ${Thread.currentThread()}")
         }
+
+        // - Called from an idle startup step, the first config may have been emitted already
+        if (this.config != null) privateInitializer()
     }
 
     private fun privateInitializer() {
@@ -135,9 +136,12 @@ open class SegmentTrackingClient(
 
     private fun getMiddleware(): Middleware {
         return Middleware { chain ->
-            chain.proceed(getPayload(chain.payload()))
-            // - persist traits once the payload has been modified
-            this.loggedInUser?.persistTraits(prefStorage)
+            val payload = chain.payload()
+            chain.proceed(getPayload(payload))
+            // - persist traits once the identify payload has been modified, only the identify calls send them
+            if (payload.type() == BasePayload.Type.identify) {
+                this.loggedInUser?.let { traitsSnapshot.persist(it) }
+            }
         }
     }
 
@@ -151,7 +155,7 @@ open class SegmentTrackingClient(
     private fun getPayload(payload: BasePayload): BasePayload {
         if (payload.type() == BasePayload.Type.identify) {
             if (payload is IdentifyPayload) {
-                this.loggedInUser?.getUniqueTraits(prefStorage)?.let { uniqueTraits ->
+                this.loggedInUser?.let { traitsSnapshot.uniqueTraits(it) }?.let { uniqueTraits ->
                     val modifiedPayload = payload.toBuilder()
                         .traits(uniqueTraits)
                         .build()
@@ -0,0 +1,129 @@
+package com.kickstarter.libs
+
+import com.google.gson.Gson
+import com.google.gson.stream.JsonReader
+import com.google.gson.stream.JsonWriter
+import timber.log.Timber
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.io.InputStreamReader
+import java.io.OutputStreamWriter
+import java.lang.reflect.Type
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * Disk snapshots of a single [type], one file per key in [directory], displayed at cold start while the network
+ * refresh runs, and while offline. Each feature keeps its snapshots in its own store and directory.
+ *
+ * Every snapshot is a file made of a small header (magic number, format version and the time it was saved at)
+ * followed by the gzipped JSON of the data. Snapshots older than [maxAgeMillis], written with another format
+ * version or unreadable are ignored and deleted.
+ *
+ * Stores keyed by an unbounded id keep at most [maxEntries] snapshots: every write deletes the ones unused for
+ * [maxAgeMillis], then the least recently used ones over the budget, a snapshot being used when it is written or read.
+ * Both only look at the last modified time of the files, which is touched on use, no snapshot is opened.
+ */
+class SnapshotStore<T> @JvmOverloads constructor(
+    private val directory: File,
+    private val gson: Gson,
+    private val type: Type,
+    private val maxAgeMillis: Long = MAX_AGE_MILLIS,
+    private val maxEntries: Int = Int.MAX_VALUE,
+    private val clock: () -> Long = { System.currentTimeMillis() }
+) {
+
+    data class Snapshot<T>(val savedAtMillis: Long, val data: T)
+
+    /**
+     * @return the snapshot saved for [key], null if there is no usable snapshot
+     */
+    @Synchronized
+    fun read(key: String): Snapshot<T>? {
+        val file = File(directory, key)
+        if (!file.exists()) return null
+
+        return try {
+            DataInputStream(BufferedInputStream(file.inputStream())).use { input ->
+                if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                    file.delete()
+                    return null
+                }
+
+                val savedAt = input.readLong()
+                if (clock() - savedAt > maxAgeMillis) {
+                    file.delete()
+                    return null
+                }
+
+                val data: T? = JsonReader(InputStreamReader(GZIPInputStream(input), Charsets.UTF_8)).use {
+                    gson.fromJson(it, type)
+                }
+                data?.let { Snapshot(savedAt, it) }
+            }?.also { file.setLastModified(clock()) }
+        } catch (e: Exception) {
+            // - Corrupted or written by an incompatible version of the models
+            Timber.e(e, "Unable to read snapshot ${directory.name}/$key")
+            file.delete()
+            null
+        }
+    }
+
+    @Synchronized
+    fun write(key: String, data: T) {
+        try {
+            if (!directory.exists()) directory.mkdirs()
+            val temporary = File(directory, "$key.tmp")
+
+            DataOutputStream(BufferedOutputStream(temporary.outputStream())).use { output ->
+                output.writeInt(MAGIC)
+                output.writeInt(FORMAT_VERSION)
+                output.writeLong(clock())
+
+                val gzip = GZIPOutputStream(output)
+                JsonWriter(OutputStreamWriter(gzip, Charsets.UTF_8)).use { writer ->
+                    gson.toJson(data, type, writer)
+                }
+            }
+
+            val file = File(directory, key)
+            if (temporary.renameTo(file)) file.setLastModified(clock()) else temporary.delete()
+            trim()
+        } catch (e: IOException) {
+            Timber.e(e, "Unable to save snapshot ${directory.name}/$key")
+        }
+    }
+
+    /**
+     * Deletes every snapshot of the store.
+     */
+    @Synchronized
+    fun clear() {
+        directory.listFiles()?.forEach { it.delete() }
+    }
+
+    private fun trim() {
+        if (maxEntries == Int.MAX_VALUE) return
+
+        val now = clock()
+        val snapshots = directory.listFiles { file -> !file.name.endsWith(".tmp") }
+            ?.map { it to it.lastModified() }
+            ?.filterNot { (file, usedAt) -> now - usedAt > maxAgeMillis && file.delete() }
+            ?: return
+
+        if (snapshots.size <= maxEntries) return
+        snapshots.sortedBy { (_, usedAt) -> usedAt }
+            .take(snapshots.size - maxEntries)
+            .forEach { (file, _) -> file.delete() }
+    }
+
+    companion object {
+        private const val MAGIC = 0x4B534453 // - "KSDS"
+        private const val FORMAT_VERSION = 1
+        const val MAX_AGE_MILLIS = 7L * 24 * 60 * 60 * 1000
+    }
+}
@@ -0,0 +1,65 @@
+package com.kickstarter.libs
+
+import android.content.SharedPreferences
+import com.kickstarter.models.User
+import com.kickstarter.models.extensions.getTraits
+
+/**
+ * In memory copy of the user traits last sent to Braze, loaded once from [preferences].
+ *
+ * The Segment middleware sees every payload, so diffing and persisting the traits against the preferences on each of
+ * them meant reading and writing ~20 keys per tracked event. The traits are now diffed against this copy, and written
+ * to [preferences] only when they changed, keyed by the hash of their values.
+ */
+class UserTraitsSnapshot(private val preferences: SharedPreferences) {
+
+    private var persisted: Map<String, String>? = null
+    private var persistedHash = 0
+
+    /**
+     * Returns the traits of [user] that changed compared with the persisted ones, all of them if none was persisted.
+     */
+    @Synchronized
+    fun uniqueTraits(user: User): Map<String, Any?> {
+        val sessionTraits = user.getTraits()
+        val persisted = load(sessionTraits.keys)
+
+        return if (persisted.isEmpty()) {
+            sessionTraits
+        } else {
+            sessionTraits.filter { entry ->
+                persisted[entry.key] != entry.value.toString()
+            }
+        }
+    }
+
+    /**
+     * Persists the traits of [user], only writing to the preferences the ones that changed.
+     * @return true if something was written
+     */
+    @Synchronized
+    fun persist(user: User): Boolean {
+        val traits = user.getTraits().mapValues { it.value.toString() }
+        val persisted = load(traits.keys)
+        if (traits.hashCode() == persistedHash && traits == persisted) return false
+
+        val editor = preferences.edit()
+        traits.forEach { (key, value) ->
+            if (persisted[key] != value) editor.putString(key, value)
+        }
+        editor.apply()
+
+        this.persisted = traits
+        this.persistedHash = traits.hashCode()
+        return true
+    }
+
+    private fun load(keys: Set<String>): Map<String, String> =
+        persisted ?: keys
+            .mapNotNull { key -> preferences.getString(key, "")?.takeIf { it.isNotEmpty() }?.let { key to it } }
+            .toMap()
+            .also {
+                persisted = it
+                persistedHash = it.hashCode()
+            }
+}
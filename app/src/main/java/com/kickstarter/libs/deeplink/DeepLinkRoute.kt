@@ -0,0 +1,62 @@
+package com.kickstarter.libs.deeplink
+
+/**
+ * Typed destination of a deep link, as resolved by [DeepLinkRouter].
+ *
+ * `creatorParam` is null when the link omits the creator segment, e.g. `/projects/:project_param`.
+ */
+sealed class DeepLinkRoute {
+
+    /** Not a link the app handles natively. */
+    object Unknown : DeepLinkRoute()
+
+    /** `/settings/notify_mobile_of_marketing_update/true`, on any host. */
+    object MarketingSettings : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param` */
+    data class Project(val creatorParam: String?, val projectParam: String) : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param?save=true|false` */
+    data class ProjectSave(val creatorParam: String?, val projectParam: String, val save: Boolean) : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param?token=:token` */
+    data class ProjectPreview(val creatorParam: String?, val projectParam: String, val token: String) : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param/comments` */
+    data class ProjectComments(val creatorParam: String?, val projectParam: String) : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param/posts/:update_param` */
+    data class ProjectUpdate(val creatorParam: String?, val projectParam: String, val updateParam: String) : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param/posts/:update_param/comments` */
+    data class ProjectUpdateComments(val creatorParam: String?, val projectParam: String, val updateParam: String) : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param/pledge` */
+    data class Checkout(val creatorParam: String?, val projectParam: String) : DeepLinkRoute()
+
+    /** `/projects/:creator_param/:project_param/mark_reward_fulfilled/true`, on any host. */
+    data class RewardFulfilled(val creatorParam: String?, val projectParam: String) : DeepLinkRoute()
+
+    /** Any of the survey and pledge redemption paths, see [SurveyType]. */
+    data class ProjectSurvey(
+        val creatorParam: String?,
+        val projectParam: String,
+        val type: SurveyType,
+        val surveyParam: String? = null
+    ) : DeepLinkRoute()
+
+    enum class SurveyType {
+        /** `/surveys/:survey_param` */
+        SURVEY,
+        /** `/surveys/:survey_param/edit` */
+        EDIT,
+        /** `/surveys/:survey_param/edit_address` */
+        EDIT_ADDRESS,
+        /** `/backing/survey_responses` */
+        RESPONSES,
+        /** `/backing/redeem` */
+        REDEEM,
+        /** `/backing/pledge_redemption` */
+        PLEDGE_REDEMPTION
+    }
+}
@@ -0,0 +1,168 @@
+package com.kickstarter.libs.deeplink
+
+import android.net.Uri
+import com.kickstarter.libs.deeplink.DeepLinkRoute.SurveyType
+import com.kickstarter.libs.utils.extensions.SCHEME_HTTPS
+import com.kickstarter.libs.utils.extensions.SCHEME_KSR
+import com.kickstarter.libs.utils.extensions.isSettingsUrl
+
+/**
+ * Resolves a deep link [Uri] into a [DeepLinkRoute] in a single walk over its path segments.
+ *
+ * Path templates are compiled once into a segment trie. While walking it literal segments are tried
+ * before parameters, so `/projects/:project_param/comments` wins over a project whose slug is `comments`,
+ * matching the order in which [com.kickstarter.viewmodels.DeepLinkViewModel] used to apply the `UriExt`
+ * predicates. Parameters accept the same `[a-zA-Z0-9_-]+` segments as those predicates.
+ *
+ * @param webEndpoint only links on this host resolve to a route, except the ones that the
+ * `UriExt` predicates accept on any host: marketing settings and reward fulfillment.
+ */
+class DeepLinkRouter(webEndpoint: String) {
+    private val webHost: String = Uri.parse(webEndpoint).host ?: ""
+
+    fun route(uri: Uri): DeepLinkRoute {
+        if (uri.isSettingsUrl()) return DeepLinkRoute.MarketingSettings
+
+        val path = uri.path ?: return DeepLinkRoute.Unknown
+        if (!path.startsWith("/")) return DeepLinkRoute.Unknown
+
+        val trailingSlash = path.length > 1 && path.endsWith("/")
+        val segments = path.substring(1, if (trailingSlash) path.length - 1 else path.length).split("/")
+        val link = Link(uri, trailingSlash, uri.host == webHost)
+
+        return match(ROOT, segments, 0, ArrayList(), link) ?: DeepLinkRoute.Unknown
+    }
+
+    private fun match(node: Node, segments: List<String>, index: Int, params: MutableList<String>, link: Link): DeepLinkRoute? {
+        if (index == segments.size) {
+            return node.templates.firstNotNullOfOrNull { it.resolve(params, link) }
+        }
+
+        val segment = segments[index]
+        node.literals[segment]?.let { child ->
+            match(child, segments, index + 1, params, link)?.let { return it }
+        }
+
+        val paramChild = node.param ?: return null
+        if (!isParam(segment)) return null
+
+        params.add(segment)
+        val route = match(paramChild, segments, index + 1, params, link)
+        params.removeAt(params.size - 1)
+        return route
+    }
+
+    private class Link(val uri: Uri, val trailingSlash: Boolean, val isKickstarterHost: Boolean) {
+        val isKSScheme: Boolean
+            get() = uri.scheme == SCHEME_KSR || uri.scheme == SCHEME_HTTPS
+    }
+
+    private class Node {
+        val literals = HashMap<String, Node>()
+        var param: Node? = null
+        val templates = ArrayList<Template>()
+    }
+
+    /**
+     * @param resolver receives the captured parameters in path order, `creator_param` is the first one
+     * only when [withCreator] is true
+     */
+    private class Template(
+        val withCreator: Boolean,
+        val resolver: (creatorParam: String?, params: List<String>, link: Link) -> DeepLinkRoute?
+    ) {
+        fun resolve(params: List<String>, link: Link): DeepLinkRoute? {
+            val creatorParam = if (withCreator) params[0] else null
+            val rest = if (withCreator) params.subList(1, params.size) else params
+            return resolver(creatorParam, rest, link)
+        }
+    }
+
+    companion object {
+        private const val PARAM = ":"
+        private val SAVE_QUERY = Regex("save(=[a-zA-Z]+)")
+
+        private val ROOT: Node = Node().apply {
+            projectTemplate("") { creator, params, link ->
+                if (!link.isKickstarterHost) return@projectTemplate null
+                val query = link.uri.query ?: ""
+                val token = link.uri.getQueryParameter("token")
+                when {
+                    SAVE_QUERY.matches(query) -> DeepLinkRoute.ProjectSave(creator, params[0], query.substringAfter("=") == "true")
+                    token != null -> DeepLinkRoute.ProjectPreview(creator, params[0], token)
+                    else -> DeepLinkRoute.Project(creator, params[0])
+                }
+            }
+
+            webProjectTemplate("/comments") { creator, params -> DeepLinkRoute.ProjectComments(creator, params[0]) }
+            webProjectTemplate("/pledge") { creator, params -> DeepLinkRoute.Checkout(creator, params[0]) }
+            webProjectTemplate("/posts/:") { creator, params -> DeepLinkRoute.ProjectUpdate(creator, params[0], params[1]) }
+            webProjectTemplate("/posts/:/comments") { creator, params ->
+                DeepLinkRoute.ProjectUpdateComments(creator, params[0], params[1])
+            }
+
+            webProjectTemplate("/surveys/:") { creator, params ->
+                DeepLinkRoute.ProjectSurvey(creator, params[0], SurveyType.SURVEY, params[1])
+            }
+            webProjectTemplate("/surveys/:/edit") { creator, params ->
+                DeepLinkRoute.ProjectSurvey(creator, params[0], SurveyType.EDIT, params[1])
+            }
+            webProjectTemplate("/surveys/:/edit_address") { creator, params ->
+                DeepLinkRoute.ProjectSurvey(creator, params[0], SurveyType.EDIT_ADDRESS, params[1])
+            }
+            webProjectTemplate("/backing/survey_responses") { creator, params ->
+                DeepLinkRoute.ProjectSurvey(creator, params[0], SurveyType.RESPONSES)
+            }
+            webProjectTemplate("/backing/redeem") { creator, params ->
+                DeepLinkRoute.ProjectSurvey(creator, params[0], SurveyType.REDEEM)
+            }
+            webProjectTemplate("/backing/pledge_redemption") { creator, params ->
+                DeepLinkRoute.ProjectSurvey(creator, params[0], SurveyType.PLEDGE_REDEMPTION)
+            }
+
+            projectTemplate("/mark_reward_fulfilled/true") { creator, params, link ->
+                if (link.isKSScheme && !link.trailingSlash) DeepLinkRoute.RewardFulfilled(creator, params[0]) else null
+            }
+        }
+
+        /**
+         * Registers `/projects/:project_param<suffix>` and `/projects/:creator_param/:project_param<suffix>`,
+         * `:` segments in [suffix] are parameters. Only bare project links accept a trailing slash.
+         */
+        private fun Node.projectTemplate(
+            suffix: String,
+            resolver: (creatorParam: String?, params: List<String>, link: Link) -> DeepLinkRoute?
+        ) {
+            val allowsTrailingSlash = suffix.isEmpty()
+            listOf(false, true).forEach { withCreator ->
+                val segments = listOf("projects") +
+                    (if (withCreator) listOf(PARAM, PARAM) else listOf(PARAM)) +
+                    suffix.split("/").filter { it.isNotEmpty() }
+
+                val node = segments.fold(this) { node, segment ->
+                    if (segment == PARAM) {
+                        node.param ?: Node().also { node.param = it }
+                    } else {
+                        node.literals.getOrPut(segment) { Node() }
+                    }
+                }
+
+                node.templates.add(
+                    Template(withCreator) { creator, params, link ->
+                        if (link.trailingSlash && !allowsTrailingSlash) null else resolver(creator, params, link)
+                    }
+                )
+            }
+        }
+
+        private fun Node.webProjectTemplate(
+            suffix: String,
+            resolver: (creatorParam: String?, params: List<String>) -> DeepLinkRoute
+        ) = projectTemplate(suffix) { creator, params, link ->
+            if (link.isKickstarterHost) resolver(creator, params) else null
+        }
+
+        private fun isParam(segment: String): Boolean =
+            segment.isNotEmpty() && segment.all { it in 'a'..'z' || it in 'A'..'Z' || it in '0'..'9' || it == '_' || it == '-' }
+    }
+}
@@ -1,6 +1,5 @@
 package com.kickstarter.libs.featureflag
 
-import android.app.Activity
 import com.google.firebase.remoteconfig.FirebaseRemoteConfig
 import com.google.firebase.remoteconfig.ktx.remoteConfigSettings
 import com.kickstarter.libs.Build
@@ -8,7 +7,11 @@ import com.kickstarter.libs.Build.isInternal
 import com.kickstarter.libs.featureflag.FeatureFlagClient.Companion.INTERNAL_INTERVAL
 import com.kickstarter.libs.featureflag.FeatureFlagClient.Companion.RELEASE_INTERVAL
 import com.kickstarter.models.UserPrivacy
+import io.reactivex.Completable
 import io.reactivex.Observable
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import io.reactivex.subjects.BehaviorSubject
 import timber.log.Timber
 
 interface FeatureFlagClientType {
@@ -31,17 +34,17 @@ interface FeatureFlagClientType {
     /**
      * Will connect to the backend and fetch available values
      */
-    fun fetch(context: Activity)
+    fun fetch()
 
     /**
      * Will activate the latest values fetched from the backend
      */
-    fun activate(context: Activity)
+    fun activate()
 
     /**
      * Will perform fetch and activate at the same time
      */
-    fun fetchAndActivate(context: Activity)
+    fun fetchAndActivate()
 
     /**
      * Will return the active status for a boolean feature flag
@@ -62,6 +65,26 @@ interface FeatureFlagClientType {
      * Will return the active value for a String feature flag
      */
     fun getString(FlagKey: FlagKey): String
+
+    /**
+     * Will return an immutable snapshot of every feature flag source, cheap enough to read on hot paths
+     */
+    fun snapshot(): FeatureFlagSnapshot = FeatureFlagSnapshot.EMPTY
+
+    /**
+     * Will emit the current snapshot, and a new one each time any feature flag value changes
+     */
+    fun snapshots(): Observable<FeatureFlagSnapshot> = Observable.fromCallable { snapshot() }
+
+    /**
+     * Will update the snapshot with the flags coming from `Config.features`
+     */
+    fun updateConfigFeatures(features: Map<String, Boolean>?) {}
+
+    /**
+     * Will update the snapshot with the backend flags enabled within `userPrivacy.enabledFeatures`
+     */
+    fun updateBackendFeatures(enabledFeatures: List<String>) {}
 }
 enum class FlipperFlagKey(val key: String) {
     FLIPPER_PLEDGED_PROJECTS_OVERVIEW("pledge_projects_overview_2024")
@@ -89,14 +112,29 @@ fun FeatureFlagClient.getFetchInterval(): Long =
     if (this.build.isDebug || isInternal()) INTERNAL_INTERVAL
     else RELEASE_INTERVAL
 
-class FeatureFlagClient(
-    internal val build: Build
+class FeatureFlagClient @JvmOverloads constructor(
+    internal val build: Build,
+    private val snapshotScheduler: Scheduler = Schedulers.single()
 ) : FeatureFlagClientType {
 
     var remoteConfig: FirebaseRemoteConfig? = null
 
+    // - Swapped as a whole on every change, readers never lock. Until the activated values are
+    // - materialized the Remote Config values are read from Remote Config directly
+    @Volatile
+    private var snapshot: FeatureFlagSnapshot = FeatureFlagSnapshot.EMPTY
+    private val snapshots = BehaviorSubject.createDefault(FeatureFlagSnapshot.EMPTY)
+
+    private val remoteValues = object : FeatureFlagSnapshot.RemoteValues {
+        override fun getBoolean(key: FlagKey) = remoteConfig?.getBoolean(key.key) ?: false
+        override fun getDouble(key: FlagKey) = remoteConfig?.getDouble(key.key) ?: 0.0
+        override fun getLong(key: FlagKey) = remoteConfig?.getLong(key.key) ?: 0L
+        override fun getString(key: FlagKey) = remoteConfig?.getString(key.key) ?: ""
+    }
+
     override fun initialize(config: FirebaseRemoteConfig?) {
         remoteConfig = config
+        update { it.withoutRemoteValues() }
 
         val configSettings = remoteConfigSettings {
             minimumFetchIntervalInSeconds = getFetchInterval()
@@ -105,62 +143,117 @@ class FeatureFlagClient(
         // - For the MVP no in-app defaults, will add them later on
         remoteConfig?.setConfigSettingsAsync(configSettings)
 
-        log("${this.javaClass} initialized with interval: ${this.getFetchInterval()}, remoteConfig ${this.remoteConfig}")
+        // - The activated values are loaded from disk asynchronously, materialize them once available
+        remoteConfig?.ensureInitialized()
+            ?.addOnSuccessListener { refreshSnapshot() }
+
+        log { "${this.javaClass} initialized with interval: ${this.getFetchInterval()}, remoteConfig ${this.remoteConfig}" }
     }
 
-    override fun fetch(context: Activity) {
+    // - The listeners are not bound to an activity: the snapshot is shared by the whole process and
+    // - must be refreshed even if the activity requesting the values stopped meanwhile
+    override fun fetch() {
         remoteConfig?.fetch()
-            ?.addOnCompleteListener(context) { task ->
-                log("${this.javaClass} fetch completed: ${task.isSuccessful}")
+            ?.addOnCompleteListener { task ->
+                log { "${this.javaClass} fetch completed: ${task.isSuccessful}" }
             }
     }
 
-    override fun activate(context: Activity) {
+    override fun activate() {
         remoteConfig?.activate()
-            ?.addOnCompleteListener(context) { task ->
-                log("${this.javaClass} activate completed: ${task.isSuccessful}")
+            ?.addOnCompleteListener { task ->
+                log { "${this.javaClass} activate completed: ${task.isSuccessful}" }
 
                 // Strategy loading 3 -> https://firebase.google.com/docs/remote-config/loading#strategy_3_load_new_values_for_next_startup
                 if (task.isSuccessful && task.isComplete) {
-                    fetch(context)
+                    refreshSnapshot()
+                    fetch()
                 }
             }
     }
 
-    override fun fetchAndActivate(context: Activity) {
+    override fun fetchAndActivate() {
         remoteConfig?.fetchAndActivate()
-            ?.addOnCompleteListener(context) { task ->
-                log("${this.javaClass} fetchAndActivated completed: ${task.isSuccessful} ")
+            ?.addOnCompleteListener { task ->
+                log { "${this.javaClass} fetchAndActivated completed: ${task.isSuccessful} " }
+                if (task.isSuccessful) refreshSnapshot()
             }
     }
 
     override fun getBoolean(key: FlagKey): Boolean {
-        val value = remoteConfig?.getBoolean(key.key) ?: false
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = values().getBoolean(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
     override fun getDouble(key: FlagKey): Double {
-        val value = remoteConfig?.getDouble(key.key) ?: 0.0
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = values().getDouble(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
     override fun getLong(key: FlagKey): Long {
-        val value = remoteConfig?.getLong(key.key) ?: 0L
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = values().getLong(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
     override fun getString(key: FlagKey): String {
-
-        val value = remoteConfig?.getString(key.key) ?: ""
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = values().getString(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
-    private fun log(message: String) {
-        if (build.isDebug) Timber.d(message)
+    override fun isBackendEnabledFlag(privacy: Observable<UserPrivacy>, key: FlipperFlagKey): Observable<Boolean> {
+        return privacy.map {
+            updateBackendFeatures(it.enabledFeatures)
+            snapshot.isBackendEnabled(key)
+        }
+    }
+
+    override fun snapshot(): FeatureFlagSnapshot = snapshot
+
+    override fun snapshots(): Observable<FeatureFlagSnapshot> = snapshots.distinctUntilChanged()
+
+    override fun updateConfigFeatures(features: Map<String, Boolean>?) {
+        update { it.withConfigFeatures(features) }
+    }
+
+    override fun updateBackendFeatures(enabledFeatures: List<String>) {
+        update { it.withBackendFeatures(enabledFeatures) }
+    }
+
+    private fun values(): FeatureFlagSnapshot.RemoteValues = snapshot.takeIf { it.hasRemoteValues } ?: remoteValues
+
+    /**
+     * Reads every flag from Remote Config on [snapshotScheduler], off the thread delivering the Firebase callbacks.
+     * The scheduler runs one refresh at a time, so the last activated values always win.
+     */
+    private fun refreshSnapshot() {
+        val config = remoteConfig
+        Completable.fromAction { if (remoteConfig === config) update { it.withRemoteValues(remoteValues) } }
+            .subscribeOn(snapshotScheduler)
+            .subscribe(
+                {},
+                { Timber.e(it, "Unable to read the Remote Config values") }
+            )
+    }
+
+    /**
+     * Publishes the snapshot built by [change] from the current one, if any value changed. Updates from the
+     * other sources are serialized, so none of them is lost.
+     */
+    @Synchronized
+    private fun update(change: (FeatureFlagSnapshot) -> FeatureFlagSnapshot) {
+        val updated = change(snapshot)
+        if (updated != snapshot) {
+            snapshot = updated
+            snapshots.onNext(updated)
+        }
+    }
+
+    private inline fun log(message: () -> String) {
+        if (build.isDebug) Timber.d(message())
     }
 
     companion object {
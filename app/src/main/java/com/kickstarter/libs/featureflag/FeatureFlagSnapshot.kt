@@ -0,0 +1,119 @@
+package com.kickstarter.libs.featureflag
+
+/**
+ * Immutable view of every feature flag source at a point in time:
+ * - Remote Config values, stored in arrays indexed by [FlagKey.ordinal]
+ * - `Config.features`, the flags coming with the config endpoint
+ * - `UserPrivacy.enabledFeatures`, the backend flags enabled for the current user
+ *
+ * Reading a flag is an array or hash lookup, no locking or call into the Remote Config SDK involved.
+ * [FeatureFlagClient] publishes a new snapshot whenever one of the sources changes, see [FeatureFlagClientType.snapshots].
+ */
+class FeatureFlagSnapshot private constructor(
+    /**
+     * False until the activated Remote Config values were materialized, the remote getters return defaults meanwhile
+     */
+    val hasRemoteValues: Boolean,
+    private val booleans: BooleanArray,
+    private val doubles: DoubleArray,
+    private val longs: LongArray,
+    private val strings: Array<String>,
+    private val configFeatures: Map<String, Boolean>,
+    private val backendFeatures: Set<String>
+) : FeatureFlagSnapshot.RemoteValues {
+
+    override fun getBoolean(key: FlagKey): Boolean = booleans[key.ordinal]
+
+    override fun getDouble(key: FlagKey): Double = doubles[key.ordinal]
+
+    override fun getLong(key: FlagKey): Long = longs[key.ordinal]
+
+    override fun getString(key: FlagKey): String = strings[key.ordinal]
+
+    /**
+     * @return true if the `Config.features` flag is enabled, false if disabled or absent
+     */
+    fun isConfigFeatureEnabled(key: String): Boolean = configFeatures[key] ?: false
+
+    /**
+     * @return true if the flag is present within `UserPrivacy.enabledFeatures`
+     */
+    fun isBackendEnabled(key: FlipperFlagKey): Boolean = backendFeatures.contains(key.key)
+
+    /**
+     * @return a copy of this snapshot with every [FlagKey] read once from [remoteValues]
+     */
+    fun withRemoteValues(remoteValues: RemoteValues): FeatureFlagSnapshot {
+        val keys = FlagKey.values()
+        return FeatureFlagSnapshot(
+            hasRemoteValues = true,
+            booleans = BooleanArray(keys.size) { remoteValues.getBoolean(keys[it]) },
+            doubles = DoubleArray(keys.size) { remoteValues.getDouble(keys[it]) },
+            longs = LongArray(keys.size) { remoteValues.getLong(keys[it]) },
+            strings = Array(keys.size) { remoteValues.getString(keys[it]) },
+            configFeatures = configFeatures,
+            backendFeatures = backendFeatures
+        )
+    }
+
+    /**
+     * @return a copy of this snapshot with the Remote Config values back to their defaults
+     */
+    fun withoutRemoteValues(): FeatureFlagSnapshot =
+        FeatureFlagSnapshot(false, EMPTY.booleans, EMPTY.doubles, EMPTY.longs, EMPTY.strings, configFeatures, backendFeatures)
+
+    fun withConfigFeatures(features: Map<String, Boolean>?): FeatureFlagSnapshot =
+        FeatureFlagSnapshot(hasRemoteValues, booleans, doubles, longs, strings, features?.toMap() ?: emptyMap(), backendFeatures)
+
+    fun withBackendFeatures(enabledFeatures: List<String>): FeatureFlagSnapshot =
+        FeatureFlagSnapshot(hasRemoteValues, booleans, doubles, longs, strings, configFeatures, enabledFeatures.toHashSet())
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        if (other !is FeatureFlagSnapshot) return false
+        return hasRemoteValues == other.hasRemoteValues &&
+            booleans.contentEquals(other.booleans) &&
+            doubles.contentEquals(other.doubles) &&
+            longs.contentEquals(other.longs) &&
+            strings.contentEquals(other.strings) &&
+            configFeatures == other.configFeatures &&
+            backendFeatures == other.backendFeatures
+    }
+
+    override fun hashCode(): Int {
+        var result = hasRemoteValues.hashCode()
+        result = 31 * result + booleans.contentHashCode()
+        result = 31 * result + doubles.contentHashCode()
+        result = 31 * result + longs.contentHashCode()
+        result = 31 * result + strings.contentHashCode()
+        result = 31 * result + configFeatures.hashCode()
+        result = 31 * result + backendFeatures.hashCode()
+        return result
+    }
+
+    /**
+     * Source of the Remote Config values materialized into a snapshot.
+     */
+    interface RemoteValues {
+        fun getBoolean(key: FlagKey): Boolean
+        fun getDouble(key: FlagKey): Double
+        fun getLong(key: FlagKey): Long
+        fun getString(key: FlagKey): String
+    }
+
+    companion object {
+        /**
+         * Snapshot with every Remote Config value at its default and no config or backend flags.
+         */
+        @JvmField
+        val EMPTY = FeatureFlagSnapshot(
+            hasRemoteValues = false,
+            booleans = BooleanArray(FlagKey.values().size),
+            doubles = DoubleArray(FlagKey.values().size),
+            longs = LongArray(FlagKey.values().size),
+            strings = Array(FlagKey.values().size) { "" },
+            configFeatures = emptyMap(),
+            backendFeatures = emptySet()
+        )
+    }
+}
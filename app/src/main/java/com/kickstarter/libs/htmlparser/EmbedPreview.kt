@@ -0,0 +1,61 @@
+package com.kickstarter.libs.htmlparser
+
+import android.net.Uri
+import org.jsoup.Jsoup
+
+/**
+ * Lightweight description of an [ExternalSourceViewElement], displayed instead of a live WebView until the
+ * embed is activated.
+ *
+ * @param sourceUrl the `src` of the embedded iframe
+ * @param host the host of the embed provider, like www.youtube.com
+ * @param thumbnailUrl a static preview of the embed, when the provider exposes one
+ */
+data class EmbedPreview(
+    val sourceUrl: String?,
+    val host: String?,
+    val thumbnailUrl: String?
+)
+
+private val youtubeEmbedPath = Regex("^/embed/([\\w-]+)")
+
+fun ExternalSourceViewElement.parseEmbedPreview(): EmbedPreview {
+    val sourceUrl = Jsoup.parseBodyFragment(this.htmlContent)
+        .selectFirst("iframe")
+        ?.attr("src")
+        ?.takeIf { it.isNotBlank() }
+        ?.let { if (it.startsWith("//")) "https:$it" else it }
+
+    val uri = sourceUrl?.let { Uri.parse(it) }
+    val host = uri?.host
+
+    val thumbnailUrl = if (host?.contains("youtube") == true) {
+        youtubeEmbedPath.find(uri.path ?: "")?.groupValues?.get(1)?.let {
+            "https://img.youtube.com/vi/$it/hqdefault.jpg"
+        }
+    } else null
+
+    return EmbedPreview(sourceUrl = sourceUrl, host = host, thumbnailUrl = thumbnailUrl)
+}
+
+/**
+ * Previews and WebView ready HTML of the embeds of a single project story, computed once per embed no matter
+ * how many times it is bound while scrolling.
+ */
+class EmbedPreviewCache {
+    private val previews = HashMap<String, EmbedPreview>()
+    private val documents = HashMap<String, String>()
+
+    fun preview(element: ExternalSourceViewElement): EmbedPreview =
+        previews.getOrPut(element.htmlContent) { element.parseEmbedPreview() }
+
+    fun html(element: ExternalSourceViewElement): String =
+        documents.getOrPut(element.htmlContent) {
+            "<body style=\"margin: 0; padding: 0\">${element.htmlContent}</body>"
+        }
+
+    fun clear() {
+        previews.clear()
+        documents.clear()
+    }
+}
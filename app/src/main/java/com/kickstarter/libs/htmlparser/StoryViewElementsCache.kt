@@ -0,0 +1,34 @@
+package com.kickstarter.libs.htmlparser
+
+import android.util.LruCache
+import com.kickstarter.models.Project
+import io.reactivex.Completable
+
+/**
+ * Parsed campaign stories of the last projects displayed. The project page warms the story of its campaign tab in
+ * the background, see [warm], so the tab displays it without parsing the HTML on the main thread once selected.
+ */
+class StoryViewElementsCache @JvmOverloads constructor(
+    private val parser: HTMLParser = HTMLParser(),
+    maxSize: Int = MAX_SIZE
+) {
+    private val elements = LruCache<String, List<ViewElement>>(maxSize)
+
+    /**
+     * @return the view elements of the story of [project], parsed on the calling thread if they are not cached yet
+     */
+    fun elements(project: Project): List<ViewElement> {
+        val story = project.story() ?: return emptyList()
+        val key = key(project, story)
+        return elements.get(key) ?: parser.parse(story).also { elements.put(key, it) }
+    }
+
+    fun warm(project: Project): Completable = Completable.fromAction { elements(project) }
+
+    // - The story is part of the key as it changes when the creator edits the campaign
+    private fun key(project: Project, story: String) = "${project.id()}_${story.length}_${story.hashCode()}"
+
+    companion object {
+        const val MAX_SIZE = 4
+    }
+}
@@ -19,7 +19,9 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
     val clearWhenStartingOver: Boolean = true,
     val concater: BiFunction<List<Data>, List<Data>, List<Data>>,
     val distinctUntilChanged: Boolean,
-    val isReversed: Boolean
+    val isReversed: Boolean,
+    val windowSize: Int = 0,
+    val previousPage: Observable<Unit>? = null
 ) {
     private val _morePath = PublishSubject.create<String>()
     val isFetching = BehaviorSubject.create<Boolean>()
@@ -31,7 +33,10 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
         startOverWith?.let {
             paginatedData =
                 it.switchMap { firstPageParams: Params ->
-                    dataWithPagination(firstPageParams)
+                    if (windowSize > 0)
+                        dataWithWindow(firstPageParams)
+                    else
+                        dataWithPagination(firstPageParams)
                 }
             loadingPage =
                 it.switchMap<Int> {
@@ -65,6 +70,8 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             }
         private var distinctUntilChanged = false
         private var isReversed = false
+        private var windowSize = 0
+        private var previousPage: Observable<Unit>? = null
 
         /**
          * [Required] An observable that emits whenever a new page of data should be loaded.
@@ -140,6 +147,24 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             return this
         }
 
+        /**
+         * [Optional] Keeps at most `windowSize` pages in memory, evicting the first pages while paginating forward.
+         * Evicted pages are fetched again with their cursor when `previousPage` emits.
+         */
+        fun windowSize(windowSize: Int): Builder<Data, Envelope, Params> {
+            this.windowSize = windowSize
+            return this
+        }
+
+        /**
+         * [Optional] An observable that emits whenever the last evicted page should be loaded back, only used
+         * along with `windowSize`.
+         */
+        fun previousPage(previousPage: Observable<Unit>): Builder<Data, Envelope, Params> {
+            this.previousPage = previousPage
+            return this
+        }
+
         @Throws(RuntimeException::class)
         fun build(): ApolloPaginateV2<Data, Envelope, Params> {
             // Early error when required field is not set
@@ -152,6 +177,9 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             if (loadWithParams == null) {
                 throw RuntimeException("`loadWithParams` is required")
             }
+            if (windowSize == 1) {
+                throw RuntimeException("`windowSize` needs at least two pages")
+            }
 
             // Default params for optional fields
             if (startOverWith == null) {
@@ -167,7 +195,9 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
                 clearWhenStartingOver,
                 concater,
                 distinctUntilChanged,
-                isReversed
+                isReversed,
+                windowSize,
+                previousPage
             )
         }
     }
@@ -197,6 +227,34 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             paginatedData
     }
 
+    /**
+     * Returns an observable that emits the list of data within the window of pages each time a page is loaded,
+     * either forward with `nextPage` or back with `previousPage`.
+     */
+    private fun dataWithWindow(firstPageParams: Params): Observable<List<Data>> {
+        return Observable.defer {
+            val window = PageWindow<Data>(windowSize)
+            val forward = nextPage.map { true }.startWith(true)
+            val loads = (previousPage?.let { Observable.merge(forward, it.map { false }) } ?: forward)
+                // - Serialized, so the cursor is read from the window once the previous load completed
+                .concatMap { isForward: Boolean ->
+                    val cursor = if (isForward) window.nextCursor() else window.previousCursor()
+                    cursor?.let {
+                        fetchPage(Pair(firstPageParams, it))
+                            .map { page ->
+                                if (isForward) window.append(page) else window.prepend(page)
+                                window.items(isReversed)
+                            }
+                    } ?: Observable.empty()
+                }
+
+            if (distinctUntilChanged)
+                loads.distinctUntilChanged()
+            else
+                loads
+        }
+    }
+
     /**
      * Returns an observable that emits the params for the next page of data *or* the more URL for the next page.
      */
@@ -234,6 +292,34 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
             }
     }
 
+    private fun fetchPage(paginatingData: Pair<Params, String>): Observable<PageWindow.Page<Data>> {
+        return loadWithParams.apply(paginatingData)
+            .retry(2)
+            .compose(Transformers.neverErrorV2())
+            .take(1)
+            .map { envelope: Envelope ->
+                val data = envelopeToListOfData.apply(envelope)
+                val items = pageTransformation?.apply(data) ?: data
+                PageWindow.Page(
+                    requestCursor = paginatingData.second,
+                    items = items,
+                    nextCursor = if (items.isEmpty()) null else cursor(envelope)
+                )
+            }
+            .doOnSubscribe {
+                isFetching.onNext(true)
+            }
+            .doFinally {
+                isFetching.onNext(false)
+            }
+    }
+
+    private fun cursor(envelope: Envelope): String? =
+        if (isReversed)
+            envelope.pageInfoEnvelope()?.startCursor
+        else
+            envelope.pageInfoEnvelope()?.endCursor
+
     private fun keepMorePath(envelope: Envelope) {
         try {
             (
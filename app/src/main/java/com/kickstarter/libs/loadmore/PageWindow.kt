@@ -0,0 +1,89 @@
+package com.kickstarter.libs.loadmore
+
+/**
+ * Sliding window over the pages loaded by a cursor based paginator.
+ *
+ * At most [maxPages] pages are kept in memory. Loading a page past the end of the window evicts the first one,
+ * keeping only the cursor it was requested with, so it can be fetched again when scrolling back. Loading one of
+ * those evicted pages back evicts the last page of the window, which will be fetched again with the cursor of the
+ * page before it.
+ *
+ * Not thread safe, meant to be updated from a single serialized stream.
+ */
+class PageWindow<Data>(private val maxPages: Int) {
+
+    /**
+     * @param requestCursor the cursor the page was requested with, empty for the first page
+     * @param nextCursor the cursor to request the page after this one, null if this is the last page
+     */
+    data class Page<Data>(val requestCursor: String, val items: List<Data>, val nextCursor: String?)
+
+    private val pages = ArrayDeque<Page<Data>>()
+    private val evictedRequestCursors = ArrayDeque<String>()
+    private var endReached = false
+
+    init {
+        require(maxPages >= 2) { "A window needs at least two pages, got $maxPages" }
+    }
+
+    /**
+     * @return the cursor to request the page after the window, "" when the window is empty or null if the
+     * last page was reached
+     */
+    fun nextCursor(): String? = when {
+        endReached -> null
+        pages.isEmpty() -> ""
+        else -> pages.last().nextCursor
+    }
+
+    /**
+     * @return the cursor to request the last page evicted from the start of the window, null if none was evicted
+     */
+    fun previousCursor(): String? = evictedRequestCursors.lastOrNull()
+
+    fun hasEvictedPreviousPages(): Boolean = evictedRequestCursors.isNotEmpty()
+
+    /**
+     * Adds the page requested with [nextCursor] at the end of the window. An empty page marks the end of the data.
+     */
+    fun append(page: Page<Data>) {
+        if (page.items.isEmpty()) {
+            endReached = true
+            return
+        }
+
+        pages.addLast(page)
+        if (pages.size > maxPages) {
+            evictedRequestCursors.addLast(pages.removeFirst().requestCursor)
+        }
+    }
+
+    /**
+     * Restores the page requested with [previousCursor] at the start of the window.
+     */
+    fun prepend(page: Page<Data>) {
+        if (evictedRequestCursors.lastOrNull() != page.requestCursor) return
+
+        evictedRequestCursors.removeLast()
+        pages.addFirst(page)
+        if (pages.size > maxPages) {
+            pages.removeLast()
+            endReached = false
+        }
+    }
+
+    fun clear() {
+        pages.clear()
+        evictedRequestCursors.clear()
+        endReached = false
+    }
+
+    /**
+     * @param isReversed true when every page goes before the previously loaded ones, like in a chat
+     * @return the items of the pages within the window
+     */
+    fun items(isReversed: Boolean = false): List<Data> {
+        val ordered = if (isReversed) pages.reversed() else pages
+        return ordered.flatMap { it.items }
+    }
+}
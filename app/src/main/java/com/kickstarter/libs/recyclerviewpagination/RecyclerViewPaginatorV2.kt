@@ -16,8 +16,10 @@ class RecyclerViewPaginatorV2 {
     private val recyclerView: RecyclerView
     private val isScrollEnabled: Boolean
     private val nextPage: Action
+    private var previousPage: Action? = null
     private val isLoading: Observable<Boolean>
     private var subscription: Disposable? = null
+    private var previousPageSubscription: Disposable? = null
     private var retrySubscription: Disposable? = null
     private val retryLoadingNextPageSubject = PublishSubject.create<Unit>()
 
@@ -42,6 +44,24 @@ class RecyclerViewPaginatorV2 {
         start()
     }
 
+    /**
+     * Use along with a windowed paginator, [previousPage] runs when scrolling back to the top of the list
+     * so the pages evicted from the window can be loaded again.
+     */
+    constructor(
+        recyclerView: RecyclerView,
+        nextPage: Action,
+        previousPage: Action,
+        isLoading: Observable<Boolean>
+    ) {
+        this.recyclerView = recyclerView
+        this.nextPage = nextPage
+        this.previousPage = previousPage
+        this.isLoading = isLoading
+        isScrollEnabled = true
+        start()
+    }
+
     /**
      * Begin listening to the recycler view scroll events to determine
      * when pagination should happen.
@@ -85,6 +105,22 @@ class RecyclerViewPaginatorV2 {
                 }
             }
 
+        previousPage?.let { action ->
+            previousPageSubscription = scrollEvents(recyclerView)
+                .filter { Secrets.IS_OSS.isFalse() }
+                .map { recyclerView.layoutManager }
+                .ofType(LinearLayoutManager::class.java)
+                .map { it.findFirstVisibleItemPosition() }
+                .distinctUntilChanged()
+                .compose<Pair<Int, Boolean>>(combineLatestPair(isNotLoading))
+                .filter { it.first == 0 }
+                .subscribe {
+                    if (isScrollEnabled) {
+                        action.run()
+                    }
+                }
+        }
+
         retrySubscription = retryLoadingNextPageSubject
             .subscribe {
                 nextPage.run()
@@ -103,6 +139,7 @@ class RecyclerViewPaginatorV2 {
     fun stop() {
         this.recyclerView.clearOnScrollListeners()
         subscription?.dispose()
+        previousPageSubscription?.dispose()
         retrySubscription?.dispose()
     }
 
@@ -33,7 +33,8 @@ class ApiErrorOperatorV2<T>(private val gson: Gson?) : ObservableOperator<T, Res
             override fun onNext(response: Response<T>) {
                 if (!response.isSuccessful) {
                     val envelope: ErrorEnvelope? = try {
-                        gson?.fromJson(response.errorBody()?.string(), ErrorEnvelope::class.java)
+                        // - Stream the error body instead of materializing it as a String first
+                        response.errorBody()?.charStream()?.use { gson?.fromJson(it, ErrorEnvelope::class.java) }
                     } catch (e: Exception) {
                         null
                     }
@@ -0,0 +1,63 @@
+package com.kickstarter.libs.rx.operators
+
+import io.reactivex.Observable
+import io.reactivex.Single
+
+/**
+ * Fan-out/merge of several sources ordered by priority.
+ *
+ * Unlike `Observable.concat`, which waits for each source to complete before subscribing to the next one,
+ * all the sources are subscribed to at once. Their items are still merged in priority order: the items of
+ * the first source come first, then the ones of the second source, and so on, skipping duplicates.
+ *
+ * The result is emitted as soon as the sources that already completed, from the highest priority down,
+ * provide enough distinct items. The sources still running are then disposed of. A source that errors
+ * counts as a completed source without items.
+ */
+object PriorityFanOut {
+
+    /**
+     * @param sources the sources, in priority order
+     * @param count the number of distinct items needed
+     * @return the first [count] distinct items in priority order, or fewer if all the sources together
+     * do not have enough of them
+     */
+    @JvmStatic
+    fun <T : Any> firstDistinct(sources: List<Observable<T>>, count: Int): Single<List<T>> {
+        if (sources.isEmpty() || count <= 0) return Single.just(emptyList())
+
+        val completedSources = sources.mapIndexed { index, source ->
+            source
+                .toList()
+                .onErrorReturnItem(emptyList())
+                .map { IndexedValue(index, it.toList()) }
+                .toObservable()
+        }
+
+        return Observable.merge(completedSources)
+            .scan(arrayOfNulls<List<T>>(sources.size)) { results, completed ->
+                results.copyOf().apply { this[completed.index] = completed.value }
+            }
+            .skip(1)
+            .map { results -> resolve(results, count) }
+            .filter { it.isPresent }
+            .map { it.items }
+            .first(emptyList())
+    }
+
+    private class Resolution<T>(val items: List<T>, val isPresent: Boolean)
+
+    private fun <T> resolve(results: Array<List<T>?>, count: Int): Resolution<T> {
+        val items = LinkedHashSet<T>()
+        for (result in results) {
+            // - A higher priority source is still running, its items could still take precedence
+            if (result == null) return Resolution(items.toList(), false)
+
+            for (item in result) {
+                items.add(item)
+                if (items.size == count) return Resolution(items.toList(), true)
+            }
+        }
+        return Resolution(items.toList(), true)
+    }
+}
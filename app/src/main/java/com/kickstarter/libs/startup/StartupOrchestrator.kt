@@ -0,0 +1,121 @@
+package com.kickstarter.libs.startup
+
+import android.os.Handler
+import android.os.Looper
+import timber.log.Timber
+import java.util.concurrent.Executor
+
+/**
+ * Executes a graph of [StartupStep]s stage by stage, recording the time spent
+ * on every step into the given [StartupTrace].
+ *
+ * - [StartupStage.EAGER] steps run synchronously on the caller thread when [start] is called
+ * - [StartupStage.BACKGROUND] steps run sequentially on [backgroundExecutor]
+ * - [StartupStage.IDLE] steps run through [idleScheduler] once the background stage completed
+ *
+ * Within a stage, steps run in dependency order. Every failure is recorded in the trace. A failing
+ * [StartupStage.EAGER] step is rethrown, as the app cannot start without it, while a failing deferred
+ * step is only logged and does not stop the rest of the graph.
+ */
+class StartupOrchestrator @JvmOverloads constructor(
+    steps: List<StartupStep>,
+    private val trace: StartupTrace,
+    private val backgroundExecutor: Executor = defaultBackgroundExecutor(),
+    private val idleScheduler: (Runnable) -> Unit = ::runOnMainIdle
+) {
+    private val orderedSteps: Map<StartupStage, List<StartupStep>> =
+        sortByDependencies(steps).groupBy { it.stage }
+
+    fun start() {
+        runStage(StartupStage.EAGER)
+        backgroundExecutor.execute {
+            runStage(StartupStage.BACKGROUND)
+            idleScheduler(Runnable { runStage(StartupStage.IDLE) })
+        }
+    }
+
+    private fun runStage(stage: StartupStage) {
+        orderedSteps[stage]?.forEach { runStep(it) }
+    }
+
+    private fun runStep(step: StartupStep) {
+        val start = trace.now()
+        val error = try {
+            step.action()
+            null
+        } catch (e: Exception) {
+            Timber.e(e, "Startup step ${step.name} failed")
+            e
+        }
+
+        trace.record(
+            StartupStepTiming(
+                name = step.name,
+                stage = step.stage,
+                thread = Thread.currentThread().name,
+                startNanos = start,
+                durationNanos = trace.now() - start,
+                error = error
+            )
+        )
+
+        if (error != null && step.stage == StartupStage.EAGER) {
+            throw error
+        }
+    }
+
+    companion object {
+
+        /**
+         * Orders the steps so every step comes after its dependencies, keeping the
+         * declaration order otherwise. Fails fast on unknown, cyclic or
+         * later-stage dependencies, as those would be a programming error.
+         */
+        @JvmStatic
+        fun sortByDependencies(steps: List<StartupStep>): List<StartupStep> {
+            val byName = steps.associateBy { it.name }
+            require(byName.size == steps.size) { "Startup step names must be unique" }
+
+            steps.forEach { step ->
+                step.dependsOn.forEach { dependency ->
+                    val parent = requireNotNull(byName[dependency]) {
+                        "Startup step ${step.name} depends on unknown step $dependency"
+                    }
+                    require(parent.stage <= step.stage) {
+                        "Startup step ${step.name} (${step.stage}) cannot depend on ${parent.name} (${parent.stage})"
+                    }
+                }
+            }
+
+            val sorted = LinkedHashSet<StartupStep>()
+            val visiting = mutableSetOf<String>()
+
+            fun visit(step: StartupStep) {
+                if (sorted.contains(step)) return
+                check(visiting.add(step.name)) { "Startup step ${step.name} has a cyclic dependency" }
+                step.dependsOn.mapNotNull { byName[it] }.forEach { visit(it) }
+                visiting.remove(step.name)
+                sorted.add(step)
+            }
+
+            StartupStage.values().forEach { stage ->
+                steps.filter { it.stage == stage }.forEach { visit(it) }
+            }
+
+            return sorted.toList()
+        }
+
+        private fun defaultBackgroundExecutor(): Executor = Executor { runnable ->
+            Thread(runnable, "ks-startup").apply { priority = Thread.NORM_PRIORITY - 1 }.start()
+        }
+
+        private fun runOnMainIdle(runnable: Runnable) {
+            Handler(Looper.getMainLooper()).post {
+                Looper.myQueue().addIdleHandler {
+                    runnable.run()
+                    false
+                }
+            }
+        }
+    }
+}
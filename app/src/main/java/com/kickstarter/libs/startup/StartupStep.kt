@@ -0,0 +1,30 @@
+package com.kickstarter.libs.startup
+
+/**
+ * Stage in which a [StartupStep] is executed.
+ *
+ * Stages run in declaration order: every [EAGER] step completes before the first frame,
+ * [BACKGROUND] steps then run on a worker thread, and [IDLE] steps run on the main thread
+ * once its message queue is idle.
+ */
+enum class StartupStage {
+    EAGER,
+    BACKGROUND,
+    IDLE
+}
+
+/**
+ * Single unit of work executed while the application starts.
+ *
+ * @param name unique name of the step, also used as key in the [StartupTrace]
+ * @param stage the [StartupStage] the step belongs to
+ * @param dependsOn names of the steps that need to complete before this one,
+ * they must belong to the same or an earlier stage
+ * @param action the work to perform
+ */
+data class StartupStep(
+    val name: String,
+    val stage: StartupStage,
+    val dependsOn: List<String> = emptyList(),
+    val action: () -> Unit
+)
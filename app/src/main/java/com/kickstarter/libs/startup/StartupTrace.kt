@@ -0,0 +1,46 @@
+package com.kickstarter.libs.startup
+
+import java.util.Collections
+
+/**
+ * Timing recorded for a single executed [StartupStep].
+ */
+data class StartupStepTiming(
+    val name: String,
+    val stage: StartupStage,
+    val thread: String,
+    val startNanos: Long,
+    val durationNanos: Long,
+    val error: Throwable? = null
+) {
+    val durationMillis: Long
+        get() = durationNanos / 1_000_000
+}
+
+/**
+ * Thread safe record of the startup steps executed, in completion order.
+ */
+class StartupTrace(private val clock: () -> Long = System::nanoTime) {
+    private val timings = Collections.synchronizedList(mutableListOf<StartupStepTiming>())
+
+    fun now(): Long = clock()
+
+    fun record(timing: StartupStepTiming) {
+        timings.add(timing)
+    }
+
+    fun timings(): List<StartupStepTiming> = synchronized(timings) { timings.toList() }
+
+    fun timing(name: String): StartupStepTiming? = timings().firstOrNull { it.name == name }
+
+    fun executedSteps(): List<String> = timings().map { it.name }
+
+    fun executedSteps(stage: StartupStage): List<String> =
+        timings().filter { it.stage == stage }.map { it.name }
+
+    /**
+     * Sum of the time spent in the [StartupStage.EAGER] steps, the ones blocking the first frame.
+     */
+    fun criticalPathNanos(): Long =
+        timings().filter { it.stage == StartupStage.EAGER }.sumOf { it.durationNanos }
+}
@@ -19,6 +19,7 @@ import com.kickstarter.libs.utils.extensions.syncUserFeatureFlagsFromPref
 import com.kickstarter.services.ApiClientTypeV2
 import com.kickstarter.services.apiresponses.ErrorEnvelope
 import com.kickstarter.services.apiresponses.ErrorEnvelope.Companion.fromThrowable
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
 import io.reactivex.disposables.CompositeDisposable
 import javax.inject.Inject
 
@@ -38,6 +39,9 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
     @Inject
     lateinit var logout: Logout
 
+    @Inject
+    lateinit var refreshUserUseCase: RefreshUserUseCase
+
     @Inject
     lateinit var build: Build
 
@@ -114,13 +118,12 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
         val accessToken = currentUser.accessToken ?: ""
 
         if (accessToken.isNotNull() && accessToken.isNotEmpty()) {
-            client.fetchCurrentUser()
+            // - Shared with the screens refreshing the user as they open, see RefreshUserUseCase
+            refreshUserUseCase.fetch()
                 .doOnError {
                     forceLogout(it.message ?: "")
                 }
-                .subscribe { user ->
-                    currentUser.refresh(user)
-                }.addToDisposable(disposables)
+                .subscribe({}, {}).addToDisposable(disposables)
         }
     }
 
@@ -3,6 +3,7 @@ package com.kickstarter.libs.utils;
 import android.content.SharedPreferences;
 import android.util.Pair;
 
+import com.kickstarter.libs.PersistentCookieStore;
 import com.kickstarter.libs.RefTag;
 import com.kickstarter.libs.utils.extensions.DiscoveryParamsExtKt;
 import com.kickstarter.libs.utils.extensions.ProjectExt;
@@ -117,15 +118,21 @@ public final class RefTagUtils {
   }
 
   /**
-   * Stores the ref tag in a cookie and shared preference for the project.
+   * Stores the ref tag in a cookie for the project, and in a shared preference too unless the cookie store is
+   * persisted.
    */
   public static void storeCookie(final @NonNull RefTag refTag, final @NonNull Project project,
     final @NonNull CookieManager cookieManager, final @NonNull SharedPreferences sharedPreferences) {
 
     final HttpCookie cookie = buildCookieWithRefTagAndProject(refTag, project);
-    cookieManager.getCookieStore().add(null, cookie);
+    if (cookie == null) {
+      return;
+    }
+
+    final CookieStore cookieStore = cookieManager.getCookieStore();
+    cookieStore.add(null, cookie);
 
-    if (cookie != null) {
+    if (!(cookieStore instanceof PersistentCookieStore)) {
       final SharedPreferences.Editor editor = sharedPreferences.edit();
       editor.putString(cookie.getName(), cookie.getValue());
       editor.apply();
@@ -139,9 +146,25 @@ public final class RefTagUtils {
     final @NonNull CookieManager cookieManager, final @NonNull SharedPreferences sharedPreferences) {
 
     final String cookieName = cookieNameForProject(project);
+    final CookieStore cookieStore = cookieManager.getCookieStore();
+
+    if (cookieStore instanceof PersistentCookieStore) {
+      final HttpCookie cookie = ((PersistentCookieStore) cookieStore).find(cookieName);
+      if (cookie != null) {
+        return cookie;
+      }
+
+      // Moves the cookie stored in shared prefs by previous versions to the cookie store
+      final String cookieValue = sharedPreferences.getString(cookieName, null);
+      final HttpCookie storedCookie = cookieValue != null ? buildCookieWithValueAndProject(cookieValue, project) : null;
+      if (storedCookie != null) {
+        cookieStore.add(null, storedCookie);
+        sharedPreferences.edit().remove(cookieName).apply();
+      }
+      return storedCookie;
+    }
 
     // First try finding the cookie in the cookie store
-    final CookieStore cookieStore = cookieManager.getCookieStore();
     for (final HttpCookie cookie : cookieStore.getCookies()) {
       if (cookieName.equals(cookie.getName())) {
         return cookie;
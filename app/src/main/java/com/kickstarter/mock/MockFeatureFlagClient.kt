@@ -1,6 +1,5 @@
 package com.kickstarter.mock
 
-import android.app.Activity
 import com.google.firebase.remoteconfig.FirebaseRemoteConfig
 import com.kickstarter.libs.featureflag.FeatureFlagClientType
 import com.kickstarter.libs.featureflag.FlagKey
@@ -8,11 +7,11 @@ import com.kickstarter.libs.featureflag.FlagKey
 open class MockFeatureFlagClient : FeatureFlagClientType {
     override fun initialize(config: FirebaseRemoteConfig?) {}
 
-    override fun fetch(context: Activity) {}
+    override fun fetch() {}
 
-    override fun activate(context: Activity) {}
+    override fun activate() {}
 
-    override fun fetchAndActivate(context: Activity) {}
+    override fun fetchAndActivate() {}
 
     override fun getBoolean(FlagKey: FlagKey) = false
 
@@ -417,6 +417,8 @@ open class MockApiClientV2 : ApiClientTypeV2 {
         return Observable.just(user)
     }
 
+    override fun updateUserSettings(user: User, previous: User): Observable<User> = updateUserSettings(user)
+
     override fun verifyEmail(token: String): Observable<EmailVerificationEnvelope> {
         return Observable.just(
             builder()
@@ -0,0 +1,128 @@
+package com.kickstarter.services
+
+import com.kickstarter.libs.SnapshotStore
+import com.kickstarter.libs.utils.KsOptional
+import com.kickstarter.libs.utils.extensions.intValueOrZero
+import com.kickstarter.libs.utils.extensions.isNonZero
+import com.kickstarter.models.ErroredBacking
+import com.kickstarter.models.SurveyResponse
+import com.kickstarter.models.User
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
+import io.reactivex.Completable
+import io.reactivex.Observable
+import io.reactivex.functions.Function3
+import io.reactivex.schedulers.Schedulers
+import timber.log.Timber
+import java.util.EnumMap
+
+/**
+ * Loads the activity feed: the first page of activities, the unanswered surveys and the errored backings are requested
+ * concurrently and emitted together, once all of them answered, so the feed sections are displayed at once.
+ *
+ * The unseen activity is cleared along the way, and the last feed loaded is kept in the [snapshotStore] to be
+ * displayed while the next one loads.
+ */
+class ActivityFeedRepository @JvmOverloads constructor(
+    private val apiClient: ApiClientTypeV2,
+    private val apolloClient: ApolloClientTypeV2,
+    private val refreshUserUseCase: RefreshUserUseCase,
+    private val snapshotStore: SnapshotStore<Feed>?,
+    private val clock: () -> Long = { System.currentTimeMillis() }
+) {
+
+    enum class Source {
+        ACTIVITIES,
+        SURVEYS,
+        ERRORED_BACKINGS,
+        UNSEEN_ACTIVITY
+    }
+
+    /**
+     * A section is null when it was not requested or its request failed, the previous one should be kept.
+     */
+    data class Feed(
+        val activities: ActivityEnvelope? = null,
+        val surveys: List<SurveyResponse>? = null,
+        val erroredBackings: List<ErroredBacking>? = null
+    )
+
+    private val latencies = EnumMap<Source, Long>(Source::class.java)
+
+    /**
+     * @return the last feed loaded for [user], null if there is none
+     */
+    fun cached(user: User): Feed? = snapshotStore?.read(user.id().toString())?.data
+
+    /**
+     * @param user the logged in user, null to only load the activities
+     * @param withActivities false to only load the sections of the logged in user, like when the feed is resumed
+     */
+    fun load(user: User?, withActivities: Boolean): Observable<Feed> {
+        val activities = if (withActivities) timed(Source.ACTIVITIES, apiClient.fetchActivities()) else absent()
+        val surveys = if (user != null) timed(Source.SURVEYS, apiClient.fetchUnansweredSurveys()) else absent()
+        val erroredBackings = if (user != null) timed(Source.ERRORED_BACKINGS, apolloClient.erroredBackings()) else absent()
+
+        return Observable.zip(
+            activities,
+            surveys,
+            erroredBackings,
+            Function3 { a: KsOptional<ActivityEnvelope>, s: KsOptional<List<SurveyResponse>>, e: KsOptional<List<ErroredBacking>> ->
+                Feed(a.getValue(), s.getValue(), e.getValue())
+            }
+        )
+            .doOnNext { feed -> if (user != null) save(user, feed) }
+            .mergeWith(clearUnseenActivity(user))
+    }
+
+    /**
+     * @return the time the last request of each source took, in milliseconds
+     */
+    @Synchronized
+    fun latencies(): Map<Source, Long> = latencies.toMap()
+
+    /**
+     * Clears the unseen activity of [user], then fetches the user again as its unseen activity count changed.
+     */
+    private fun clearUnseenActivity(user: User?): Completable {
+        val unseen = user?.let { it.unseenActivityCount().intValueOrZero() + it.erroredBackingsCount().intValueOrZero() }
+        if (!unseen.isNonZero()) return Completable.complete()
+
+        return timed(Source.UNSEEN_ACTIVITY, apolloClient.clearUnseenActivity())
+            .filter { it.isPresent() }
+            .switchMap { refreshUserUseCase.fetch(force = true) }
+            .ignoreElements()
+            .onErrorComplete()
+    }
+
+    /**
+     * Only keeps the sections which loaded, over the previous feed.
+     */
+    private fun save(user: User, feed: Feed) {
+        val store = snapshotStore ?: return
+        Schedulers.io().scheduleDirect {
+            val previous = store.read(user.id().toString())?.data
+            store.write(
+                user.id().toString(),
+                Feed(
+                    activities = feed.activities ?: previous?.activities,
+                    surveys = feed.surveys ?: previous?.surveys,
+                    erroredBackings = feed.erroredBackings ?: previous?.erroredBackings
+                )
+            )
+        }
+    }
+
+    private fun <T> timed(source: Source, request: Observable<T>): Observable<KsOptional<T>> = Observable.defer {
+        val startedAt = clock()
+        request
+            .take(1)
+            .map { KsOptional.of(it) }
+            .doOnError { Timber.w(it, "Unable to load the activity feed $source") }
+            .onErrorReturn { KsOptional.empty() }
+            .defaultIfEmpty(KsOptional.empty())
+            .doOnNext { synchronized(this) { latencies[source] = clock() - startedAt } }
+    }
+
+    private fun <T> absent(): Observable<KsOptional<T>> = Observable.just(KsOptional.empty())
+}
@@ -129,6 +129,9 @@ public interface ApiClientTypeV2 {
   @NonNull
   Observable<User> updateUserSettings(final @NonNull User user);
 
+  @NonNull
+  Observable<User> updateUserSettings(final @NonNull User user, final @NonNull User previous);
+
   @NonNull
   Observable<EmailVerificationEnvelope> verifyEmail(final @NonNull String token);
 }
@@ -4,6 +4,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.kickstarter.libs.Config;
 import com.kickstarter.libs.rx.operators.ApiErrorOperatorV2;
@@ -51,6 +52,7 @@ import com.kickstarter.ui.data.MessageSubject;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import io.reactivex.Observable;
 import io.reactivex.schedulers.Schedulers;
@@ -472,8 +474,35 @@ public final class ApiClientV2 implements ApiClientTypeV2 {
   @Override
   public @NonNull Observable<User> updateUserSettings(final @NonNull User user) {
     return this.service
-      .updateUserSettings(
-        SettingsBody.builder()
+      .updateUserSettings(settingsBody(user))
+      .lift(apiErrorOperator())
+      .subscribeOn(Schedulers.io());
+  }
+
+  @Override
+  public @NonNull Observable<User> updateUserSettings(final @NonNull User user, final @NonNull User previous) {
+    final JsonObject settings = this.gson.toJsonTree(settingsBody(user)).getAsJsonObject();
+    final JsonObject previousSettings = this.gson.toJsonTree(settingsBody(previous)).getAsJsonObject();
+
+    final JsonObject changes = new JsonObject();
+    for (final Map.Entry<String, JsonElement> setting : settings.entrySet()) {
+      if (!setting.getValue().equals(previousSettings.get(setting.getKey()))) {
+        changes.add(setting.getKey(), setting.getValue());
+      }
+    }
+
+    if (changes.size() == 0) {
+      return Observable.just(user);
+    }
+
+    return this.service
+      .updateUserSettings(changes)
+      .lift(apiErrorOperator())
+      .subscribeOn(Schedulers.io());
+  }
+
+  private @NonNull SettingsBody settingsBody(final @NonNull User user) {
+    return SettingsBody.builder()
           .optedOutOfRecommendations(BoolenExtKt.isTrue(user.optedOutOfRecommendations()) ? 1 : 0)
           .notifyMobileOfBackings(BoolenExtKt.isTrue(user.notifyMobileOfBackings()))
           .notifyMobileOfComments(BoolenExtKt.isTrue(user.notifyMobileOfComments()))
@@ -505,9 +534,7 @@ public final class ApiClientV2 implements ApiClientTypeV2 {
           .showPublicProfile(BoolenExtKt.isTrue(user.showPublicProfile()) ? 1 : 0)
           .social(BoolenExtKt.isTrue(user.social()) ? 1 : 0)
           .weeklyNewsletter(BoolenExtKt.isTrue(user.weeklyNewsletter()) ? 1 : 0)
-          .build())
-      .lift(apiErrorOperator())
-      .subscribeOn(Schedulers.io());
+          .build();
   }
 
   @NonNull
@@ -47,6 +47,7 @@ import io.reactivex.Observable;
 import retrofit2.Response;
 import retrofit2.http.Body;
 import retrofit2.http.GET;
+import retrofit2.http.Headers;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
 import retrofit2.http.Path;
@@ -147,6 +148,7 @@ public interface ApiServiceV2 {
   @GET("/v1/projects/{project_param}/stats")
   Observable<Response<ProjectStatsEnvelope>> projectStats(@Path("project_param") String projectParam);
 
+  @Headers(RequestLane.HEADER + ": BACKGROUND")
   @POST("/v1/users/self/push_tokens")
   Observable<Response<JsonObject>> registerPushToken(@Body PushTokenBody body);
 
@@ -198,6 +200,9 @@ public interface ApiServiceV2 {
   @PUT("/v1/users/self")
   Observable<Response<User>> updateUserSettings(@Body SettingsBody body);
 
+  @PUT("/v1/users/self")
+  Observable<Response<User>> updateUserSettings(@Body JsonObject settings);
+
   @POST("/v1/users/self/verify_email")
   Observable<Response<EmailVerificationEnvelope>> verifyEmail(@Query("email_access_token") String token);
 }
@@ -0,0 +1,91 @@
+package com.kickstarter.services
+
+import android.os.Process
+import com.kickstarter.BuildConfig
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import timber.log.Timber
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Where and how long GraphQL responses are transformed into our own models, see `GraphQLTransformers`.
+ *
+ * Responses are transformed on [scheduler], a pool bounded by the number of cores instead of the unbounded IO one,
+ * so a burst of responses does not spin up more CPU bound threads than the device can run. The time spent
+ * transforming every operation is recorded and, on debug builds, transforms slower than [slowThresholdMillis]
+ * are logged.
+ */
+class GraphQLTransformations @JvmOverloads constructor(
+    val scheduler: Scheduler = defaultScheduler,
+    private val slowThresholdMillis: Long = SLOW_TRANSFORM_MILLIS,
+    private val reportSlowTransforms: Boolean = BuildConfig.DEBUG,
+    private val nanoClock: () -> Long = { System.nanoTime() }
+) {
+
+    /**
+     * Accumulated transform durations of an operation.
+     */
+    class Timing {
+        private val count = AtomicLong()
+        private val totalNanos = AtomicLong()
+        private val maxNanos = AtomicLong()
+
+        fun count(): Long = count.get()
+        fun totalMillis(): Long = TimeUnit.NANOSECONDS.toMillis(totalNanos.get())
+        fun maxMillis(): Long = TimeUnit.NANOSECONDS.toMillis(maxNanos.get())
+
+        internal fun record(nanos: Long) {
+            count.incrementAndGet()
+            totalNanos.addAndGet(nanos)
+            maxNanos.accumulateAndGet(nanos) { current, new -> maxOf(current, new) }
+        }
+    }
+
+    private val timings = ConcurrentHashMap<String, Timing>()
+
+    /**
+     * Runs [transform] and records its duration for [operationName].
+     */
+    fun <T> measure(operationName: String, transform: () -> T): T {
+        val start = nanoClock()
+        try {
+            return transform()
+        } finally {
+            val elapsed = nanoClock() - start
+            timings.getOrPut(operationName) { Timing() }.record(elapsed)
+
+            if (reportSlowTransforms && elapsed > TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis)) {
+                Timber.w("Slow GraphQL transform: $operationName took ${TimeUnit.NANOSECONDS.toMillis(elapsed)}ms")
+            }
+        }
+    }
+
+    /**
+     * @return the recorded durations of [operationName], null if it was never transformed
+     */
+    fun timing(operationName: String): Timing? = timings[operationName]
+
+    companion object {
+        const val SLOW_TRANSFORM_MILLIS = 16L
+
+        private val defaultScheduler: Scheduler by lazy {
+            val threads = Runtime.getRuntime().availableProcessors().coerceIn(1, 4)
+            Schedulers.from(Executors.newFixedThreadPool(threads, TransformThreadFactory()))
+        }
+    }
+
+    private class TransformThreadFactory : ThreadFactory {
+        private val count = AtomicInteger()
+
+        override fun newThread(runnable: Runnable): Thread =
+            Thread(
+                { Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND); runnable.run() },
+                "graphql-transform-${count.incrementAndGet()}"
+            ).apply { isDaemon = true }
+    }
+}
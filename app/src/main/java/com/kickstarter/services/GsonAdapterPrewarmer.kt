@@ -0,0 +1,45 @@
+package com.kickstarter.services
+
+import com.google.gson.Gson
+import com.kickstarter.libs.Config
+import com.kickstarter.models.Category
+import com.kickstarter.models.Project
+import com.kickstarter.models.User
+import com.kickstarter.services.apiresponses.AccessTokenEnvelope
+import com.kickstarter.services.apiresponses.ActivityEnvelope
+import com.kickstarter.services.apiresponses.CategoriesEnvelope
+import com.kickstarter.services.apiresponses.DiscoverEnvelope
+import com.kickstarter.services.apiresponses.ErrorEnvelope
+import com.kickstarter.services.apiresponses.MessageThreadsEnvelope
+import com.kickstarter.services.apiresponses.ProjectStatsEnvelope
+import com.kickstarter.services.apiresponses.UpdatesEnvelope
+
+/**
+ * Gson builds the reflective `TypeAdapter` of a type, walking every field of its object graph,
+ * the first time that type is parsed, and caches it for the lifetime of the [Gson] instance.
+ *
+ * Requesting the adapters of the REST envelopes ahead of time, from a background thread,
+ * moves that one-time cost out of the first responses the user is waiting for.
+ */
+object GsonAdapterPrewarmer {
+    @JvmField
+    val API_TYPES: List<Class<*>> = listOf(
+        Config::class.java,
+        User::class.java,
+        Project::class.java,
+        Category::class.java,
+        ErrorEnvelope::class.java,
+        AccessTokenEnvelope::class.java,
+        ActivityEnvelope::class.java,
+        CategoriesEnvelope::class.java,
+        DiscoverEnvelope::class.java,
+        MessageThreadsEnvelope::class.java,
+        ProjectStatsEnvelope::class.java,
+        UpdatesEnvelope::class.java
+    )
+
+    @JvmStatic
+    fun prewarm(gson: Gson) {
+        API_TYPES.forEach { gson.getAdapter(it) }
+    }
+}
@@ -50,7 +50,6 @@ import com.kickstarter.ValidateCheckoutQuery
 import com.kickstarter.WatchProjectMutation
 import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOverviewEnvelope
 import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOverviewQueryData
-import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isPresent
 import com.kickstarter.libs.utils.extensions.toBoolean
@@ -96,6 +95,7 @@ import com.kickstarter.services.transformers.getCreateOrUpdateBackingAddressMuta
 import com.kickstarter.services.transformers.getPledgedProjectsOverviewQuery
 import com.kickstarter.services.transformers.getTriggerThirdPartyEventMutation
 import com.kickstarter.services.transformers.pledgedProjectsOverviewEnvelopeTransformer
+import com.kickstarter.services.transformers.projectCardsTransformer
 import com.kickstarter.services.transformers.projectTransformer
 import com.kickstarter.services.transformers.rewardTransformer
 import com.kickstarter.services.transformers.shippingRulesListTransformer
@@ -109,8 +109,10 @@ import com.kickstarter.type.StripeIntentContextTypes
 import com.kickstarter.viewmodels.usecases.TPEventInputData
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.disposables.Disposable
 import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.PublishSubject
+import io.reactivex.subjects.ReplaySubject
 import java.nio.charset.Charset
 
 interface ApolloClientTypeV2 {
@@ -120,6 +122,11 @@ interface ApolloClientTypeV2 {
     fun createSetupIntent(project: Project? = null): Observable<String>
     fun savePaymentMethod(savePaymentMethodData: SavePaymentMethodData): Observable<StoredCard>
     fun getStoredCards(): Observable<List<StoredCard>>
+
+    /**
+     * Same as [getStoredCards], for cards requested ahead of the checkout: sent in the [RequestLane.PREFETCH] lane
+     */
+    fun prefetchStoredCards(): Observable<List<StoredCard>> = getStoredCards()
     fun deletePaymentSource(paymentSourceId: String): Observable<DeletePaymentSourceMutation.Data>
     fun createFlagging(
         project: Project? = null,
@@ -220,13 +227,48 @@ interface ApolloClientTypeV2 {
 private const val PAGE_SIZE = 25
 private const val REPLIES_PAGE_SIZE = 7
 
-class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClientTypeV2 {
+class KSApolloClientV2 @JvmOverloads constructor(
+    val service: ApolloClient,
+    val gson: Gson,
+    private val requestLanes: RequestLanes = RequestLanes(),
+    private val transformations: GraphQLTransformations = GraphQLTransformations()
+) : ApolloClientTypeV2 {
     private val disposables = CompositeDisposable()
 
     override fun cleanDisposables() {
         disposables.clear()
     }
 
+    /**
+     * For queries: ties the Apollo [call] feeding this subject to its subscriber, the call is cancelled as soon as the
+     * subscriber is disposed, like when the screen that made the request goes away, and forgotten once done.
+     */
+    private fun <T> PublishSubject<T>.cancelOnDispose(call: Disposable): Observable<T> {
+        disposables.add(call)
+        return this.doFinally { disposables.remove(call) }
+    }
+
+    /**
+     * For mutations: the Apollo [call] feeding this subject runs to completion even once its subscriber is disposed,
+     * a write is not dropped because the screen that made it went away. Only [cleanDisposables] cancels it.
+     */
+    private fun <T> PublishSubject<T>.runToCompletion(call: Disposable): Observable<T> {
+        disposables.add(call)
+        // - Observed here as the subscriber, once disposed, does not see the call terminate
+        this.subscribe({}, { disposables.delete(call) }, { disposables.delete(call) })
+        return this
+    }
+
+    /**
+     * Subscribes to this deferred mutation apart from its subscriber: disposing the subscriber while the mutation
+     * waits for its lane, see [RequestLanes.deferUntilIdle], does not drop it.
+     */
+    private fun <T> Observable<T>.sendOnceSubscribed(): Observable<T> = Observable.defer {
+        val result = ReplaySubject.create<T>()
+        this.subscribe(result)
+        result
+    }
+
     override fun getProject(project: Project): Observable<Project> {
         return getProject(project.slug() ?: "")
     }
@@ -235,9 +277,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<Project>()
             val query = FetchProjectQuery(slug)
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .subscribeOn(Schedulers.io())
                 .doOnError { throwable ->
                     ps.onError(throwable)
@@ -248,15 +291,15 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     } else {
                         response.data?.let { responseData ->
                             ps.onNext(
-                                projectTransformer(
-                                    responseData.project?.fullProject
-                                )
+                                transformations.measure(query.name()) {
+                                    projectTransformer(responseData.project?.fullProject)
+                                }
                             )
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -265,8 +308,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         cursor: String?
     ): Observable<DiscoverEnvelope> {
         val ps = PublishSubject.create<DiscoverEnvelope>()
-        this.service.query(query = buildFetchProjectsQuery(discoveryParams, cursor))
+        val call = this.service.query(query = buildFetchProjectsQuery(discoveryParams, cursor))
             .rxFlowable()
+            .observeOn(transformations.scheduler)
             .subscribeOn(Schedulers.io())
             .doOnError {
                 ps.onError(it)
@@ -276,8 +320,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     if (response.hasErrors()) ps.onError(java.lang.Exception(response.errors?.first()?.message))
                 } else {
                     response.data?.let { responseData ->
-                        val projects = responseData.projects?.edges?.map {
-                            projectTransformer(it?.node?.projectCard)
+                        val projects = responseData.projects?.edges?.let { edges ->
+                            transformations.measure(FetchProjectsQuery.OPERATION_NAME) {
+                                projectCardsTransformer(edges.map { it?.node?.projectCard })
+                            }
                         }
                         val pageInfoEnvelope =
                             responseData.projects?.pageInfo?.pageInfo?.let {
@@ -291,8 +337,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     }
                 }
                 ps.onComplete()
-            }.addToDisposable(disposables)
-        return ps
+            }
+        return ps.cancelOnDispose(call)
     }
 
     private fun buildFetchProjectsQuery(
@@ -319,8 +365,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 )
             } ?: CreateSetupIntentMutation(Optional.absent(), Optional.present(StripeIntentContextTypes.PROFILE_SETTINGS))
 
-            this.service.mutation(mutation)
+            val call = this.service.mutation(mutation)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .subscribeOn(Schedulers.io())
                 .doOnError {
                     ps.onError(it)
@@ -332,8 +379,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(response.data?.createSetupIntent?.clientSecret ?: "")
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -347,10 +394,11 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 reusable = if (savePaymentMethodData.reusable.isNotNull()) Optional.present(savePaymentMethodData.reusable) else Optional.absent(),
                 intentClientSecret = if (savePaymentMethodData.intentClientSecret.isNotNull()) Optional.present(savePaymentMethodData.intentClientSecret) else Optional.absent()
             )
-            service.mutation(
+            val call = service.mutation(
                 mutation
             )
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -370,19 +418,27 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(storedCard)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
-    override fun getStoredCards(): Observable<List<StoredCard>> {
+    override fun getStoredCards(): Observable<List<StoredCard>> = storedCards(RequestLane.INTERACTIVE)
+
+    override fun prefetchStoredCards(): Observable<List<StoredCard>> =
+        storedCards(RequestLane.PREFETCH)
+            .compose(requestLanes.deferUntilIdle<List<StoredCard>>(RequestLane.PREFETCH))
+
+    private fun storedCards(lane: RequestLane): Observable<List<StoredCard>> {
         return Observable.defer {
             val ps = PublishSubject.create<List<StoredCard>>()
 
             val query = UserPaymentsQuery()
-            this.service
+            val call = this.service
                 .query(query)
+                .let { if (lane == RequestLane.INTERACTIVE) it else it.addHttpHeader(RequestLane.HEADER, lane.name) }
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -406,8 +462,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(cardsList)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }
     }
 
@@ -418,10 +474,11 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 paymentSourceId = paymentSourceId,
             )
 
-            service.mutation(
+            val call = service.mutation(
                 mutation
             )
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -432,8 +489,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
                     response.data?.let { ps.onNext(it) }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -452,9 +509,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     kind = flagging
                 )
 
-                service.mutation(
+                val call = service.mutation(
                     mutation
                 ).rxSingle()
+                    .observeOn(transformations.scheduler)
                     .doOnError { throwable ->
                         ps.onError(throwable)
                     }
@@ -468,8 +526,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                             }
                         }
                         ps.onComplete()
-                    }.addToDisposable(disposables)
-                return@defer ps
+                    }
+                return@defer ps.runToCompletion(call)
             }
         }
     }
@@ -479,9 +537,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val ps = PublishSubject.create<UserPrivacy>()
             val query = UserPrivacyQuery()
 
-            service.query(
+            val call = service.query(
                 query = query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -490,8 +549,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(userPrivacyTransformer(it))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }
     }
 
@@ -501,9 +560,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val mutation = WatchProjectMutation(
                 id = encodeRelayId(project)
             )
-            this.service.mutation(
+            val call = this.service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -522,8 +582,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     )
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -533,9 +593,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val mutation = UnwatchProjectMutation(
                 id = encodeRelayId(project)
             )
-            this.service.mutation(
+            val call = this.service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -553,8 +614,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     )
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -571,8 +632,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 passwordConfirmation = confirmPassword
 
             )
-            service.mutation(mutation)
+            val call = service.mutation(mutation)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -584,8 +646,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(it)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -599,9 +661,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 email = email,
                 currentPassword = currentPassword
             )
-            service.mutation(
+            val call = service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -613,8 +676,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(data)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -622,9 +685,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<SendEmailVerificationMutation.Data>()
             val mutation = SendEmailVerificationMutation()
-            service.mutation(
+            val call = service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -636,8 +700,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(data)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -647,9 +711,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val mutation = UpdateUserCurrencyMutation(
                 chosenCurrency = currency
             )
-            service.mutation(
+            val call = service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -661,8 +726,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(it)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -673,9 +738,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetShippingRulesForRewardIdQuery(
                 rewardId = encodeRelayId(reward)
             )
-            this.service
+            val call = this.service
                 .query(query)
                 .rxFlowable()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -691,8 +757,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(shippingRulesListTransformer(shippingEnvelope))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -701,8 +767,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val ps = PublishSubject.create<List<Reward>>()
             val query = FetchProjectRewardsQuery(slug)
 
-            this.service.query(query)
+            val call = this.service.query(query)
                 .rxFlowable()
+                .observeOn(transformations.scheduler)
                 .subscribeOn(Schedulers.io())
                 .doOnError {
                     ps.onError(it)
@@ -712,16 +779,18 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onError(Exception(response.errors?.first()?.message))
                     }
                     response.data?.let { data ->
-                        val rwList: List<Reward?> = data.project?.rewards?.nodes?.map {
-                            it?.reward?.let { rwGr ->
-                                rewardTransformer(
-                                    rewardGr = rwGr,
-                                    allowedAddons = it.allowedAddons.pageInfo.startCursor?.isNotEmpty() ?: false,
-                                    rewardItems = complexRewardItemsTransformer(it.items?.rewardItems),
-                                    simpleShippingRules = it.simpleShippingRulesExpanded.filterNotNull()
-                                )
-                            }
-                        } ?: emptyList<Reward>()
+                        val rwList: List<Reward?> = transformations.measure(query.name()) {
+                            data.project?.rewards?.nodes?.map {
+                                it?.reward?.let { rwGr ->
+                                    rewardTransformer(
+                                        rewardGr = rwGr,
+                                        allowedAddons = it.allowedAddons.pageInfo.startCursor?.isNotEmpty() ?: false,
+                                        rewardItems = complexRewardItemsTransformer(it.items?.rewardItems),
+                                        simpleShippingRules = it.simpleShippingRulesExpanded.filterNotNull()
+                                    )
+                                }
+                            } ?: emptyList<Reward>()
+                        }
                         // - API does not provide the Reward no reward, we need to add it first
                         val minPledge = data.project?.minPledge?.toDouble() ?: 1.0
                         val modifiedRewards = rwList.filterNotNull().toMutableList()
@@ -729,8 +798,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(modifiedRewards.toList())
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }
     }
 
@@ -756,9 +825,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 locationId = encodeRelayId(locationId)
             )
 
-            this.service
+            val call = this.service
                 .query(query)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -771,8 +841,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(addOns)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }
     }
 
@@ -789,9 +859,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 intentClientSecret = if (updateBackingData.intentClientSecret.isNotNull()) Optional.present(updateBackingData.intentClientSecret) else Optional.absent()
             )
             val ps = PublishSubject.create<Checkout>()
-            service
+            val call = service
                 .mutation(mutation)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -816,8 +887,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(checkout)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -840,8 +911,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 refParam = if (createBackingData.refTag?.tag().isNotNull()) Optional.present(createBackingData.refTag?.tag()) else Optional.absent()
             )
 
-            this.service.mutation(mutation)
+            val call = this.service.mutation(mutation)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -870,8 +942,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(checkout)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -881,9 +953,11 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
             val mutation = getTriggerThirdPartyEventMutation(eventInput)
 
-            service
+            val call = service
                 .mutation(mutation)
+                .addHttpHeader(RequestLane.HEADER, RequestLane.BACKGROUND.name)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -898,9 +972,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     }
 
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+                }
+            return@defer ps.runToCompletion(call)
+        }.compose(requestLanes.deferUntilIdle<Pair<Boolean, String>>(RequestLane.BACKGROUND))
+            .sendOnceSubscribed()
     }
 
     override fun createPassword(
@@ -913,9 +988,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 password = password,
                 passwordConfirmation = confirmPassword
             )
-            service.mutation(
+            val call = service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -927,8 +1003,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(it)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -939,9 +1015,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = ProjectCreatorDetailsQuery(
                 slug = slug
             )
-            service.query(
+            val call = service.query(
                 query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -959,8 +1036,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }
     }
 
@@ -973,9 +1050,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 body = body
             )
 
-            service.mutation(
+            val call = service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -993,8 +1071,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     }
 
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1005,9 +1083,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 backingId = encodeRelayId(backing),
                 note = Optional.present(note)
             )
-            service.mutation(
+            val call = service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1020,8 +1099,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(success)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1031,9 +1110,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = FetchCategoryQuery(
                 categoryParam = categoryParam
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1046,8 +1126,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(category)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1057,9 +1137,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetBackingQuery(
                 backingId = backingId
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1069,17 +1150,17 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     } else {
                         response.data?.let {
                             it.backing?.let { backingFragments ->
-                                backingTransformer(
-                                    backingFragments.backing
-                                )?.let { backingObject ->
+                                transformations.measure(query.name()) {
+                                    backingTransformer(backingFragments.backing)
+                                }?.let { backingObject ->
                                     ps.onNext(backingObject)
                                 }
                             }
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1088,9 +1169,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetRootCategoriesQuery()
             val ps = PublishSubject.create<List<Category>>()
 
-            service.query(
+            val call = service.query(
                 query
             ).rxFlowable()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1115,8 +1197,7 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     }
                     ps.onComplete()
                 }
-                .addToDisposable(disposables)
-            return@defer ps
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1133,9 +1214,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 slug = slug,
                 limit = limit
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxFlowable()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1144,8 +1226,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onError(Exception(response.errors?.first()?.message))
                     } else {
                         response.data?.let { data ->
-                            val updates = data.project?.posts?.edges?.map {
-                                updateTransformer(it?.node?.post)
+                            val updates = transformations.measure(query.name()) {
+                                data.project?.posts?.edges?.map {
+                                    updateTransformer(it?.node?.post)
+                                }
                             }
                             val envelope = UpdatesGraphQlEnvelope.builder()
                                 .updates(updates)
@@ -1161,8 +1245,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1181,9 +1265,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetCommentQuery(
                 commentableId = commentableId
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1197,8 +1282,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1220,9 +1305,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 id = updateId,
                 limit = limit
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxFlowable()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1257,8 +1343,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1274,9 +1360,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 slug = slug,
                 limit = limit
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxFlowable()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1286,12 +1373,14 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     } else {
                         response.data?.let { data ->
                             data.project?.comments?.let { graphComments ->
-                                val comments = graphComments.edges?.map { edge ->
-                                    commentTransformer(
-                                        edge?.node?.comment
-                                    ).toBuilder()
-                                        .cursor(edge?.cursor)
-                                        .build()
+                                val comments = transformations.measure(query.name()) {
+                                    graphComments.edges?.map { edge ->
+                                        commentTransformer(
+                                            edge?.node?.comment
+                                        ).toBuilder()
+                                            .cursor(edge?.cursor)
+                                            .build()
+                                    }
                                 }
 
                                 val envelope = CommentEnvelope.builder()
@@ -1309,8 +1398,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1326,9 +1415,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 cursor = if (cursor.isNullOrBlank()) Optional.absent() else Optional.present(cursor),
                 pageSize = Optional.present(pageSize),
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxFlowable()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1341,8 +1431,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1370,9 +1460,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 clientMutationId = Optional.present(comment.clientMutationId),
                 body = comment.body
             )
-            this.service.mutation(
+            val call = this.service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1391,8 +1482,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         )
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1400,9 +1491,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<List<ErroredBacking>>()
             val query = ErroredBackingsQuery()
-            this.service
+            val call = this.service
                 .query(query)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1423,8 +1515,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(erroredBackings)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }
     }
 
@@ -1432,9 +1524,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<Int>()
             val mutation = ClearUserUnseenActivityMutation()
-            service.mutation(
+            val call = service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1447,8 +1540,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     } ?: ps.onError(Exception())
 
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1459,9 +1552,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val query = GetProjectBackingQuery(
                 slug = slug
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1471,17 +1565,17 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                     } else {
                         response.data?.let { data ->
                             data.project?.backing?.backing?.let { backingObj ->
-                                backingTransformer(
-                                    backingObj
-                                )?.let {
+                                transformations.measure(query.name()) {
+                                    backingTransformer(backingObj)
+                                }?.let {
                                     ps.onNext(it)
                                 }
                             }
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1500,9 +1594,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 locationId = if (createCheckoutData.locationId.isNotNull()) Optional.present(createCheckoutData.locationId) else Optional.absent(),
                 refParam = if (createCheckoutData.refTag?.tag().isNotNull()) Optional.present(createCheckoutData.refTag?.tag()) else Optional.absent()
             )
-            this.service.mutation(
+            val call = this.service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1526,8 +1621,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }.subscribeOn(Schedulers.io())
     }
 
@@ -1544,9 +1639,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 checkoutId = (Base64Utils.encodeUrlSafe(("Checkout-$checkoutId").toByteArray(Charset.defaultCharset()))),
                 backingId = Optional.present(backingId)
             )
-            this.service.mutation(
+            val call = this.service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1559,8 +1655,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         } ?: ps.onError(Exception("Client Secret was Null"))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1576,9 +1672,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 paymentIntentClientSecret = paymentIntentClientSecret,
                 paymentSourceId = paymentSourceId
             )
-            this.service.query(
+            val call = this.service.query(
                 query
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1595,8 +1692,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }
     }
 
@@ -1615,9 +1712,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 paymentSourceId = if (paymentSourceId.isNotNull()) Optional.present(paymentSourceId) else Optional.absent(),
                 paymentSourceReusable = Optional.present(paymentSourceReusable)
             )
-            this.service.mutation(
+            val call = this.service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1632,8 +1730,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         } ?: ps.onError(Exception("Checkout ID was null"))
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1642,8 +1740,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
             val ps = PublishSubject.create<Boolean>()
 
             val mutation = getCreateAttributionEventMutation(eventInput, gson)
-            service.mutation(mutation)
+            val call = service.mutation(mutation)
+                .addHttpHeader(RequestLane.HEADER, RequestLane.BACKGROUND.name)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1657,9 +1757,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(isSuccess)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+                }
+            return@defer ps.runToCompletion(call)
+        }.compose(requestLanes.deferUntilIdle<Boolean>(RequestLane.BACKGROUND))
+            .sendOnceSubscribed()
     }
 
     override fun createOrUpdateBackingAddress(eventInput: CreateOrUpdateBackingAddressData): Observable<Boolean> {
@@ -1668,8 +1769,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
             val mutation = getCreateOrUpdateBackingAddressMutation(eventInput)
 
-            service.mutation(mutation)
+            val call = service.mutation(mutation)
                 .rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1683,8 +1785,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(isSuccess)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1698,9 +1800,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                 stripePaymentMethodId = Optional.present(orderInput.stripePaymentMethodId),
                 paymentSourceReusable = Optional.present(orderInput.paymentSourceReusable)
             )
-            this.service.mutation(
+            val call = this.service.mutation(
                 mutation
             ).rxSingle()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1717,9 +1820,9 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         ps.onNext(payload)
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
+                }
 
-            return@defer ps
+            return@defer ps.runToCompletion(call)
         }
     }
 
@@ -1727,9 +1830,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         return Observable.defer {
             val ps = PublishSubject.create<PledgedProjectsOverviewEnvelope>()
 
-            this.service.query(
+            val call = this.service.query(
                 getPledgedProjectsOverviewQuery(inputData)
             ).rxFlowable()
+                .observeOn(transformations.scheduler)
                 .doOnError { throwable ->
                     ps.onError(throwable)
                 }
@@ -1746,8 +1850,8 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
                         }
                     }
                     ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
+                }
+            return@defer ps.cancelOnDispose(call)
         }.subscribeOn(Schedulers.io())
     }
 }
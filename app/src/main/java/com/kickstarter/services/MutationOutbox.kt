@@ -0,0 +1,284 @@
+package com.kickstarter.services
+
+import com.apollographql.apollo3.exception.ApolloHttpException
+import com.apollographql.apollo3.exception.ApolloNetworkException
+import com.google.gson.Gson
+import com.google.gson.reflect.TypeToken
+import com.kickstarter.models.Project
+import com.kickstarter.services.mutations.CreateAttributionEventData
+import com.kickstarter.viewmodels.usecases.TPEventInputData
+import io.reactivex.Observable
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import timber.log.Timber
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.Executors
+
+/**
+ * Persistent queue of the fire and forget GraphQL mutations that could not be sent, or do not need to be sent right
+ * away: attribution events, third party events and saving or unsaving projects.
+ *
+ * The queue is kept in memory and written to [file] after every change, so the mutations survive the process being
+ * killed. [scheduleDrain] is called whenever mutations are queued, in the app it enqueues a [MutationOutboxWorker]
+ * running [drain] once the network is available, with exponential backoff.
+ *
+ * Mutations are coalesced when possible: saving then unsaving a project before either was sent cancels both.
+ */
+class MutationOutbox @JvmOverloads constructor(
+    private val file: File,
+    private val gson: Gson,
+    private val scheduleDrain: () -> Unit = {},
+    private val clock: () -> Long = { System.currentTimeMillis() },
+    private val diskScheduler: Scheduler = Schedulers.from(Executors.newSingleThreadExecutor())
+) {
+
+    enum class Kind {
+        ATTRIBUTION_EVENT,
+        THIRD_PARTY_EVENT,
+        WATCH_PROJECT,
+        UNWATCH_PROJECT
+    }
+
+    /**
+     * @param key the project id for [Kind.WATCH_PROJECT] and [Kind.UNWATCH_PROJECT]
+     * @param payload JSON of the mutation input for the events
+     */
+    data class Entry(
+        val id: Long,
+        val kind: Kind,
+        val key: String,
+        val payload: String,
+        val enqueuedAtMillis: Long,
+        val attempts: Int = 0
+    )
+
+    private enum class Outcome { SENT, DROPPED, RETRY }
+
+    private var entries: MutableList<Entry>? = null
+    private var nextId = 0L
+    private val sending = HashSet<Long>()
+
+    fun enqueueAttributionEvent(eventInput: CreateAttributionEventData) =
+        enqueue(Kind.ATTRIBUTION_EVENT, "", gson.toJson(eventInput))
+
+    fun enqueueThirdPartyEvent(eventInput: TPEventInputData) =
+        enqueue(Kind.THIRD_PARTY_EVENT, "", gson.toJson(eventInput))
+
+    /**
+     * Queues saving, or unsaving, the project [projectId]. If the opposite mutation is still queued both cancel out.
+     */
+    fun enqueueWatch(projectId: Long, watch: Boolean) {
+        val kind = if (watch) Kind.WATCH_PROJECT else Kind.UNWATCH_PROJECT
+        val key = projectId.toString()
+
+        synchronized(this) {
+            val queued = load()
+            val pending = queued.lastOrNull { it.key == key && it.kind.isWatch() }
+            when {
+                pending?.kind == kind -> return
+                // - Already being sent, too late to cancel it
+                pending == null || sending.contains(pending.id) -> queued.add(newEntry(kind, key, ""))
+                else -> queued.remove(pending)
+            }
+            save(queued)
+        }
+        scheduleDrain()
+    }
+
+    /**
+     * @return true if a save or unsave of [projectId] is queued, later changes need to be queued after it
+     */
+    @Synchronized
+    fun hasPendingWatch(projectId: Long): Boolean =
+        load().any { it.key == projectId.toString() && it.kind.isWatch() }
+
+    /**
+     * Saves or unsaves [project], queuing the mutation if the network is not available or if a previous one is
+     * still queued. The queued mutations emit the project as it will be once they are sent.
+     */
+    fun watch(apolloClient: ApolloClientTypeV2, project: Project, watch: Boolean): Observable<Project> {
+        val queued = Observable.fromCallable {
+            enqueueWatch(project.id(), watch)
+            project.toBuilder()
+                .isStarred(watch)
+                .watchesCount(maxOf(0, project.watchesCount() + if (watch) 1 else -1))
+                .build()
+        }
+
+        return Observable.defer {
+            if (hasPendingWatch(project.id())) return@defer queued
+
+            val request = if (watch) apolloClient.watchProject(project) else apolloClient.unWatchProject(project)
+            request.onErrorResumeNext { throwable: Throwable ->
+                if (isRetryable(throwable)) queued else Observable.error(throwable)
+            }
+        }
+    }
+
+    /**
+     * Removes the saves and unsaves, they belong to the user logging out.
+     */
+    fun clearWatches() {
+        synchronized(this) {
+            val queued = load()
+            if (!queued.removeAll { it.kind.isWatch() }) return
+            save(queued)
+        }
+    }
+
+    @Synchronized
+    fun size(): Int = load().size
+
+    /**
+     * Schedules a drain if mutations were left queued by a previous process.
+     */
+    fun drainIfPending() {
+        if (size() > 0) scheduleDrain()
+    }
+
+    /**
+     * Sends the queued mutations, [MAX_BATCH_SIZE] at a time, each in its own request in the background lane.
+     * Mutations failing for another reason than the network are dropped, as well as the ones that failed
+     * [MAX_ATTEMPTS] times.
+     *
+     * Blocks until done, must not be called from the main thread.
+     * @return false if some mutations are still queued and the drain should be retried later
+     */
+    fun drain(apolloClient: ApolloClientTypeV2): Boolean {
+        while (true) {
+            val batch = synchronized(this) {
+                load().take(MAX_BATCH_SIZE).also { batch -> sending.addAll(batch.map { it.id }) }
+            }
+            if (batch.isEmpty()) return true
+
+            val outcomes = Observable.fromIterable(batch)
+                .flatMap { entry -> send(apolloClient, entry).map { entry.id to it } }
+                .toMap({ it.first }, { it.second })
+                .blockingGet()
+
+            val retry = synchronized(this) {
+                val queued = load()
+                var retry = false
+                batch.forEach { entry ->
+                    sending.remove(entry.id)
+                    val index = queued.indexOfFirst { it.id == entry.id }
+                    if (index < 0) return@forEach
+
+                    when (outcomes[entry.id] ?: Outcome.RETRY) {
+                        Outcome.SENT, Outcome.DROPPED -> queued.removeAt(index)
+                        Outcome.RETRY -> {
+                            retry = true
+                            if (entry.attempts + 1 >= MAX_ATTEMPTS) {
+                                queued.removeAt(index)
+                            } else {
+                                queued[index] = entry.copy(attempts = entry.attempts + 1)
+                            }
+                        }
+                    }
+                }
+                save(queued)
+                retry
+            }
+
+            if (retry) return false
+        }
+    }
+
+    private fun send(apolloClient: ApolloClientTypeV2, entry: Entry): Observable<Outcome> {
+        val request: Observable<*> = try {
+            when (entry.kind) {
+                Kind.ATTRIBUTION_EVENT ->
+                    apolloClient.createAttributionEvent(gson.fromJson(entry.payload, CreateAttributionEventData::class.java))
+                Kind.THIRD_PARTY_EVENT ->
+                    apolloClient.triggerThirdPartyEvent(gson.fromJson(entry.payload, TPEventInputData::class.java))
+                Kind.WATCH_PROJECT ->
+                    apolloClient.watchProject(Project.builder().id(entry.key.toLong()).build())
+                Kind.UNWATCH_PROJECT ->
+                    apolloClient.unWatchProject(Project.builder().id(entry.key.toLong()).build())
+            }
+        } catch (e: Exception) {
+            // - Written by an incompatible version of the inputs
+            Timber.e(e, "Unable to read queued mutation ${entry.kind}")
+            return Observable.just(Outcome.DROPPED)
+        }
+
+        return request
+            .ignoreElements()
+            .toSingleDefault(Outcome.SENT)
+            .onErrorReturn { if (isRetryable(it)) Outcome.RETRY else Outcome.DROPPED }
+            .toObservable()
+    }
+
+    private fun enqueue(kind: Kind, key: String, payload: String) {
+        synchronized(this) {
+            val queued = load()
+            queued.add(newEntry(kind, key, payload))
+            // - Drops the oldest mutations rather than growing without bounds while offline
+            while (queued.size > MAX_ENTRIES) queued.removeAt(0)
+            save(queued)
+        }
+        scheduleDrain()
+    }
+
+    private fun newEntry(kind: Kind, key: String, payload: String) = Entry(nextId++, kind, key, payload, clock())
+
+    private fun load(): MutableList<Entry> {
+        entries?.let { return it }
+
+        val loaded: MutableList<Entry> = try {
+            if (file.exists()) {
+                @Suppress("SENSELESS_COMPARISON")
+                file.reader(Charsets.UTF_8).use { gson.fromJson<List<Entry>>(it, entriesType) }
+                    // - Kinds removed since the entry was written are read as null
+                    ?.filter { it.kind != null }
+                    ?.toMutableList()
+                    ?: mutableListOf()
+            } else {
+                mutableListOf()
+            }
+        } catch (e: Exception) {
+            Timber.e(e, "Unable to read the mutation outbox")
+            file.delete()
+            mutableListOf()
+        }
+
+        nextId = (loaded.maxOfOrNull { it.id } ?: -1L) + 1
+        entries = loaded
+        return loaded
+    }
+
+    private fun save(queued: List<Entry>) {
+        val snapshot = queued.toList()
+        diskScheduler.scheduleDirect {
+            try {
+                file.parentFile?.mkdirs()
+                val temporary = File(file.path + ".tmp")
+                temporary.writer(Charsets.UTF_8).use { gson.toJson(snapshot, entriesType, it) }
+                if (!temporary.renameTo(file)) temporary.delete()
+            } catch (e: IOException) {
+                Timber.e(e, "Unable to save the mutation outbox")
+            }
+        }
+    }
+
+    private fun Kind.isWatch() = this == Kind.WATCH_PROJECT || this == Kind.UNWATCH_PROJECT
+
+    companion object {
+        const val MAX_ENTRIES = 500
+        const val MAX_BATCH_SIZE = 10
+        const val MAX_ATTEMPTS = 10
+
+        private val entriesType = object : TypeToken<List<Entry>>() {}.type
+
+        /**
+         * @return true if [throwable] is a network failure, or a server error, worth sending the mutation again for
+         */
+        @JvmStatic
+        fun isRetryable(throwable: Throwable): Boolean = when (throwable) {
+            is ApolloNetworkException, is IOException -> true
+            is ApolloHttpException -> throwable.statusCode >= 500
+            else -> false
+        }
+    }
+}
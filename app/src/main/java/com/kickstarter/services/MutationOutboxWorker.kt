@@ -0,0 +1,54 @@
+package com.kickstarter.services
+
+import android.content.Context
+import androidx.work.BackoffPolicy
+import androidx.work.ExistingWorkPolicy
+import androidx.work.OneTimeWorkRequestBuilder
+import androidx.work.WorkManager
+import androidx.work.Worker
+import androidx.work.WorkerParameters
+import com.kickstarter.KSApplication
+import com.kickstarter.libs.qualifiers.ApplicationContext
+import com.kickstarter.libs.utils.WorkUtils
+import java.util.concurrent.TimeUnit
+import javax.inject.Inject
+
+/**
+ * Sends the mutations queued in the [MutationOutbox] once the network is available, retrying with exponential
+ * backoff while some are left.
+ */
+class MutationOutboxWorker(@ApplicationContext applicationContext: Context, params: WorkerParameters) : Worker(applicationContext, params) {
+
+    @Inject
+    lateinit var apolloClient: ApolloClientTypeV2
+
+    @Inject
+    lateinit var mutationOutbox: MutationOutbox
+
+    override fun doWork(): Result {
+        (applicationContext as KSApplication).component().inject(this)
+        return if (mutationOutbox.drain(apolloClient)) Result.success() else Result.retry()
+    }
+
+    companion object {
+        private const val DRAIN_MUTATION_OUTBOX = "drain_mutation_outbox"
+        private const val BACKOFF_DELAY = 30L
+        // - Gives the mutations queued in a burst, like the attribution events, time to be drained by the same work
+        private const val BATCH_DELAY = 5L
+
+        /**
+         * Schedules a drain, unless one is already scheduled, which will send the mutations queued since.
+         */
+        @JvmStatic
+        fun schedule(context: Context) {
+            val request = OneTimeWorkRequestBuilder<MutationOutboxWorker>()
+                .setInitialDelay(BATCH_DELAY, TimeUnit.SECONDS)
+                .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, BACKOFF_DELAY, TimeUnit.SECONDS)
+                .setConstraints(WorkUtils.baseConstraints)
+                .build()
+
+            WorkManager.getInstance(context)
+                .enqueueUniqueWork(DRAIN_MUTATION_OUTBOX, ExistingWorkPolicy.KEEP, request)
+        }
+    }
+}
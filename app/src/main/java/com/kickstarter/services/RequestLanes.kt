@@ -0,0 +1,78 @@
+package com.kickstarter.services
+
+import io.reactivex.Observable
+import io.reactivex.ObservableTransformer
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import io.reactivex.subjects.BehaviorSubject
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * How urgent a request is:
+ * - [INTERACTIVE] the user is waiting for it, the default for every untagged request
+ * - [PREFETCH] data the user is likely to need soon
+ * - [BACKGROUND] fire and forget work, like analytics or push token registration
+ */
+enum class RequestLane {
+    INTERACTIVE,
+    PREFETCH,
+    BACKGROUND;
+
+    companion object {
+        /**
+         * Header tagging the lane of a request, removed by `RequestLaneInterceptor` before the request is sent.
+         */
+        const val HEADER = "X-KS-Request-Lane"
+
+        @JvmStatic
+        fun fromHeader(value: String?): RequestLane = values().firstOrNull { it.name == value } ?: INTERACTIVE
+    }
+}
+
+/**
+ * Keeps track of the requests in flight per [RequestLane], so the less urgent ones can wait for the more urgent ones
+ * to be done, see [deferUntilIdle].
+ */
+class RequestLanes @JvmOverloads constructor(
+    private val maxDeferralMillis: Long = MAX_DEFERRAL_MILLIS,
+    private val scheduler: Scheduler = Schedulers.computation()
+) {
+    private val inFlight = RequestLane.values().map { AtomicInteger() }
+    private val changes = BehaviorSubject.createDefault(Unit)
+
+    fun started(lane: RequestLane) {
+        inFlight[lane.ordinal].incrementAndGet()
+        changes.onNext(Unit)
+    }
+
+    fun finished(lane: RequestLane) {
+        inFlight[lane.ordinal].decrementAndGet()
+        changes.onNext(Unit)
+    }
+
+    fun inFlight(lane: RequestLane): Int = inFlight[lane.ordinal].get()
+
+    /**
+     * @return true if no request more urgent than [lane] is in flight
+     */
+    fun isIdleFor(lane: RequestLane): Boolean =
+        RequestLane.values().filter { it.ordinal < lane.ordinal }.all { inFlight(it) == 0 }
+
+    /**
+     * Delays the subscription to the upstream until no request more urgent than [lane] is in flight, or at most
+     * [maxDeferralMillis] so busy screens do not starve the less urgent requests.
+     */
+    fun <T> deferUntilIdle(lane: RequestLane): ObservableTransformer<T, T> = ObservableTransformer { upstream ->
+        if (lane == RequestLane.INTERACTIVE) return@ObservableTransformer upstream
+
+        val idle = changes.filter { isIdleFor(lane) }
+        val timeout = Observable.timer(maxDeferralMillis, TimeUnit.MILLISECONDS, scheduler).map { Unit }
+
+        upstream.delaySubscription(Observable.merge(idle, timeout).take(1))
+    }
+
+    companion object {
+        const val MAX_DEFERRAL_MILLIS = 3_000L
+    }
+}
@@ -0,0 +1,62 @@
+package com.kickstarter.services
+
+import com.kickstarter.libs.SnapshotStore
+import com.kickstarter.models.Update
+import io.reactivex.Maybe
+import io.reactivex.Observable
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+
+/**
+ * Keeps the project updates opened, without their body, in the [snapshotStore] keyed by update id. The web view loads
+ * the update page from its url, the update itself only gives the sequence, the share link and the comments, so a
+ * stored update is used as is, without the fetchUpdate request. The store keeps the [MAX_STORED_UPDATES] last used
+ * ones.
+ *
+ * The updates following the one opened from the updates list are stored ahead with [prefetch], the list already
+ * carries them, so moving on to the next update makes no request.
+ */
+class UpdatesRepository @JvmOverloads constructor(
+    private val apiClient: ApiClientTypeV2,
+    private val snapshotStore: SnapshotStore<Update>?,
+    private val ioScheduler: Scheduler = Schedulers.io()
+) {
+
+    /**
+     * Emits the stored update, or the update fetched when there is none.
+     */
+    fun update(projectParam: String, updateParam: String): Observable<Update> {
+        val fetched = apiClient.fetchUpdate(projectParam, updateParam)
+            .doOnNext { save(listOf(it)) }
+
+        val updateId = updateParam.toLongOrNull()
+        val store = snapshotStore
+        if (updateId == null || store == null) return fetched
+
+        return Maybe.fromCallable<Update> { store.read(updateId.toString())?.data }
+            .subscribeOn(ioScheduler)
+            .toObservable()
+            .switchIfEmpty(fetched)
+    }
+
+    /**
+     * Stores the [count] updates following [update] in [updates].
+     */
+    fun prefetch(updates: List<Update>, update: Update, count: Int = PREFETCH_COUNT) {
+        val index = updates.indexOfFirst { it.id() == update.id() }
+        if (index < 0) return
+        save(updates.subList(index, minOf(index + 1 + count, updates.size)))
+    }
+
+    private fun save(updates: List<Update>) {
+        val store = snapshotStore ?: return
+        if (updates.isEmpty()) return
+        // - The body is never displayed from the store
+        ioScheduler.scheduleDirect { updates.forEach { store.write(it.id().toString(), it.toBuilder().body(null).build()) } }
+    }
+
+    companion object {
+        const val PREFETCH_COUNT = 3
+        const val MAX_STORED_UPDATES = 50
+    }
+}
@@ -0,0 +1,29 @@
+package com.kickstarter.services.interceptors
+
+import com.kickstarter.services.RequestLane
+import com.kickstarter.services.RequestLanes
+import okhttp3.Interceptor
+import okhttp3.Interceptor.Chain
+import okhttp3.Response
+import java.io.IOException
+
+/**
+ * Counts the requests in flight per [RequestLane], read from the [RequestLane.HEADER] header, which is removed
+ * before the request is sent. Untagged requests are [RequestLane.INTERACTIVE].
+ */
+class RequestLaneInterceptor(private val requestLanes: RequestLanes) : Interceptor {
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Chain): Response {
+        val original = chain.request()
+        val lane = RequestLane.fromHeader(original.header(RequestLane.HEADER))
+        val request = original.newBuilder().removeHeader(RequestLane.HEADER).build()
+
+        requestLanes.started(lane)
+        try {
+            return chain.proceed(request)
+        } finally {
+            requestLanes.finished(lane)
+        }
+    }
+}
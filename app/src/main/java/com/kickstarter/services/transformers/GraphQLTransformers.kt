@@ -539,20 +539,52 @@ fun userPrivacyTransformer(userPrivacy: UserPrivacyQuery.Me): UserPrivacy {
  * @param fragment.ProjectCard projectFragment
  * @return Project
  */
-fun projectTransformer(projectFragment: ProjectCard?): Project {
+fun projectTransformer(projectFragment: ProjectCard?): Project =
+    projectCardTransformer(projectFragment, ProjectCardSharedObjects())
+
+/**
+ * Transform a page of ProjectCard GraphQL data structures into our own Project data model.
+ * The categories, locations and users repeated across the cards of the page, like the friends backing
+ * several of them, are transformed once and the same instances shared between the projects.
+ * Every card is still transformed into a full Project, nothing is deferred until the card is opened.
+ * @param projectFragments the cards within the page
+ * @return List<Project>
+ */
+fun projectCardsTransformer(projectFragments: List<ProjectCard?>): List<Project> {
+    val sharedObjects = ProjectCardSharedObjects()
+    return projectFragments.map { projectCardTransformer(it, sharedObjects) }
+}
+
+/**
+ * Already transformed nested objects, keyed by their relay id.
+ */
+private class ProjectCardSharedObjects {
+    private val categories = HashMap<String, Category>()
+    private val locations = HashMap<String, Location>()
+    private val users = HashMap<String, User>()
+
+    fun category(fragment: com.kickstarter.fragment.Category): Category =
+        categories.getOrPut(fragment.id) { categoryTransformer(fragment) }
+
+    fun location(fragment: com.kickstarter.fragment.Location?): Location =
+        fragment?.let { locations.getOrPut(it.id) { locationTransformer(it) } } ?: locationTransformer(null)
+
+    fun user(fragment: com.kickstarter.fragment.User?): User =
+        fragment?.let { users.getOrPut(it.id) { userTransformer(it) } } ?: userTransformer(null)
+}
+
+private fun projectCardTransformer(projectFragment: ProjectCard?, sharedObjects: ProjectCardSharedObjects): Project {
     val backersCount = projectFragment?.backersCount ?: 0
     val blurb = projectFragment?.description ?: ""
-    val category = if (projectFragment?.category?.category != null) {
-        categoryTransformer(projectFragment.category.category)
-    } else null
+    val category = projectFragment?.category?.category?.let { sharedObjects.category(it) }
     val country = projectFragment?.country?.country?.name ?: ""
     val createdAt = projectFragment?.createdAt
-    val creator = userTransformer(projectFragment?.creator?.user)
+    val creator = sharedObjects.user(projectFragment?.creator?.user)
     val currencySymbol = projectFragment?.goal?.amount?.symbol
     val prelaunchActivated = projectFragment?.prelaunchActivated
     val featuredAt = projectFragment?.projectOfTheDayAt
     val friends =
-        projectFragment?.friends?.nodes?.map { userTransformer(it?.user) }
+        projectFragment?.friends?.nodes?.map { sharedObjects.user(it?.user) }
             ?: emptyList()
     val pledged = projectFragment?.pledged?.amount?.amount?.toDouble() ?: 0.0
     val fxRate = projectFragment?.fxRate?.toFloat()
@@ -562,7 +594,7 @@ fun projectTransformer(projectFragment: ProjectCard?): Project {
     val isBacking = projectFragment?.backing?.id?.let { true } ?: false
     val isStarred = projectFragment?.isWatched ?: false
     val launchedAt = projectFragment?.launchedAt
-    val location = locationTransformer(projectFragment?.location?.location)
+    val location = sharedObjects.location(projectFragment?.location?.location)
     val name = projectFragment?.name
     val photoUrl = projectFragment?.full?.image?.url
     val photo = getPhoto(photoUrl)
@@ -216,7 +216,12 @@ class CommentsActivity :
     }
     private fun setupPagination() {
 
-        recyclerViewPaginator = RecyclerViewPaginatorV2(binding.commentsRecyclerView, { viewModel.inputs.nextPage() }, viewModel.outputs.isFetchingComments())
+        recyclerViewPaginator = RecyclerViewPaginatorV2(
+            binding.commentsRecyclerView,
+            { viewModel.inputs.nextPage() },
+            { viewModel.inputs.previousPage() },
+            viewModel.outputs.isFetchingComments()
+        )
 
         binding.commentsSwipeRefreshLayout.setOnRefreshListener {
             viewModel.inputs.checkIfThereAnyPendingComments(false)
@@ -242,7 +242,7 @@ class DiscoveryActivity : AppCompatActivity() {
     }
 
     private fun activateFeatureFlags(environment: Environment) {
-        environment.featureFlagClient()?.activate(this)
+        environment.featureFlagClient()?.activate()
     }
 
     fun discoveryLayout(): DrawerLayout {
@@ -11,6 +11,7 @@ import android.content.res.Configuration
 import android.graphics.Rect
 import android.net.Uri
 import android.os.Bundle
+import android.os.SystemClock
 import android.util.Pair
 import android.view.MotionEvent
 import android.view.View
@@ -36,6 +37,7 @@ import androidx.compose.ui.platform.ViewCompositionStrategy
 import androidx.core.content.ContextCompat
 import androidx.core.view.ViewCompat
 import androidx.core.view.WindowInsetsCompat
+import androidx.core.view.doOnPreDraw
 import androidx.core.view.isGone
 import androidx.fragment.app.FragmentManager
 import androidx.lifecycle.compose.collectAsStateWithLifecycle
@@ -52,6 +54,7 @@ import com.kickstarter.libs.MessagePreviousScreenType
 import com.kickstarter.libs.ProjectPagerTabs
 import com.kickstarter.libs.featureflag.FeatureFlagClientType
 import com.kickstarter.libs.featureflag.FlagKey
+import com.kickstarter.libs.htmlparser.StoryViewElementsCache
 import com.kickstarter.libs.utils.ApplicationUtils
 import com.kickstarter.libs.utils.UrlUtils
 import com.kickstarter.libs.utils.ViewUtils
@@ -104,10 +107,13 @@ import com.stripe.android.paymentsheet.PaymentSheet
 import com.stripe.android.paymentsheet.PaymentSheetResult
 import com.stripe.android.paymentsheet.model.PaymentOption
 import com.stripe.android.view.CardInputWidget
+import io.reactivex.Completable
 import io.reactivex.android.schedulers.AndroidSchedulers
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.schedulers.Schedulers
 import kotlinx.coroutines.launch
+import timber.log.Timber
+import kotlin.math.abs
 
 const val REFRESH = "refresh"
 
@@ -145,6 +151,10 @@ class ProjectPageActivity :
 
     private var disposables = CompositeDisposable()
 
+    private var storyViewElementsCache: StoryViewElementsCache? = null
+    private var createdAtNanos = 0L
+    private var isInteractive = false
+
     private val pagerAdapterList = mutableListOf(
         ProjectPagerTabs.OVERVIEW,
         ProjectPagerTabs.CAMPAIGN,
@@ -164,6 +174,7 @@ class ProjectPageActivity :
         }
 
     override fun onCreate(savedInstanceState: Bundle?) {
+        createdAtNanos = SystemClock.elapsedRealtimeNanos()
         super.onCreate(savedInstanceState)
         binding = ActivityProjectPageBinding.inflate(layoutInflater)
         WindowInsetsUtil.manageEdgeToEdge(
@@ -180,11 +191,12 @@ class ProjectPageActivity :
             addOnsViewModelFactory = AddOnsViewModel.Factory(env)
             latePledgeCheckoutViewModelFactory = LatePledgeCheckoutViewModel.Factory(env)
             stripe = requireNotNull(env.stripe())
+            storyViewElementsCache = env.storyViewElementsCache()
             env
         }
 
         val ffClient = requireNotNull(environment?.featureFlagClient())
-        ffClient.activate(this)
+        ffClient.activate()
 
         flowController = PaymentSheet.FlowController.create(
             activity = this,
@@ -247,6 +259,8 @@ class ProjectPageActivity :
                 // - Every time the ProjectData gets updated
                 // - the fragments on the viewPager are updated as well
                 (binding.projectPager.adapter as? ProjectPagerAdapter)?.updatedWithProjectData(it)
+                if (isInteractive) warmTabs(it) else onInteractive(it)
+
                 val fFLatePledge = environment?.featureFlagClient()
                     ?.getBoolean(FlagKey.ANDROID_POST_CAMPAIGN_PLEDGES) ?: false
 
@@ -787,6 +801,12 @@ class ProjectPageActivity :
         val viewPager = binding.projectPager
         val tabLayout = binding.projectDetailTabs
 
+        // - Once configured, new tabs are added to the adapter, so the fragments already created are not built again
+        (viewPager.adapter as? ProjectPagerAdapter)?.let {
+            it.updateTabs(pagerList)
+            return
+        }
+
         viewPager.adapter = ProjectPagerAdapter(supportFragmentManager, pagerList, lifecycle)
 
         TabLayoutMediator(tabLayout, viewPager) { tab, position ->
@@ -811,6 +831,44 @@ class ProjectPageActivity :
         })
     }
 
+    /**
+     * The project page is interactive once the selected tab is drawn with the project data, the time since the
+     * activity creation is reported, then the other tabs are warmed.
+     */
+    private fun onInteractive(projectData: ProjectData) {
+        isInteractive = true
+        binding.root.doOnPreDraw {
+            val timeToInteractiveMillis = (SystemClock.elapsedRealtimeNanos() - createdAtNanos) / 1_000_000
+            Timber.d("Project page interactive in $timeToInteractiveMillis ms")
+            reportFullyDrawn()
+            warmTabs(projectData)
+        }
+    }
+
+    /**
+     * Warms the data of the tabs in the background, the tabs closest to the selected one first as they are the
+     * most likely to be selected next. Only the campaign tab has data worth warming, its parsed story.
+     */
+    private fun warmTabs(projectData: ProjectData) {
+        val selected = binding.projectPager.currentItem
+        val warmUps = pagerAdapterList.indices
+            .filter { it != selected }
+            .sortedBy { abs(it - selected) }
+            .mapNotNull { position ->
+                when (pagerAdapterList[position]) {
+                    ProjectPagerTabs.CAMPAIGN -> storyViewElementsCache?.warm(projectData.project())
+                    else -> null
+                }
+            }
+        if (warmUps.isEmpty()) return
+
+        Completable.concat(warmUps)
+            .subscribeOn(Schedulers.computation())
+            .onErrorComplete()
+            .subscribe()
+            .addToDisposable(disposables)
+    }
+
     override fun onResume() {
         super.onResume()
         binding.mediaHeader.inputs.initializePlayer()
@@ -14,13 +14,18 @@ import com.kickstarter.ui.fragments.projectpage.ProjectEnvironmentalCommitmentsF
 import com.kickstarter.ui.fragments.projectpage.ProjectOverviewFragment
 import com.kickstarter.ui.fragments.projectpage.ProjectRiskFragment
 
+/**
+ * The fragment of each tab is only created once the tab is first displayed, see [FragmentStateAdapter].
+ */
 class ProjectPagerAdapter(
     private val fragmentManager: FragmentManager,
-    private val pagerAdapterList: List<ProjectPagerTabs>,
+    tabs: List<ProjectPagerTabs>,
     lifecycle: Lifecycle
 ) :
     FragmentStateAdapter(fragmentManager, lifecycle) {
 
+    private val pagerAdapterList = tabs.toMutableList()
+
     override fun getItemCount(): Int = pagerAdapterList.size
 
     override fun createFragment(position: Int): Fragment {
@@ -40,6 +45,19 @@ class ProjectPagerAdapter(
         }
     }
 
+    /**
+     * Adds the tabs of [tabs] which are not in the pager yet, after the existing ones, so the fragments already
+     * created are kept.
+     */
+    fun updateTabs(tabs: List<ProjectPagerTabs>) {
+        val added = tabs.filter { !pagerAdapterList.contains(it) }
+        if (added.isEmpty()) return
+
+        val start = pagerAdapterList.size
+        pagerAdapterList.addAll(added)
+        notifyItemRangeInserted(start, added.size)
+    }
+
     /**
      * Will update all the fragments in tha ViewPager with the given ProjectData
      *
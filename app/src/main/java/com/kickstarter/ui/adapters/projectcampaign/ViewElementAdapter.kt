@@ -8,6 +8,8 @@ import androidx.lifecycle.LifecycleOwner
 import androidx.recyclerview.widget.AsyncListDiffer
 import androidx.recyclerview.widget.DiffUtil
 import androidx.recyclerview.widget.RecyclerView
+import com.bumptech.glide.Glide
+import com.bumptech.glide.load.engine.DiskCacheStrategy
 import com.kickstarter.databinding.EmptyViewBinding
 import com.kickstarter.databinding.ViewElementAudioFromHtmlBinding
 import com.kickstarter.databinding.ViewElementExternalSourceFromHtmlBinding
@@ -16,6 +18,7 @@ import com.kickstarter.databinding.ViewElementTextFromHtmlBinding
 import com.kickstarter.databinding.ViewElementVideoFromHtmlBinding
 import com.kickstarter.libs.KSLifecycleEvent
 import com.kickstarter.libs.htmlparser.AudioViewElement
+import com.kickstarter.libs.htmlparser.EmbedPreviewCache
 import com.kickstarter.libs.htmlparser.ExternalSourceViewElement
 import com.kickstarter.libs.htmlparser.ImageViewElement
 import com.kickstarter.libs.htmlparser.TextViewElement
@@ -28,6 +31,7 @@ import com.kickstarter.ui.viewholders.projectcampaign.ExternalViewViewHolder
 import com.kickstarter.ui.viewholders.projectcampaign.ImageElementViewHolder
 import com.kickstarter.ui.viewholders.projectcampaign.TextElementViewHolder
 import com.kickstarter.ui.viewholders.projectcampaign.VideoElementViewHolder
+import com.kickstarter.ui.views.WebViewPool
 import io.reactivex.subjects.BehaviorSubject
 
 /**
@@ -87,10 +91,54 @@ class ViewElementAdapter(
     private val elements: AsyncListDiffer<ViewElement> =
         AsyncListDiffer<ViewElement>(this, diffCallback)
 
+    // - Embeds are heavyweight, only a couple of them are rendered at the same time
+    private val webViewPool = WebViewPool(requireActivity)
+    private val embedPreviews = EmbedPreviewCache()
+
+    private val activateSettledEmbeds = object : RecyclerView.OnScrollListener() {
+        override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+            if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+                activateFullyVisibleEmbeds(recyclerView)
+            }
+        }
+    }
+
     override fun getItemCount() = elements.currentList.size
 
     fun submitList(list: List<ViewElement>) {
         elements.submitList(list)
+        preloadEmbedThumbnails(list)
+    }
+
+    private fun preloadEmbedThumbnails(list: List<ViewElement>) {
+        list.filterIsInstance<ExternalSourceViewElement>()
+            .mapNotNull { embedPreviews.preview(it).thumbnailUrl }
+            .forEach {
+                Glide.with(requireActivity)
+                    .load(it)
+                    .diskCacheStrategy(DiskCacheStrategy.RESOURCE)
+                    .preload()
+            }
+    }
+
+    private fun activateFullyVisibleEmbeds(recyclerView: RecyclerView) {
+        for (index in 0 until recyclerView.childCount) {
+            val child = recyclerView.getChildAt(index)
+            val isFullyVisible = child.top >= 0 && child.bottom <= recyclerView.height
+            if (isFullyVisible) {
+                (recyclerView.getChildViewHolder(child) as? ExternalViewViewHolder)?.activate()
+            }
+        }
+    }
+
+    override fun onAttachedToRecyclerView(recyclerView: RecyclerView) {
+        super.onAttachedToRecyclerView(recyclerView)
+        recyclerView.addOnScrollListener(activateSettledEmbeds)
+    }
+
+    override fun onDetachedFromRecyclerView(recyclerView: RecyclerView) {
+        recyclerView.removeOnScrollListener(activateSettledEmbeds)
+        super.onDetachedFromRecyclerView(recyclerView)
     }
 
     override fun getItemViewType(position: Int): Int {
@@ -185,7 +233,9 @@ class ViewElementAdapter(
                         false
                     ),
                     fullScreenDelegate,
-                    requireActivity
+                    requireActivity,
+                    webViewPool,
+                    embedPreviews
                 )
             }
             else -> EmptyViewHolder(
@@ -257,6 +307,7 @@ class ViewElementAdapter(
             it.binding.imageView.setImage("")
             it.binding.imageView.setCaption("")
         }
+        (holder as? ExternalViewViewHolder)?.deactivate()
 
         super.onViewRecycled(holder)
     }
@@ -291,6 +342,8 @@ class ViewElementAdapter(
     }
 
     override fun onDestroy(owner: LifecycleOwner) {
+        webViewPool.destroy()
+        embedPreviews.clear()
         return lifecycleObservable.onNext(KSLifecycleEvent.DESTROY)
     }
 
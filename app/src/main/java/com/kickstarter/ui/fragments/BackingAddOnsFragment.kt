@@ -51,7 +51,7 @@ class BackingAddOnsFragment : Fragment() {
             }
 
             val ffClient = requireNotNull(env?.featureFlagClient())
-            activity?.let { ffClient.activate(it) }
+            ffClient.activate()
 
             viewModelC.provideErrorAction { message ->
                 activity?.runOnUiThread {
@@ -1,28 +1,93 @@
 package com.kickstarter.ui.viewholders.projectcampaign
 
 import android.annotation.SuppressLint
+import android.view.ViewGroup
+import android.webkit.WebView
+import android.widget.FrameLayout
+import androidx.core.view.isVisible
 import androidx.fragment.app.FragmentActivity
 import com.kickstarter.databinding.ViewElementExternalSourceFromHtmlBinding
+import com.kickstarter.libs.htmlparser.EmbedPreviewCache
 import com.kickstarter.libs.htmlparser.ExternalSourceViewElement
 import com.kickstarter.ui.adapters.projectcampaign.ViewElementAdapter
+import com.kickstarter.ui.extensions.loadImage
 import com.kickstarter.ui.viewholders.KSViewHolder
 import com.kickstarter.ui.views.WebChromeVideoFullScreenClient
+import com.kickstarter.ui.views.WebViewPool
 
+/**
+ * Displays a static preview of the embed until it is tapped or settles on screen, see [activate]. Only then a
+ * WebView is borrowed from the [webViewPool] to render it.
+ */
 class ExternalViewViewHolder(
     val binding: ViewElementExternalSourceFromHtmlBinding,
     private val fullScreenDelegate: ViewElementAdapter.FullScreenDelegate,
-    val requireActivity: FragmentActivity
+    val requireActivity: FragmentActivity,
+    private val webViewPool: WebViewPool,
+    private val embedPreviews: EmbedPreviewCache
 ) : KSViewHolder(binding.root) {
-    private val webView = binding.externalSourceWebView
+    private var element: ExternalSourceViewElement? = null
+    private var webView: WebView? = null
+
+    init {
+        binding.externalSourcePreview.setOnClickListener { activate() }
+    }
 
     fun configure(element: ExternalSourceViewElement) {
-        setupWebView()
-        val htmlContent = "<body style=\"margin: 0; padding: 0\">${element.htmlContent}</body>"
-        webView.loadData(htmlContent, "text/html", "utf-8")
+        if (this.element == element && webView != null) return
+
+        deactivate()
+        this.element = element
+
+        val preview = embedPreviews.preview(element)
+        binding.externalSourceHost.text = preview.host ?: ""
+        binding.externalSourceThumbnail.setImageDrawable(null)
+        binding.externalSourceThumbnail.loadImage(preview.thumbnailUrl)
+    }
+
+    /**
+     * Renders the embed in a WebView from the pool, no-op if already rendered.
+     */
+    fun activate() {
+        val element = this.element ?: return
+        if (webView != null) return
+
+        val pooledWebView = webViewPool.acquire(onReclaimed = { onWebViewReclaimed() })
+        setupWebView(pooledWebView)
+        binding.externalSourceWebViewContainer.addView(
+            pooledWebView,
+            FrameLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT)
+        )
+        pooledWebView.loadData(embedPreviews.html(element), "text/html", "utf-8")
+
+        webView = pooledWebView
+        showPreview(false)
+    }
+
+    /**
+     * Gives the WebView back to the pool and displays the static preview again.
+     */
+    fun deactivate() {
+        webView?.let {
+            webView = null
+            webViewPool.release(it)
+        }
+        showPreview(true)
+    }
+
+    private fun onWebViewReclaimed() {
+        // - The pool takes care of detaching and resetting the WebView
+        webView = null
+        showPreview(true)
+    }
+
+    private fun showPreview(isVisible: Boolean) {
+        binding.externalSourcePreview.isVisible = isVisible
+        binding.externalSourceWebViewContainer.isVisible = !isVisible
     }
 
     @SuppressLint("SetJavaScriptEnabled")
-    private fun setupWebView() {
+    private fun setupWebView(webView: WebView) {
         webView.settings.javaScriptEnabled = true
         webView.webChromeClient = WebChromeVideoFullScreenClient(
             requireActivity,
@@ -35,4 +100,8 @@ class ExternalViewViewHolder(
             this?.let { configure(it) }
         }
     }
+
+    override fun destroy() {
+        deactivate()
+    }
 }
@@ -0,0 +1,89 @@
+package com.kickstarter.ui.views
+
+import android.content.Context
+import android.view.ViewGroup
+import android.webkit.WebView
+
+/**
+ * Bounded pool of WebViews for the embeds of a project story.
+ *
+ * At most [maxSize] WebViews are ever created. Once all of them are in use, acquiring one reclaims the WebView
+ * acquired the longest time ago: its holder is notified through the callback given when acquiring it, and should
+ * go back to displaying a static preview.
+ */
+class WebViewPool(
+    private val context: Context,
+    private val maxSize: Int = DEFAULT_MAX_SIZE,
+    private val factory: (Context) -> WebView = { WebView(it) }
+) {
+    private val idle = ArrayDeque<WebView>()
+
+    // - In acquisition order, the first one is reclaimed first
+    private val active = LinkedHashMap<WebView, () -> Unit>()
+    private var created = 0
+
+    init {
+        require(maxSize > 0) { "The pool needs at least one WebView, got $maxSize" }
+    }
+
+    /**
+     * @param onReclaimed called when the WebView is handed over to another holder, the WebView must not be
+     * used nor released after that
+     */
+    fun acquire(onReclaimed: () -> Unit): WebView {
+        val webView = idle.removeFirstOrNull()
+            ?: if (created < maxSize) {
+                created++
+                factory(context)
+            } else {
+                reclaimOldest()
+            }
+
+        active[webView] = onReclaimed
+        return webView
+    }
+
+    fun release(webView: WebView) {
+        if (active.remove(webView) != null) {
+            reset(webView)
+            idle.addLast(webView)
+        }
+    }
+
+    fun activeCount() = active.size
+
+    fun createdCount() = created
+
+    fun destroy() {
+        (idle + active.keys).forEach {
+            detach(it)
+            it.destroy()
+        }
+        idle.clear()
+        active.clear()
+        created = 0
+    }
+
+    private fun reclaimOldest(): WebView {
+        val oldest = active.entries.first()
+        active.remove(oldest.key)
+        oldest.value.invoke()
+        reset(oldest.key)
+        return oldest.key
+    }
+
+    private fun reset(webView: WebView) {
+        detach(webView)
+        webView.stopLoading()
+        webView.webChromeClient = null
+        webView.loadUrl("about:blank")
+    }
+
+    private fun detach(webView: WebView) {
+        (webView.parent as? ViewGroup)?.removeView(webView)
+    }
+
+    companion object {
+        const val DEFAULT_MAX_SIZE = 2
+    }
+}
@@ -11,14 +11,13 @@ import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.EventContextValues
 import com.kickstarter.libs.utils.KsOptional
 import com.kickstarter.libs.utils.extensions.addToDisposable
-import com.kickstarter.libs.utils.extensions.intValueOrZero
-import com.kickstarter.libs.utils.extensions.isNonZero
 import com.kickstarter.models.Activity
 import com.kickstarter.models.ErroredBacking
 import com.kickstarter.models.Project
 import com.kickstarter.models.SurveyResponse
 import com.kickstarter.models.User
 import com.kickstarter.services.ApiClientTypeV2
+import com.kickstarter.services.ActivityFeedRepository
 import com.kickstarter.services.ApolloClientTypeV2
 import com.kickstarter.services.apiresponses.ActivityEnvelope
 import com.kickstarter.ui.adapters.ActivityFeedAdapter
@@ -27,8 +26,12 @@ import com.kickstarter.ui.viewholders.FriendBackingViewHolder
 import com.kickstarter.ui.viewholders.ProjectStateChangedPositiveViewHolder
 import com.kickstarter.ui.viewholders.ProjectStateChangedViewHolder
 import com.kickstarter.ui.viewholders.ProjectUpdateViewHolder
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
+import io.reactivex.Maybe
 import io.reactivex.Observable
+import io.reactivex.android.schedulers.AndroidSchedulers
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
 import io.reactivex.subjects.PublishSubject
 
@@ -87,6 +90,8 @@ interface ActivityFeedViewModel {
         private val apiClient: ApiClientTypeV2
         private val apolloClient: ApolloClientTypeV2
         private val currentUser: CurrentUserTypeV2
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
+        private val activityFeedRepository: ActivityFeedRepository
         private val analyticEvents: AnalyticEvents
 
         private val discoverProjectsClick = PublishSubject.create<Unit>()
@@ -116,6 +121,12 @@ interface ActivityFeedViewModel {
 
         private val disposables = CompositeDisposable()
 
+        @Volatile
+        private var isLoading = false
+
+        @Volatile
+        private var hasLoadedFeed = false
+
         val inputs: Inputs = this
         val outputs: Outputs = this
 
@@ -124,6 +135,12 @@ interface ActivityFeedViewModel {
             apolloClient = requireNotNull(environment.apolloClientV2())
             currentUser = requireNotNull(environment.currentUserV2())
             analyticEvents = requireNotNull(environment.analytics())
+            activityFeedRepository = ActivityFeedRepository(
+                apiClient,
+                apolloClient,
+                refreshUserUseCase,
+                environment.activityFeedSnapshots()
+            )
 
             goToDiscovery = discoverProjectsClick
             goToLogin = loginClick
@@ -147,53 +164,56 @@ interface ActivityFeedViewModel {
 
             startUpdateActivity = projectUpdateClick
 
-            val refreshOrResume = Observable.merge(refresh, resume).share()
-
-            val loggedInUser = currentUser.loggedInUser()
-
-            loggedInUser
-                .compose(Transformers.takeWhenV2(refreshOrResume))
-                .switchMap {
-                    apiClient.fetchUnansweredSurveys().compose(Transformers.neverErrorV2()).share()
+            // - A resume while the feed is loading would cancel it, the sections it reloads are already loading
+            val loads = Observable.merge(refresh.map { true }, resume.filter { !isLoading }.map { false })
+
+            val feed = currentUser.observable()
+                .compose(Transformers.takePairWhenV2(loads))
+                .filter { it.first.isPresent() || it.second }
+                .switchMap { userAndWithActivities ->
+                    val withActivities = userAndWithActivities.second
+                    activityFeedRepository.load(userAndWithActivities.first.getValue(), withActivities)
+                        .doOnSubscribe {
+                            isLoading = true
+                            if (withActivities) isFetchingActivities.onNext(true)
+                        }
+                        .doFinally {
+                            isLoading = false
+                            if (withActivities) isFetchingActivities.onNext(false)
+                        }
                 }
-                .subscribe { surveys.onNext(it) }
-                .addToDisposable(disposables)
+                .share()
+
+            val firstPage = PublishSubject.create<ActivityEnvelope>()
 
-            loggedInUser
-                .compose(Transformers.takeWhenV2(refreshOrResume))
-                .switchMap {
-                    apolloClient.erroredBackings().compose(Transformers.neverErrorV2()).share()
+            feed
+                .subscribe {
+                    hasLoadedFeed = true
+                    showFeed(it, firstPage)
                 }
-                .subscribe { v: List<ErroredBacking> -> erroredBackings.onNext(v) }
                 .addToDisposable(disposables)
 
-            loggedInUser
-                .compose(Transformers.takeWhenV2(refreshOrResume))
-                .map { user: User ->
-                    user.unseenActivityCount().intValueOrZero() + user.erroredBackingsCount()
-                        .intValueOrZero()
-                }
-                .filter { it.isNonZero() }
-                .distinctUntilChanged()
-                .switchMap {
-                    apolloClient.clearUnseenActivity().compose(Transformers.neverErrorV2())
-                }
-                .switchMap {
-                    apiClient.fetchCurrentUser().compose(Transformers.neverErrorV2())
-                }
-                .subscribe {
-                    currentUser.refresh(it)
+            // - Displays the last feed loaded while the fresh one loads
+            currentUser.loggedInUser()
+                .take(1)
+                .switchMap { user ->
+                    Maybe.fromCallable<ActivityFeedRepository.Feed> { activityFeedRepository.cached(user) }
+                        .subscribeOn(Schedulers.io())
+                        // - Checked and emitted on the main thread, the fresh feed might have arrived while reading
+                        // - the cached one
+                        .observeOn(AndroidSchedulers.mainThread())
+                        .filter { !hasLoadedFeed }
+                        .toObservable()
                 }
+                .subscribe { showFeed(it, firstPage) }
                 .addToDisposable(disposables)
 
-            val paginator = ApiPaginatorV2.builder<Activity, ActivityEnvelope, Unit>()
+            val paginator = ApiPaginatorV2.builder<Activity, ActivityEnvelope, ActivityEnvelope>()
                 .nextPage(nextPage)
-                .startOverWith(refresh)
+                .startOverWith(firstPage)
                 .envelopeToListOfData { obj: ActivityEnvelope -> obj.activities() }
                 .envelopeToMoreUrl { env: ActivityEnvelope -> env.urls().api().moreActivities() }
-                .loadWithParams {
-                    apiClient.fetchActivities().compose(Transformers.neverErrorV2())
-                }
+                .loadWithParams { Observable.just(it) }
                 .loadWithPaginationPath { paginationPath: String ->
                     apiClient.fetchActivitiesWithPaginationPath(
                         paginationPath
@@ -244,6 +264,15 @@ interface ActivityFeedViewModel {
                 .addToDisposable(disposables)
         }
 
+        /**
+         * Emits the sections of [feed] one after another, the ones which did not load keep their previous value.
+         */
+        private fun showFeed(feed: ActivityFeedRepository.Feed, firstPage: PublishSubject<ActivityEnvelope>) {
+            feed.erroredBackings?.let { erroredBackings.onNext(it) }
+            feed.surveys?.let { surveys.onNext(it) }
+            feed.activities?.let { firstPage.onNext(it) }
+        }
+
         override fun onCleared() {
             apolloClient.cleanDisposables()
             disposables.clear()
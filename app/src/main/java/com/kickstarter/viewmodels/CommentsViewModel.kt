@@ -38,6 +38,9 @@ interface CommentsViewModel {
     interface Inputs {
         fun refresh()
         fun nextPage()
+
+        /** Will load back the pages of comments evicted from memory while scrolling down **/
+        fun previousPage()
         fun backPressed()
         fun insertNewCommentToList(comment: String, createdAt: DateTime)
         fun onReplyClicked(comment: Comment, openKeyboard: Boolean)
@@ -89,6 +92,7 @@ interface CommentsViewModel {
         private val backPressed = PublishSubject.create<Unit>()
         private val refresh = PublishSubject.create<Unit>()
         private val nextPage = PublishSubject.create<Unit>()
+        private val previousPage = PublishSubject.create<Unit>()
         private val onShowGuideLinesLinkClicked = PublishSubject.create<Unit>()
         private val onReplyClicked = PublishSubject.create<Pair<Comment, Boolean>>()
         private val checkIfThereAnyPendingComments = PublishSubject.create<Boolean>()
@@ -460,6 +464,9 @@ interface CommentsViewModel {
             val apolloPaginate =
                 ApolloPaginateV2.builder<CommentCardData, CommentEnvelope, Pair<Project, Update?>>()
                     .nextPage(nextPage)
+                    .previousPage(previousPage)
+                    // - Popular projects have thousands of comments, only keep the pages around the viewport
+                    .windowSize(COMMENTS_WINDOW_PAGES)
                     .distinctUntilChanged(true)
                     .startOverWith(startOverWith)
                     .envelopeToListOfData {
@@ -602,6 +609,7 @@ interface CommentsViewModel {
         override fun backPressed() = backPressed.onNext(Unit)
         override fun refresh() = refresh.onNext(Unit)
         override fun nextPage() = nextPage.onNext(Unit)
+        override fun previousPage() = previousPage.onNext(Unit)
         override fun insertNewCommentToList(comment: String, createdAt: DateTime) = insertNewCommentToList.onNext(Pair(comment, createdAt))
         override fun onShowGuideLinesLinkClicked() = onShowGuideLinesLinkClicked.onNext(Unit)
         override fun refreshComment(comment: Comment, position: Int) = this.commentToRefresh.onNext(Pair(comment, position))
@@ -637,6 +645,11 @@ interface CommentsViewModel {
         override fun isFetchingComments(): Observable<Boolean> = this.isFetchingComments
 
         override fun hasPendingComments(): Observable<Pair<Boolean, Boolean>> = this.hasPendingComments
+
+        companion object {
+            // - Pages of comments kept in memory while scrolling
+            const val COMMENTS_WINDOW_PAGES = 10
+        }
     }
 
     class Factory(private val environment: Environment, private val intent: Intent? = null) : ViewModelProvider.Factory {
@@ -9,6 +9,8 @@ import androidx.lifecycle.ViewModelProvider
 import com.kickstarter.libs.CurrentUserTypeV2
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.RefTag
+import com.kickstarter.libs.deeplink.DeepLinkRoute
+import com.kickstarter.libs.deeplink.DeepLinkRouter
 import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.rx.transformers.Transformers.combineLatestPair
@@ -16,21 +18,12 @@ import com.kickstarter.libs.utils.UrlUtils.appendRefTag
 import com.kickstarter.libs.utils.UrlUtils.refTag
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.canUpdateFulfillment
-import com.kickstarter.libs.utils.extensions.isCheckoutUri
 import com.kickstarter.libs.utils.extensions.isEmailDomain
 import com.kickstarter.libs.utils.extensions.isKSDomain
 import com.kickstarter.libs.utils.extensions.isMainPage
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isNull
-import com.kickstarter.libs.utils.extensions.isProjectCommentUri
-import com.kickstarter.libs.utils.extensions.isProjectPreviewUri
-import com.kickstarter.libs.utils.extensions.isProjectSaveUri
-import com.kickstarter.libs.utils.extensions.isProjectSurveyUri
-import com.kickstarter.libs.utils.extensions.isProjectUpdateCommentsUri
-import com.kickstarter.libs.utils.extensions.isProjectUpdateUri
 import com.kickstarter.libs.utils.extensions.isProjectUri
-import com.kickstarter.libs.utils.extensions.isRewardFulfilledDl
-import com.kickstarter.libs.utils.extensions.isSettingsUrl
 import com.kickstarter.models.Project
 import com.kickstarter.models.User
 import com.kickstarter.services.ApiClientTypeV2
@@ -164,6 +157,12 @@ interface DeepLinkViewModel {
                     startDiscoveryActivity.onNext(it)
                 }.addToDisposable(disposables)
 
+            // - Every deep link is resolved once into its typed route, shared by the streams below
+            val router = DeepLinkRouter(webEndpoint)
+            val routes = uriFromIntent
+                .map { it to router.route(it) }
+                .cache()
+
             projectObservable = uriFromIntent
                 .filter { ProjectIntentMapper.paramFromUri(it).isNotNull() }
                 .map { ProjectIntentMapper.paramFromUri(it) }
@@ -176,86 +175,52 @@ interface DeepLinkViewModel {
                 .filter { it.value.isNotNull() }
                 .map { it.value }
 
-            uriFromIntent
-                .filter {
-                    !it.isProjectSaveUri(webEndpoint)
-                }
-                .filter {
-                    !it.isCheckoutUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectPreviewUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectCommentUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectUpdateUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectUpdateCommentsUri(webEndpoint)
-                }
-                .filter {
-                    !it.isRewardFulfilledDl()
-                }
-                .filter {
-                    it.isProjectUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            routes
+                .filter { it.second is DeepLinkRoute.Project }
+                .map { appendRefTagIfNone(it.first) }
                 .compose(Transformers.combineLatestPair(projectObservable))
                 .subscribe {
                     onDeepLinkToProjectPage(it, startProjectActivity)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectSaveUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            routes
+                .filter { it.second is DeepLinkRoute.ProjectSave }
+                .map { appendRefTagIfNone(it.first) }
                 .compose(Transformers.combineLatestPair(projectObservable))
                 .subscribe {
                     onDeepLinkToProjectPage(it, startProjectActivityToSave)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectCommentUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            routes
+                .filter { it.second is DeepLinkRoute.ProjectComments }
+                .map { appendRefTagIfNone(it.first) }
                 .subscribe {
                     startProjectActivityForComment.onNext(it)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectUpdateUri(webEndpoint)
-                }
-                .filter {
-                    !it.isProjectUpdateCommentsUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            routes
+                .filter { it.second is DeepLinkRoute.ProjectUpdate }
+                .map { appendRefTagIfNone(it.first) }
                 .subscribe {
                     startProjectActivityForUpdate.onNext(it)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter {
-                    it.isProjectUpdateCommentsUri(webEndpoint)
-                }
-                .map { appendRefTagIfNone(it) }
+            routes
+                .filter { it.second is DeepLinkRoute.ProjectUpdateComments }
+                .map { appendRefTagIfNone(it.first) }
                 .subscribe {
                     startProjectActivityForCommentToUpdate.onNext(it)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter { it.isSettingsUrl() }
+            routes
+                .filter { it.second is DeepLinkRoute.MarketingSettings }
                 .subscribe {
                     updateUserPreferences.onNext(true)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter { it.isProjectSurveyUri(webEndpoint) }
-                .map { appendRefTagIfNone(it) }
+            routes
+                .filter { it.second is DeepLinkRoute.ProjectSurvey }
+                .map { appendRefTagIfNone(it.first) }
                 .withLatestFrom(this.currentUser.isLoggedIn) { url, isLoggedIn ->
                     return@withLatestFrom Pair(url, isLoggedIn)
                 }
@@ -295,28 +260,22 @@ interface DeepLinkViewModel {
                     finishDeeplinkActivity.onNext(Unit)
                 }.addToDisposable(disposables)
 
-            uriFromIntent
-                .filter { it.isCheckoutUri(webEndpoint) }
-                .map { appendRefTagIfNone(it) }
+            routes
+                .filter { it.second is DeepLinkRoute.Checkout }
+                .map { appendRefTagIfNone(it.first) }
                 .subscribe {
                     startProjectActivityWithCheckout.onNext(it)
                 }.addToDisposable(disposables)
 
-            val projectPreview = uriFromIntent
-                .filter { it.isProjectPreviewUri(webEndpoint) }
+            val projectPreview = routes
+                .filter { it.second is DeepLinkRoute.ProjectPreview }
+                .map { it.first }
 
-            val unsupportedDeepLink = uriFromIntent
+            val unsupportedDeepLink = routes
+                .filter { it.second is DeepLinkRoute.Unknown }
+                .map { it.first }
                 .filter { !lastPathSegmentIsProjects(it) }
-                .filter { !it.isSettingsUrl() }
-                .filter { !it.isProjectSaveUri(webEndpoint) }
-                .filter { !it.isCheckoutUri(webEndpoint) }
-                .filter { !it.isProjectCommentUri(webEndpoint) }
-                .filter { !it.isProjectUpdateUri(webEndpoint) }
-                .filter { !it.isProjectUpdateCommentsUri(webEndpoint) }
-                .filter { !it.isProjectUri(webEndpoint) }
-                .filter { !it.isRewardFulfilledDl() }
                 .filter { !it.isEmailDomain() }
-                .filter { !it.isProjectSurveyUri(webEndpoint) }
 
             Observable.merge(projectPreview, unsupportedDeepLink)
                 .map { obj: Uri -> obj.toString() }
@@ -34,8 +34,10 @@ import com.kickstarter.ui.viewholders.ActivitySampleFriendBackingViewHolder
 import com.kickstarter.ui.viewholders.ActivitySampleFriendFollowViewHolder
 import com.kickstarter.ui.viewholders.ActivitySampleProjectViewHolder
 import com.kickstarter.ui.viewholders.DiscoveryOnboardingViewHolder
+import io.reactivex.Maybe
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
 import io.reactivex.subjects.PublishSubject
 
@@ -137,6 +139,12 @@ interface DiscoveryFragmentViewModel {
         private val lifecycleObservable = BehaviorSubject.create<Lifecycle.State>()
         private val featureFlagClient = environment.featureFlagClient()
         private val analyticEvents = requireNotNull(environment.analytics())
+        private val discoverySnapshots = environment.discoverySnapshotStore()
+        private val projectSearchIndex = environment.projectSearchIndex()
+        private val mutationOutbox = environment.mutationOutbox()
+
+        @Volatile
+        private var lastFirstPageParams: DiscoveryParams? = null
 
         @JvmField
         val inputs: Inputs = this
@@ -263,8 +271,17 @@ interface DiscoveryFragmentViewModel {
                     RefTagUtils.projectAndRefTagFromParamsAndProject(it.first, it.second)
                 }
 
+            val networkProjects = paginator.paginatedData()?.share()
+
+            // - The first page saved during a previous session is displayed until the fresh one arrives
+            val snapshotProjects = selectedParams.distinctUntilChanged()
+                .switchMap { params ->
+                    snapshotProjects(params).takeUntil(networkProjects ?: Observable.never())
+                }
+
             val projects = Observable.combineLatest(
-                paginator.paginatedData(),
+                Observable.merge(snapshotProjects, networkProjects ?: Observable.empty())
+                    .doOnNext { projectSearchIndex?.add(it) },
                 rootCategories
             ) { projects, rootCategories ->
                 projects.fillRootCategoryForFeaturedProjects(rootCategories)
@@ -503,12 +520,30 @@ interface DiscoveryFragmentViewModel {
          * @return Observable<DiscoverEnvelope>
          </DiscoverEnvelope> */
         private fun makeCallWithParams(discoveryParamsStringPair: Pair<DiscoveryParams, String?>): Observable<DiscoverEnvelope> {
+            val params = discoveryParamsStringPair.first
+            val isFirstPage = discoveryParamsStringPair.second.isNullOrEmpty()
+
             return apolloClient.getProjects(
-                discoveryParamsStringPair.first,
+                params,
                 discoveryParamsStringPair.second
             ).compose(Transformers.neverErrorV2())
+                .doOnNext { envelope ->
+                    if (isFirstPage) {
+                        lastFirstPageParams = params
+                        Schedulers.io().scheduleDirect {
+                            discoverySnapshots?.saveProjects(params, envelope.projects())
+                        }
+                    }
+                }
         }
 
+        private fun snapshotProjects(params: DiscoveryParams): Observable<List<Project>> =
+            Maybe.fromCallable<List<Project>> { discoverySnapshots?.projects(params)?.data }
+                // - The fresh first page might have arrived while reading the snapshot
+                .filter { lastFirstPageParams != params }
+                .subscribeOn(Schedulers.io())
+                .toObservable()
+
         private fun activityHasNotBeenSeen(activity: Activity?): Boolean {
             return activity != null && activity.id() != activitySamplePreference?.get()?.toLong()
         }
@@ -561,12 +596,14 @@ interface DiscoveryFragmentViewModel {
         }
 
         private fun saveProject(project: Project): Observable<Project> {
-            return this.apolloClient.watchProject(project)
+            // - Queued while offline, the heart is updated right away
+            return (this.mutationOutbox?.watch(this.apolloClient, project, true) ?: this.apolloClient.watchProject(project))
                 .compose(Transformers.neverErrorV2())
         }
 
         private fun unSaveProject(project: Project): Observable<Project> {
-            return this.apolloClient.unWatchProject(project).compose(Transformers.neverErrorV2())
+            return (this.mutationOutbox?.watch(this.apolloClient, project, false) ?: this.apolloClient.unWatchProject(project))
+                .compose(Transformers.neverErrorV2())
         }
 
         private fun toggleProjectSave(project: Project): Observable<Project> {
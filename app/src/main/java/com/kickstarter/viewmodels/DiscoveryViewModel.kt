@@ -34,8 +34,10 @@ import com.kickstarter.ui.viewholders.discoverydrawer.LoggedInViewHolder
 import com.kickstarter.ui.viewholders.discoverydrawer.LoggedOutViewHolder
 import com.kickstarter.ui.viewholders.discoverydrawer.ParentFilterViewHolder
 import com.kickstarter.ui.viewholders.discoverydrawer.TopFilterViewHolder
+import io.reactivex.Maybe
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
 import io.reactivex.subjects.PublishSubject
 
@@ -119,6 +121,12 @@ interface DiscoveryViewModel {
         private val sharedPreferences = requireNotNull(environment.sharedPreferences())
         private val analyticEvents = requireNotNull(environment.analytics())
         private val ffClient = environment.featureFlagClient()
+        private val discoverySnapshots = environment.discoverySnapshotStore()
+
+        private fun snapshotCategories(): Observable<List<Category>> =
+            Maybe.fromCallable<List<Category>> { discoverySnapshots?.categories()?.data }
+                .subscribeOn(Schedulers.io())
+                .toObservable()
 
         private fun currentDrawerMenuIcon(user: User?): Int {
             if (user.isNull()) {
@@ -330,19 +338,24 @@ interface DiscoveryViewModel {
                 }
                 .addToDisposable(disposables)
 
-            val categories = apolloClient.fetchCategories()
+            val networkCategories = apolloClient.fetchCategories()
                 .compose(Transformers.neverErrorV2())
                 .flatMapIterable { it }
                 .toSortedList()
                 .toObservable()
+                .doOnNext { categories ->
+                    Schedulers.io().scheduleDirect { discoverySnapshots?.saveCategories(categories) }
+                }
+
+            // - Categories saved during a previous session are displayed until the fresh ones arrive
+            val categories = networkCategories
+                .publish { fresh -> Observable.merge(snapshotCategories().takeUntil(fresh), fresh) }
                 .share()
 
             // Combine root categories with the selected sort position.
+            // - Both the snapshot and the fresh categories are emitted, so every list is filtered on its own
             Observable.combineLatest<List<Category>?, Int, Pair<List<Category>, Int>>(
-                categories
-                    .flatMapIterable { it }
-                    .filter { it.isRoot }
-                    .toList().toObservable(),
+                categories.map { cats -> cats.filter { it.isRoot } },
                 pagerSelectedPage
             ) { c, psp -> Pair.create(c, psp) }
                 .subscribe { rootCategoriesAndPosition.onNext(it) }
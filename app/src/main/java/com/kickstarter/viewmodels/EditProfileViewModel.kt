@@ -10,6 +10,7 @@ import com.kickstarter.libs.utils.ListUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.isNonZero
 import com.kickstarter.models.User
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
 import io.reactivex.Notification
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
@@ -46,6 +47,7 @@ interface EditProfileViewModel {
 
         private val apiClient = requireNotNull(environment.apiClientV2())
         private val currentUser = requireNotNull(environment.currentUserV2())
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
 
         private val userInput = PublishSubject.create<User>()
         private val showPublicProfile = PublishSubject.create<Boolean>()
@@ -66,10 +68,10 @@ interface EditProfileViewModel {
 
             val currentUser = this.currentUser.observable()
 
-            this.apiClient.fetchCurrentUser()
+            this.refreshUserUseCase.fetch()
                 .retry(2)
                 .compose(Transformers.neverErrorV2())
-                .subscribe { this.currentUser.refresh(it) }
+                .subscribe()
                 .addToDisposable(disposables)
 
             currentUser
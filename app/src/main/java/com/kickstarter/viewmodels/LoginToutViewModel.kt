@@ -155,7 +155,7 @@ interface LoginToutViewModel {
         val inputs: Inputs = this
         val outputs: Outputs = this
         private val loginUserCase = LoginUseCase(environment)
-        private val refreshUserUseCase = RefreshUserUseCase(environment)
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
 
         private val disposables = CompositeDisposable()
         override fun facebookLoginClick(
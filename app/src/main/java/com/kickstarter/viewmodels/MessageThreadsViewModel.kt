@@ -21,6 +21,7 @@ import com.kickstarter.services.ApiClientTypeV2
 import com.kickstarter.services.apiresponses.MessageThreadsEnvelope
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.data.Mailbox
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subjects.BehaviorSubject
@@ -75,6 +76,7 @@ interface MessageThreadsViewModel {
     class MessageThreadsViewModel(environment: Environment, private val intent: Intent? = null) : ViewModel(), Inputs, Outputs {
         private val client: ApiClientTypeV2
         private val currentUser: CurrentUserTypeV2
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
 
         private val disposables = CompositeDisposable()
         private fun getStringResForMailbox(mailbox: Mailbox): Int {
@@ -120,13 +122,10 @@ interface MessageThreadsViewModel {
                 .filter { it.isNotNull() }
                 .compose(Transformers.takeWhenV2(refreshUserOrProject))
                 .switchMap {
-                    client.fetchCurrentUser()
+                    refreshUserUseCase.fetch()
                 }
                 .compose(Transformers.neverErrorV2())
-                .distinctUntilChanged()
-                .subscribe {
-                    currentUser.refresh(it)
-                }
+                .subscribe()
                 .addToDisposable(disposables)
 
             val refreshedProject = initialProject.compose(Transformers.takeWhenV2(refreshUserOrProject))
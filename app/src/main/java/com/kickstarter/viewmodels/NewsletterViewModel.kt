@@ -15,7 +15,8 @@ import com.kickstarter.libs.utils.extensions.isTrue
 import com.kickstarter.models.User
 import com.kickstarter.models.extensions.isLocationGermany
 import com.kickstarter.ui.activities.Newsletter
-import io.reactivex.Notification
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
+import com.kickstarter.viewmodels.usecases.UpdateUserSettingsUseCase
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subjects.BehaviorSubject
@@ -78,6 +79,8 @@ interface NewsletterViewModel {
 
         private val client = requireNotNull(environment.apiClientV2())
         private val currentUser = requireNotNull(environment.currentUserV2())
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
+        private val updateUserSettingsUseCase = UpdateUserSettingsUseCase(client, currentUser)
 
         private val newsletterInput = PublishSubject.create<Pair<Boolean, Newsletter>>()
         private val userInput = PublishSubject.create<User>()
@@ -96,10 +99,10 @@ interface NewsletterViewModel {
 
         init {
 
-            this.client.fetchCurrentUser()
+            this.refreshUserUseCase.fetch()
                 .retry(2)
                 .compose(Transformers.neverErrorV2())
-                .subscribe { this.currentUser.refresh(it) }
+                .subscribe()
                 .addToDisposable(disposables)
 
             val currentUser = this.currentUser.observable()
@@ -123,11 +126,13 @@ interface NewsletterViewModel {
                 .subscribe { this.subscribeAll.onNext(it) }
                 .addToDisposable(disposables)
 
+            this.userInput
+                .subscribe { this.userOutput.onNext(it) }
+                .addToDisposable(disposables)
+
             val updateUserNotification = this.userInput
                 .distinctUntilChanged()
-                .switchMap {
-                    this.updateSettings(it)
-                }
+                .compose(this.updateUserSettingsUseCase.write())
                 .share()
 
             updateUserNotification
@@ -144,13 +149,8 @@ interface NewsletterViewModel {
                 .subscribe { this.unableToSavePreferenceError.onNext(it) }
                 .addToDisposable(disposables)
 
-            this.userInput
-                .subscribe { this.userOutput.onNext(it) }
-                .addToDisposable(disposables)
-
-            this.userOutput
-                .window(2, 1)
-                .switchMap { it }
+            // - Reverts to the settings the server has
+            currentUser
                 .compose(takeWhenV2(this.unableToSavePreferenceError))
                 .subscribe {
                     this.userOutput.onNext(it)
@@ -277,13 +277,9 @@ interface NewsletterViewModel {
 
         private fun success(user: User) {
             this.currentUser.refresh(user)
+            if (user != this.userOutput.value) this.userOutput.onNext(user)
             this.updateSuccess.onNext(Unit)
         }
-
-        private fun updateSettings(user: User): Observable<Notification<User>> {
-            return this.client.updateUserSettings(user)
-                .materialize()
-        }
     }
 
     class Factory(private val environment: Environment) : ViewModelProvider.Factory {
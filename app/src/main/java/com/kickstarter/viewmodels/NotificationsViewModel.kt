@@ -11,7 +11,8 @@ import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isZero
 import com.kickstarter.models.User
-import io.reactivex.Notification
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
+import com.kickstarter.viewmodels.usecases.UpdateUserSettingsUseCase
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subjects.BehaviorSubject
@@ -107,15 +108,17 @@ interface NotificationsViewModel {
 
         private val client = requireNotNull(environment.apiClientV2())
         private val currentUser = requireNotNull(environment.currentUserV2())
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
+        private val updateUserSettingsUseCase = UpdateUserSettingsUseCase(client, currentUser)
 
         private val disposables = CompositeDisposable()
 
         init {
 
-            this.client.fetchCurrentUser()
+            this.refreshUserUseCase.fetch()
                 .retry(2)
                 .compose(neverErrorV2())
-                .subscribe { this.currentUser.refresh(it) }
+                .subscribe()
                 .addToDisposable(disposables)
 
             val currentUser = this.currentUser.observable()
@@ -135,8 +138,13 @@ interface NotificationsViewModel {
                 .map { (it.createdProjectsCount()).isZero() }
                 .distinctUntilChanged()
 
+            this.userInput
+                .subscribe { this.userOutput.onNext(it) }
+                .addToDisposable(disposables)
+
             val updateSettingsNotification = this.userInput
-                .concatMap { this.updateSettings(it) }
+                .compose(this.updateUserSettingsUseCase.write())
+                .share()
 
             updateSettingsNotification
                 .compose(valuesV2())
@@ -152,14 +160,8 @@ interface NotificationsViewModel {
                 }
                 .addToDisposable(disposables)
 
-            this.userInput
-                .subscribe { this.userOutput.onNext(it) }
-                .addToDisposable(disposables)
-
-            this.userOutput
-                .window(2, 1)
-                .flatMap<List<User>> { it.toList().toObservable() }
-                .map { it.first() }
+            // - Reverts to the settings the server has
+            currentUser
                 .compose(takeWhenV2(this.unableToSavePreferenceError))
                 .subscribe { this.userOutput.onNext(it) }
                 .addToDisposable(disposables)
@@ -290,15 +292,10 @@ interface NotificationsViewModel {
 
         private fun success(user: User) {
             this.currentUser.refresh(user)
+            if (user != this.userOutput.value) this.userOutput.onNext(user)
             this.updateSuccess.onNext(Unit)
         }
 
-        private fun updateSettings(user: User): Observable<Notification<User>> {
-            return this.client.updateUserSettings(user)
-                .materialize()
-                .share()
-        }
-
         override fun onCleared() {
             disposables.clear()
             super.onCleared()
@@ -1592,7 +1592,7 @@ interface PledgeFragmentViewModel {
                     Triple(pledData, prject, Pair(pledgAmount, shipAmt))
                 }
                 .switchMap {
-                    SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient)
+                    SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient, environment.mutationOutbox())
                         .sendThirdPartyEvent(
                             project = Observable.just(it.second),
                             currentUser = currentUser,
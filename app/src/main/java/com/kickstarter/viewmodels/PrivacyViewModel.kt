@@ -6,12 +6,12 @@ import com.kickstarter.libs.Environment
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.rx.transformers.Transformers.errorsV2
 import com.kickstarter.libs.rx.transformers.Transformers.valuesV2
-import com.kickstarter.libs.utils.ListUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.isNonZero
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.models.User
-import io.reactivex.Notification
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
+import com.kickstarter.viewmodels.usecases.UpdateUserSettingsUseCase
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subjects.BehaviorSubject
@@ -70,13 +70,15 @@ interface PrivacyViewModel {
 
         private val client = requireNotNull(environment.apiClientV2())
         private val currentUser = requireNotNull(environment.currentUserV2())
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
+        private val updateUserSettingsUseCase = UpdateUserSettingsUseCase(client, currentUser)
         private val disposables = CompositeDisposable()
 
         init {
-            this.client.fetchCurrentUser()
+            this.refreshUserUseCase.fetch()
                 .retry(2)
                 .compose(Transformers.neverErrorV2())
-                .subscribe { this.currentUser.refresh(it) }
+                .subscribe()
                 .addToDisposable(disposables)
 
             val currentUser = this.currentUser.observable()
@@ -94,8 +96,14 @@ interface PrivacyViewModel {
                 .subscribe { this.hidePrivateProfileRow.onNext(it) }
                 .addToDisposable(disposables)
 
+            this.userInput
+                .filter { it.isNotNull() }
+                .subscribe { this.userOutput.onNext(it) }
+                .addToDisposable(disposables)
+
             val updateSettingsNotification = this.userInput
-                .concatMap { this.updateSettings(it) }
+                .compose(this.updateUserSettingsUseCase.write())
+                .share()
 
             updateSettingsNotification
                 .compose(valuesV2())
@@ -109,16 +117,11 @@ interface PrivacyViewModel {
                 .subscribe { this.unableToSavePreferenceError.onNext(it) }
                 .addToDisposable(disposables)
 
-            this.userInput
-                .filter { it.isNotNull() }
-                .subscribe { this.userOutput.onNext(it) }
-                .addToDisposable(disposables)
-
-            this.userOutput
-                .window(2, 1)
-                .flatMap<List<User>> { it.toList().toObservable() }
-                .map<User> { ListUtils.first(it) }
-                .compose<User>(Transformers.takeWhenV2<User, Throwable>(this.unableToSavePreferenceError))
+            // - Reverts to the settings the server has
+            currentUser
+                .filter { it.isNotNull() && it.getValue().isNotNull() }
+                .map { requireNotNull(it.getValue()) }
+                .compose(Transformers.takeWhenV2<User, Throwable>(this.unableToSavePreferenceError))
                 .subscribe { this.userOutput.onNext(it) }
                 .addToDisposable(disposables)
 
@@ -181,15 +184,10 @@ interface PrivacyViewModel {
 
         private fun success(user: User) {
             this.currentUser.refresh(user)
+            if (user != this.userOutput.value) this.userOutput.onNext(user)
             this.updateSuccess.onNext(Unit)
         }
 
-        private fun updateSettings(user: User): Observable<Notification<User>> {
-            return this.client.updateUserSettings(user)
-                .materialize()
-                .share()
-        }
-
         override fun onCleared() {
             super.onCleared()
             disposables.clear()
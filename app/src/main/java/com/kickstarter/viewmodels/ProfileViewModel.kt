@@ -18,6 +18,7 @@ import com.kickstarter.services.apiresponses.DiscoverEnvelope
 import com.kickstarter.ui.adapters.ProfileAdapter
 import com.kickstarter.ui.viewholders.EmptyProfileViewHolder
 import com.kickstarter.ui.viewholders.ProfileCardViewHolder
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subjects.BehaviorSubject
@@ -86,6 +87,7 @@ interface ProfileViewModel {
     class ProfileViewModel(environment: Environment) : ViewModel(), ProfileAdapter.Delegate, Inputs, Outputs {
         private val client = requireNotNull(environment.apiClientV2())
         private val currentUser = requireNotNull(environment.currentUserV2())
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
         private val analytics = requireNotNull(environment.analytics())
 
         private val exploreProjectsButtonClicked = PublishSubject.create<Unit>()
@@ -114,11 +116,11 @@ interface ProfileViewModel {
         val disposables = CompositeDisposable()
 
         init {
-            val freshUser = this.client.fetchCurrentUser()
+            val freshUser = this.refreshUserUseCase.fetch()
                 .retry(2)
                 .compose(neverErrorV2())
 
-            freshUser.subscribe { this.currentUser.refresh(it) }
+            freshUser.subscribe()
                 .addToDisposable(disposables)
 
             val params = DiscoveryParams.builder()
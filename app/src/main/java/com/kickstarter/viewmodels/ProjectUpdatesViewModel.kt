@@ -15,6 +15,7 @@ import com.kickstarter.libs.utils.extensions.storeCurrentCookieRefTag
 import com.kickstarter.models.Project
 import com.kickstarter.models.Update
 import com.kickstarter.services.ApolloClientTypeV2
+import com.kickstarter.services.UpdatesRepository
 import com.kickstarter.services.apiresponses.updatesresponse.UpdatesGraphQlEnvelope
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.data.ProjectData
@@ -52,6 +53,7 @@ interface ProjectUpdatesViewModel {
     class ProjectUpdatesViewModel(environment: Environment, private val intent: Intent? = null) :
         ViewModel(), Inputs, Outputs {
         private val client: ApolloClientTypeV2 = requireNotNull(environment.apolloClientV2())
+        private val updatesRepository = UpdatesRepository(requireNotNull(environment.apiClientV2()), environment.updateSnapshots())
         private val cookieManager: CookieManager = requireNotNull(environment.cookieManager())
         private val sharedPreferences: SharedPreferences = requireNotNull(environment.sharedPreferences())
         private val analyticEvents = requireNotNull(environment.analytics())
@@ -136,6 +138,11 @@ interface ProjectUpdatesViewModel {
                 .compose(Transformers.takePairWhenV2(updateClicked))
                 .subscribe { startUpdateActivity.onNext(it) }
                 .addToDisposable(disposables)
+
+            updatesList
+                .compose(Transformers.takePairWhenV2(updateClicked))
+                .subscribe { updatesRepository.prefetch(it.first, it.second) }
+                .addToDisposable(disposables)
         }
 
         override fun onCleared() {
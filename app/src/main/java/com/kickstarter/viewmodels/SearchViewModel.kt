@@ -7,6 +7,7 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import com.kickstarter.libs.ApiPaginatorV2
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.ProjectSearchIndex
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.rx.transformers.Transformers
@@ -157,6 +158,7 @@ interface SearchViewModel {
 
         init {
             val apiClient = requireNotNull(environment.apiClientV2())
+            val searchIndex = environment.projectSearchIndex()
             val scheduler = environment.schedulerV2()
             val analyticEvents = requireNotNull(environment.analytics())
             sharedPreferences = requireNotNull(environment.sharedPreferences())
@@ -176,6 +178,13 @@ interface SearchViewModel {
 
             val params = Observable.merge(searchParams, popularParams)
 
+            // - Local results are displayed before the debounced params are emitted, a click is attributed to the
+            // - params of the term displayed when it happened
+            val displayedParams = search
+                .filter { it.isNotNull() }
+                .map { if (it.isTrimmedEmpty()) defaultParams else DiscoveryParams.builder().term(it).build() }
+                .startWith(defaultParams)
+
             val paginator = ApiPaginatorV2.builder<Project, DiscoverEnvelope, DiscoveryParams>()
                 .nextPage(nextPage)
                 .startOverWith(params)
@@ -210,21 +219,33 @@ interface SearchViewModel {
                 .subscribe { searchProjects.onNext(ListUtils.empty()) }
                 .addToDisposable(disposables)
 
+            // - Projects already seen matching the term are displayed right away, without waiting for the debounce.
+            // - No match clears the results still displayed for the previous term
+            search
+                .filter { it.isPresent() }
+                .map { searchIndex?.search(it).orEmpty() }
+                .filter { it.isNotEmpty() || searchProjects.value.orEmpty().isNotEmpty() }
+                .subscribe { searchProjects.onNext(it) }
+                .addToDisposable(disposables)
+
             params
                 .compose(Transformers.takePairWhenV2(paginator.paginatedData()))
                 .subscribe { paramsAndProjects: Pair<DiscoveryParams, List<Project>> ->
                     if (paramsAndProjects.first.sort() == defaultSort) {
                         popularProjects.onNext(paramsAndProjects.second)
                     } else {
-                        searchProjects.onNext(paramsAndProjects.second)
+                        // - Keeps the local results while the network search runs, then appends them to its results
+                        val localProjects = searchIndex?.search(paramsAndProjects.first.term() ?: "").orEmpty()
+                        searchProjects.onNext(ProjectSearchIndex.merge(paramsAndProjects.second, localProjects))
                     }
+                    searchIndex?.add(paramsAndProjects.second)
                 }
                 .addToDisposable(disposables)
 
             val pageCount = paginator.loadingPage()
             val projects = Observable.merge(popularProjects, searchProjects)
 
-            params.compose(Transformers.takePairWhenV2(projectClicked))
+            displayedParams.compose(Transformers.takePairWhenV2(projectClicked))
                 .compose(Transformers.combineLatestPair(pageCount))
                 .subscribe { projectDiscoveryParamsPair: Pair<Pair<DiscoveryParams, Project>, Int> ->
                     val refTag = RefTagUtils.projectAndRefTagFromParamsAndProject(
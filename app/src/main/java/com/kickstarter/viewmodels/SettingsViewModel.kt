@@ -6,6 +6,7 @@ import com.kickstarter.libs.Environment
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.models.User
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subjects.BehaviorSubject
@@ -40,9 +41,9 @@ interface SettingsViewModel {
 
     class SettingsViewModel(val environment: Environment) : ViewModel(), Inputs, Outputs {
 
-        private val client = requireNotNull(environment.apiClientV2())
         private val confirmLogoutClicked = PublishSubject.create<Unit>()
         private val currentUser = requireNotNull(environment.currentUserV2())
+        private val refreshUserUseCase = RefreshUserUseCase.from(environment)
         private val logout = BehaviorSubject.create<Unit>()
         private val showConfirmLogoutPrompt = BehaviorSubject.create<Boolean>()
         private val userOutput = BehaviorSubject.create<User>()
@@ -61,10 +62,10 @@ interface SettingsViewModel {
 
         init {
 
-            this.client.fetchCurrentUser()
+            this.refreshUserUseCase.fetch()
                 .retry(2)
                 .compose(Transformers.neverErrorV2())
-                .subscribe { this.currentUser.refresh(it) }
+                .subscribe()
                 .addToDisposable(disposables)
 
             this.currentUser.observable()
@@ -9,6 +9,7 @@ import androidx.lifecycle.ViewModelProvider
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.featureflag.FlagKey
+import com.kickstarter.libs.rx.operators.PriorityFanOut
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.EventContextValues.ContextPageName.THANKS
 import com.kickstarter.libs.utils.ListUtils
@@ -288,7 +289,7 @@ interface ThanksViewModel {
                 }
                 .addToDisposable(disposables)
 
-            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient)
+            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient, environment.mutationOutbox())
                 .sendThirdPartyEvent(
                     project = project,
                     apolloClient = apolloClient,
@@ -373,11 +374,9 @@ interface ThanksViewModel {
                 .map { it.projects() }
                 .flatMap { Observable.fromIterable(it) }
 
-            return Observable.concat(recommendedProjects, similarToProjects, staffPickProjects)
-                .compose(Transformers.neverErrorV2())
-                .distinct()
-                .take(3)
-                .toList()
+            // - The three queries run concurrently, the fallbacks are used only if the recommendations fall short
+            return PriorityFanOut.firstDistinct(listOf(recommendedProjects, similarToProjects, staffPickProjects), 3)
+                .map { it.toMutableList() }
         }
 
         private fun signupToGamesNewsletter(user: User, client: ApiClientTypeV2): Observable<User> {
@@ -18,6 +18,7 @@ import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isProjectPreviewUri
 import com.kickstarter.libs.utils.extensions.isProjectUri
 import com.kickstarter.models.Update
+import com.kickstarter.services.UpdatesRepository
 import com.kickstarter.ui.IntentKey
 import com.kickstarter.ui.intentmappers.ProjectIntentMapper
 import io.reactivex.Observable
@@ -78,6 +79,7 @@ interface UpdateViewModel {
     class UpdateViewModel(environment: Environment) : ViewModel(), Inputs, Outputs {
 
         private val client = requireNotNull(environment.apiClientV2())
+        private val updatesRepository = UpdatesRepository(client, environment.updateSnapshots())
         private val goToCommentsRequest = PublishSubject.create<Request>()
         private val goToProjectRequest = PublishSubject.create<Request>()
         private val goToUpdateRequest = PublishSubject.create<Request>()
@@ -172,7 +174,7 @@ interface UpdateViewModel {
                     Pair(requireNotNull(it.second.slug()), requireNotNull(it.first))
                 }
                 .switchMap {
-                    client.fetchUpdate(it.first, it.second).compose(Transformers.neverErrorV2())
+                    updatesRepository.update(it.first, it.second).compose(Transformers.neverErrorV2())
                 }
                 .share()
 
@@ -195,7 +197,7 @@ interface UpdateViewModel {
             val anotherUpdate = goToUpdateRequest
                 .map { projectUpdateParams(it) }
                 .switchMap {
-                    client.fetchUpdate(it.first, it.second).compose(Transformers.neverErrorV2())
+                    updatesRepository.update(it.first, it.second).compose(Transformers.neverErrorV2())
                 }
                 .share()
 
@@ -268,7 +268,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
             }.catch {
                 errorAction.invoke(it.message)
                 emitCurrentState(isLoading = false)
-            }.combine(apolloClient.getStoredCards().asFlow()) { updatedUser, cards ->
+            }.combine(storedCards().asFlow()) { updatedUser, cards ->
                 user = updatedUser
                 storedCards = cards
             }.catch {
@@ -280,6 +280,19 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
         }
     }
 
+    /**
+     * The stored cards prewarmed while the user selected a reward, fetched now when there are none or they failed.
+     */
+    private fun storedCards(): Observable<List<StoredCard>> {
+        val prewarm = environment.checkoutPrewarm() ?: return apolloClient.getStoredCards()
+        return requireNotNull(environment.currentUserV2()).loggedInUser()
+            .take(1)
+            .switchMap { user ->
+                prewarm.storedCards(user.id())?.onErrorResumeNext(apolloClient.getStoredCards())
+                    ?: apolloClient.getStoredCards()
+            }
+    }
+
     private fun sendPageViewedEvent() {
         if (checkoutData != null && pledgeData != null) {
             if (pledgeData?.pledgeFlowContext() == PledgeFlowContext.NEW_PLEDGE)
@@ -337,7 +350,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
 
         // - Send event on background thread
         scope.launch(dispatcher) {
-            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient)
+            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient, environment.mutationOutbox())
                 .sendThirdPartyEvent(
                     project = Observable.just(project),
                     currentUser = requireNotNull(environment.currentUserV2()),
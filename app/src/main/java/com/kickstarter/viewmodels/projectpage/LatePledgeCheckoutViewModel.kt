@@ -26,6 +26,7 @@ import com.kickstarter.ui.data.PledgeData
 import com.stripe.android.Stripe
 import com.stripe.android.confirmPaymentIntent
 import com.stripe.android.model.ConfirmPaymentIntentParams
+import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.flow.MutableSharedFlow
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.SharedFlow
@@ -121,18 +122,27 @@ class LatePledgeCheckoutViewModel(val environment: Environment) : ViewModel() {
         viewModelScope.launch {
             environment.currentUserV2()?.observable()?.asFlow()?.distinctUntilChanged()?.map {
                 if (it.isPresent()) {
-                    apolloClient.userPrivacy().asFlow()
-                        .onStart {
-                            emitCurrentState(isLoading = true)
-                        }.map { userPrivacy ->
-                            userEmail = userPrivacy.email
-                        }.onCompletion {
-                            emitCurrentState()
-                        }.catch {
-                            errorAction.invoke(null)
-                        }.collect()
-
-                    refreshUserCards()
+                    emitCurrentState(isLoading = true)
+                    // - Both queries are issued at once so the checkout waits for the slowest one only
+                    coroutineScope {
+                        launch {
+                            apolloClient.userPrivacy().asFlow()
+                                .map { userPrivacy ->
+                                    userEmail = userPrivacy.email
+                                }.catch {
+                                    errorAction.invoke(null)
+                                }.collect()
+                        }
+                        launch {
+                            apolloClient.getStoredCards().asFlow()
+                                .map { cards ->
+                                    storedCards = cards
+                                }.catch {
+                                    errorAction.invoke(null)
+                                }.collect()
+                        }
+                    }
+                    emitCurrentState()
                 }
             }?.catch {
                 errorAction.invoke(null)
@@ -255,7 +255,7 @@ interface PrelaunchProjectViewModel {
                 .subscribe { previousScreen = it.getStringExtra(IntentKey.PREVIOUS_SCREEN) ?: "" }
                 .addToDisposable(disposables)
 
-            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient)
+            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient, environment.mutationOutbox())
                 .sendThirdPartyEvent(
                     loadedProject,
                     apolloClient,
@@ -3,7 +3,7 @@ package com.kickstarter.viewmodels.projectpage
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import com.kickstarter.libs.Environment
-import com.kickstarter.libs.htmlparser.HTMLParser
+import com.kickstarter.libs.htmlparser.StoryViewElementsCache
 import com.kickstarter.libs.htmlparser.VideoViewElement
 import com.kickstarter.libs.htmlparser.ViewElement
 import com.kickstarter.libs.utils.extensions.addToDisposable
@@ -33,7 +33,7 @@ class ProjectCampaignViewModel {
         val inputs: Inputs = this
         val outputs: Outputs = this
 
-        private val htmlParser = HTMLParser()
+        private val storyViewElementsCache = environment.storyViewElementsCache() ?: StoryViewElementsCache()
         private val projectDataInput = BehaviorSubject.create<ProjectData>()
         private val storyViewElementsList = BehaviorSubject.create<List<ViewElement>>()
 
@@ -52,8 +52,7 @@ class ProjectCampaignViewModel {
 
             project.distinctUntilChanged()
                 .filter { it.story().isNotNull() }
-                .map { requireNotNull(it.story()) }
-                .map { htmlParser.parse(it) }
+                .map { storyViewElementsCache.elements(it) }
                 .subscribe {
                     storyViewElementsList.onNext(it)
                 }.addToDisposable(disposables)
@@ -284,6 +284,7 @@ interface ProjectPageViewModel {
         private val featureFlagClient = requireNotNull(environment.featureFlagClient())
         private val analyticEvents = requireNotNull(environment.analytics())
         private val attributionEvents = requireNotNull(environment.attributionEvents())
+        private val projectSearchIndex = environment.projectSearchIndex()
 
         private val intent = PublishSubject.create<Intent>()
         private val activityResult = BehaviorSubject.create<ActivityResult>()
@@ -593,7 +594,12 @@ interface ProjectPageViewModel {
                 .subscribe { previousScreen = it.getStringExtra(IntentKey.PREVIOUS_SCREEN) ?: "" }
                 .addToDisposable(disposables)
 
-            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient)
+            currentProject
+                .filter { it.name().isNotBlank() }
+                .subscribe { projectSearchIndex?.add(it) }
+                .addToDisposable(disposables)
+
+            SendThirdPartyEventUseCaseV2(sharedPreferences, ffClient, environment.mutationOutbox())
                 .sendThirdPartyEvent(
                     project = currentProject,
                     apolloClient = apolloClient,
@@ -18,6 +18,7 @@ import com.kickstarter.ui.data.ProjectData
 import com.kickstarter.viewmodels.usecases.GetShippingRulesUseCase
 import com.kickstarter.viewmodels.usecases.ShippingRulesState
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.flow.MutableSharedFlow
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.SharedFlow
@@ -29,6 +30,7 @@ import kotlinx.coroutines.flow.catch
 import kotlinx.coroutines.flow.collect
 import kotlinx.coroutines.flow.collectLatest
 import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.first
 import kotlinx.coroutines.flow.stateIn
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.rx2.asFlow
@@ -44,6 +46,8 @@ class RewardsSelectionViewModel(private val environment: Environment, private va
     private val analytics = requireNotNull(environment.analytics())
     private val apolloClient = requireNotNull(environment.apolloClientV2())
     private val currentConfig = requireNotNull(environment.currentConfigV2()?.observable())
+    private val checkoutPrewarm = environment.checkoutPrewarm()
+    private var checkoutPrewarmJob: Job? = null
 
     private lateinit var currentProjectData: ProjectData
     private var pReason: PledgeReason? = null
@@ -125,6 +129,7 @@ class RewardsSelectionViewModel(private val environment: Environment, private va
                 analytics.trackSelectRewardCTA(pledgeData)
             }
             newUserReward = reward
+            prewarmCheckout()
             emitCurrentState()
 
             // Show add-ons
@@ -132,6 +137,21 @@ class RewardsSelectionViewModel(private val environment: Environment, private va
         }
     }
 
+    /**
+     * Fetches the stored cards of the logged in user while they go through the add-ons, ahead of the checkout.
+     * The late pledge checkout loads them as the project page opens.
+     */
+    private fun prewarmCheckout() {
+        val prewarm = checkoutPrewarm ?: return
+        if (pReason != PledgeReason.PLEDGE && pReason != PledgeReason.UPDATE_REWARD) return
+
+        checkoutPrewarmJob?.cancel()
+        checkoutPrewarmJob = viewModelScope.launch {
+            val user = environment.currentUserV2()?.loggedInUser()?.asFlow()?.first() ?: return@launch
+            prewarm.start(user.id(), apolloClient.prefetchStoredCards())
+        }
+    }
+
     private fun getReward(backingObj: Backing?): Reward? {
         backingObj?.let { backing ->
             return backing.reward()?.let { reward ->
@@ -153,6 +173,9 @@ class RewardsSelectionViewModel(private val environment: Environment, private va
     }
 
     fun sendEvent(expanded: Boolean, currentPage: Int = 0, projectData: ProjectData? = null) {
+        // - The pledge flow was closed, the checkout is not reached with the prewarmed data
+        if (!expanded) discardCheckoutPrewarm()
+
         if (expanded && currentPage == 0) {
             projectData?.let {
                 analytics.trackRewardsCarouselViewed(projectData = projectData)
@@ -225,6 +248,17 @@ class RewardsSelectionViewModel(private val environment: Environment, private va
         return false
     }
 
+    private fun discardCheckoutPrewarm() {
+        checkoutPrewarmJob?.cancel()
+        checkoutPrewarmJob = null
+        checkoutPrewarm?.discard()
+    }
+
+    override fun onCleared() {
+        discardCheckoutPrewarm()
+        super.onCleared()
+    }
+
     class Factory(private val environment: Environment, private var shippingRulesUseCase: GetShippingRulesUseCase? = null) :
         ViewModelProvider.Factory {
         override fun <T : ViewModel> create(modelClass: Class<T>): T {
@@ -1,12 +1,108 @@
 package com.kickstarter.viewmodels.usecases
 
+import com.kickstarter.libs.CurrentUserTypeV2
 import com.kickstarter.libs.Environment
 import com.kickstarter.models.User
+import com.kickstarter.services.ApiClientTypeV2
+import io.reactivex.Observable
 
-class RefreshUserUseCase(environment: Environment) {
-    private val currentUserV2 = requireNotNull(environment.currentUserV2())
+/**
+ * Fetches the current user from `/v1/users/self` and refreshes the persisted one.
+ *
+ * The app wide instance, `Environment.refreshUserUseCase`, is shared by every screen: concurrent fetches share the same
+ * request, and fetches within [ttlMillis] of the last one emit the current user without a request.
+ */
+class RefreshUserUseCase @JvmOverloads constructor(
+    private val apiClient: ApiClientTypeV2?,
+    private val currentUserV2: CurrentUserTypeV2,
+    private val ttlMillis: Long = TTL_MILLIS,
+    private val clock: () -> Long = { System.currentTimeMillis() }
+) {
+    constructor(environment: Environment) : this(environment.apiClientV2(), requireNotNull(environment.currentUserV2()))
 
+    /**
+     * @param fetches requests made
+     * @param coalesced fetches that joined a request already in flight
+     * @param fresh fetches answered with the current user, fetched less than [ttlMillis] ago
+     * @param unchanged refreshes that fetched the same user again, nothing was persisted
+     * @param failures requests that failed
+     */
+    data class Stats(
+        val fetches: Int = 0,
+        val coalesced: Int = 0,
+        val fresh: Int = 0,
+        val unchanged: Int = 0,
+        val failures: Int = 0
+    )
+
+    private var stats = Stats()
+    private var inFlight: Observable<User>? = null
+    private var lastRefreshedAtMillis = 0L
+    private var lastRefreshedUserId: Long? = null
+
+    /**
+     * Updates the persisted current user with [newUser].
+     */
     fun refresh(newUser: User) {
         currentUserV2.refresh(newUser)
+        synchronized(this) {
+            lastRefreshedAtMillis = clock()
+            lastRefreshedUserId = newUser.id()
+            // - CurrentUserV2 keeps the previous instance when the user did not change
+            @Suppress("DEPRECATION")
+            if (currentUserV2.getUser() !== newUser) stats = stats.copy(unchanged = stats.unchanged + 1)
+        }
+    }
+
+    /**
+     * Emits the current user, fetching it unless it was less than [ttlMillis] ago, and refreshes the persisted one.
+     *
+     * @param force true to skip both the recently fetched user and the request in flight, like after a mutation
+     * changing the user
+     */
+    fun fetch(force: Boolean = false): Observable<User> = Observable.defer {
+        synchronized(this) {
+            @Suppress("DEPRECATION")
+            val current = currentUserV2.getUser()
+            if (!force && current != null && current.id() == lastRefreshedUserId &&
+                clock() - lastRefreshedAtMillis < ttlMillis
+            ) {
+                stats = stats.copy(fresh = stats.fresh + 1)
+                return@defer Observable.just(current)
+            }
+
+            inFlight?.takeIf { !force }?.let {
+                stats = stats.copy(coalesced = stats.coalesced + 1)
+                return@defer it
+            }
+
+            val client = apiClient ?: return@defer Observable.empty<User>()
+            stats = stats.copy(fetches = stats.fetches + 1)
+
+            lateinit var request: Observable<User>
+            request = client.fetchCurrentUser()
+                .doOnNext { refresh(it) }
+                .doOnError { synchronized(this) { stats = stats.copy(failures = stats.failures + 1) } }
+                .doFinally { synchronized(this) { if (inFlight === request) inFlight = null } }
+                .share()
+
+            inFlight = request
+            request
+        }
+    }
+
+    @Synchronized
+    fun stats(): Stats = stats
+
+    companion object {
+        const val TTL_MILLIS = 30_000L
+
+        /**
+         * @return the instance shared by the screens of [environment], built with its api client and current user,
+         * or one for [environment] alone when it has no current user
+         */
+        @JvmStatic
+        fun from(environment: Environment): RefreshUserUseCase =
+            environment.refreshUserUseCase() ?: RefreshUserUseCase(environment)
     }
 }
@@ -9,6 +9,7 @@ import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ThirdPartyEventValues
 import com.kickstarter.models.Project
 import com.kickstarter.services.ApolloClientTypeV2
+import com.kickstarter.services.MutationOutbox
 import com.kickstarter.ui.SharedPreferenceKey
 import com.kickstarter.ui.data.CheckoutData
 import com.kickstarter.ui.data.PledgeData
@@ -17,6 +18,7 @@ import io.reactivex.Observable
 class SendThirdPartyEventUseCaseV2(
     sharedPreferences: SharedPreferences,
     ffClient: FeatureFlagClientType,
+    private val mutationOutbox: MutationOutbox? = null
 ) : BuildInput {
     private val canSendEventFlag = (
         ffClient.getBoolean(FlagKey.ANDROID_CONSENT_MANAGEMENT) &&
@@ -67,6 +69,10 @@ class SendThirdPartyEventUseCaseV2(
                 apolloClient.triggerThirdPartyEvent(
                     input,
                 )
+                    .doOnError {
+                        // - Sent again once the network is back
+                        if (MutationOutbox.isRetryable(it)) mutationOutbox?.enqueueThirdPartyEvent(input)
+                    }
                     .compose(Transformers.neverErrorV2()).share()
             }
             .share()
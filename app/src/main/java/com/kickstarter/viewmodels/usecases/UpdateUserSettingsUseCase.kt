@@ -0,0 +1,102 @@
+package com.kickstarter.viewmodels.usecases
+
+import com.kickstarter.libs.CurrentUserTypeV2
+import com.kickstarter.models.User
+import com.kickstarter.services.ApiClientTypeV2
+import io.reactivex.Notification
+import io.reactivex.Observable
+import io.reactivex.ObservableTransformer
+import io.reactivex.disposables.CompositeDisposable
+
+/**
+ * Saves the user settings toggled on the settings screens, sending only the settings which differ from the ones the
+ * server acknowledged last.
+ *
+ * Writes are sent one at a time: the changes made while a write is in flight are coalesced into the next one, and only
+ * the response of the last write is emitted. Toggling ten settings in a row sends two requests and refreshes the
+ * current user once.
+ */
+class UpdateUserSettingsUseCase(
+    private val apiClient: ApiClientTypeV2,
+    private val currentUser: CurrentUserTypeV2
+) {
+
+    /**
+     * Transforms the users holding the settings to save into the response of the last write, or its error. A failed
+     * write drops the changes coalesced behind it, the screen reverts to the current user.
+     */
+    fun write(): ObservableTransformer<User, Notification<User>> = ObservableTransformer { users ->
+        Observable.create { emitter ->
+            val serialized = emitter.serialize()
+            val disposables = CompositeDisposable()
+            val lock = Any()
+            var acknowledged: User? = null
+            var pending: User? = null
+            var writing = false
+            var completed = false
+
+            fun send(user: User) {
+                val previous = synchronized(lock) { acknowledged }
+                val request = if (previous != null) apiClient.updateUserSettings(user, previous) else apiClient.updateUserSettings(user)
+
+                disposables.add(
+                    request.lastOrError().subscribe(
+                        { response ->
+                            val next = synchronized(lock) {
+                                acknowledged = response
+                                pending.also {
+                                    pending = null
+                                    writing = it != null
+                                }
+                            }
+
+                            // - Superseded by the changes made in the meantime
+                            if (next != null) {
+                                send(next)
+                            } else {
+                                serialized.onNext(Notification.createOnNext(response))
+                                if (synchronized(lock) { completed }) serialized.onComplete()
+                            }
+                        },
+                        { error ->
+                            synchronized(lock) {
+                                pending = null
+                                writing = false
+                            }
+                            serialized.onNext(Notification.createOnError(error))
+                            if (synchronized(lock) { completed }) serialized.onComplete()
+                        }
+                    )
+                )
+            }
+
+            disposables.add(
+                currentUser.observable().subscribe { user ->
+                    user.getValue()?.let { synchronized(lock) { acknowledged = it } }
+                }
+            )
+
+            disposables.add(
+                users.subscribe(
+                    { user ->
+                        val idle = synchronized(lock) {
+                            if (writing) pending = user
+                            !writing.also { writing = true }
+                        }
+                        if (idle) send(user)
+                    },
+                    { serialized.onError(it) },
+                    {
+                        val idle = synchronized(lock) {
+                            completed = true
+                            !writing
+                        }
+                        if (idle) serialized.onComplete()
+                    }
+                )
+            )
+
+            emitter.setDisposable(disposables)
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.kickstarter.microbenchmark
+
+import java.io.File
+import java.util.Properties
+
+/**
+ * Baseline stored in `src/microbenchmark/resources/microbenchmark-baseline.properties` as
+ * `<name>.opsPerSecond` and `<name>.bytesPerOp` entries.
+ *
+ * A result regresses when its throughput drops more than [throughputTolerance] below the baseline,
+ * or when it allocates more than [allocationTolerance] above it. Benchmarks without baseline entries
+ * are never flagged, they are only reported so the baseline can be updated.
+ */
+class BenchmarkBaseline(
+    private val baseline: Properties,
+    private val throughputTolerance: Double = System.getProperty("microbenchmark.throughputTolerance")?.toDoubleOrNull() ?: 0.25,
+    private val allocationTolerance: Double = System.getProperty("microbenchmark.allocationTolerance")?.toDoubleOrNull() ?: 0.10
+) {
+
+    fun regressions(result: BenchmarkResult): List<String> {
+        val regressions = mutableListOf<String>()
+
+        baseline.getProperty("${result.name}.opsPerSecond")?.toDoubleOrNull()?.let { expected ->
+            if (result.opsPerSecond < expected * (1 - throughputTolerance)) {
+                regressions.add("${result.name}: %.0f ops/s, baseline %.0f ops/s".format(result.opsPerSecond, expected))
+            }
+        }
+
+        baseline.getProperty("${result.name}.bytesPerOp")?.toLongOrNull()?.let { expected ->
+            if (result.bytesPerOp >= 0 && result.bytesPerOp > expected * (1 + allocationTolerance)) {
+                regressions.add("${result.name}: ${result.bytesPerOp} B/op, baseline $expected B/op")
+            }
+        }
+
+        return regressions
+    }
+
+    companion object {
+        private const val BASELINE_RESOURCE = "/microbenchmark-baseline.properties"
+        private val RESULTS_FILE = File("build/microbenchmark/results.properties")
+
+        fun load(): BenchmarkBaseline {
+            val properties = Properties()
+            BenchmarkBaseline::class.java.getResourceAsStream(BASELINE_RESOURCE)?.use { properties.load(it) }
+            return BenchmarkBaseline(properties)
+        }
+
+        /**
+         * Appends the result to `build/microbenchmark/results.properties`, in the baseline format,
+         * so it can be copied over the stored baseline when a change is expected.
+         */
+        @Synchronized
+        fun record(result: BenchmarkResult) {
+            val results = Properties()
+            if (RESULTS_FILE.exists()) {
+                RESULTS_FILE.inputStream().use { results.load(it) }
+            } else {
+                RESULTS_FILE.parentFile?.mkdirs()
+            }
+            results.setProperty("${result.name}.opsPerSecond", "%.0f".format(result.opsPerSecond))
+            results.setProperty("${result.name}.bytesPerOp", result.bytesPerOp.toString())
+            RESULTS_FILE.outputStream().use { results.store(it, "Micro benchmark results") }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.kickstarter.microbenchmark
+
+import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.libs.MockTrackingClient
+import com.kickstarter.libs.TrackingClientType
+import com.kickstarter.libs.utils.ListUtils
+import com.kickstarter.mock.MockCurrentConfigV2
+import com.kickstarter.mock.MockFeatureFlagClient
+import com.kickstarter.mock.factories.ConfigFactory
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.services.DiscoveryParams
+import org.junit.Test
+
+class CollectionsBenchmark : MicroBenchmarkTestCase() {
+
+    @Test
+    fun listUtilsConcatDistinct() {
+        val firstPage = (1L..50L).map { ProjectFactory.project().toBuilder().id(it).build() }
+        val secondPage = (25L..75L).map { ProjectFactory.project().toBuilder().id(it).build() }
+        benchmark("ListUtils.concatDistinct") { ListUtils.concatDistinct(firstPage, secondPage) }
+    }
+
+    @Test
+    fun discoveryParamsQueryParams() {
+        val params = DiscoveryParams.builder()
+            .sort(DiscoveryParams.Sort.MAGIC)
+            .staffPicks(true)
+            .term("skull")
+            .page(3)
+            .perPage(15)
+            .build()
+        benchmark("DiscoveryParams.queryParams") { params.queryParams() }
+    }
+
+    @Test
+    fun trackingClientCombinedProperties() {
+        val config = MockCurrentConfigV2().apply { config(ConfigFactory.config()) }
+        val client = MockTrackingClient(
+            MockCurrentUserV2(UserFactory.user()),
+            config,
+            TrackingClientType.Type.SEGMENT,
+            MockFeatureFlagClient()
+        )
+        val properties = mapOf<String, Any>("context_page" to "project", "context_cta" to "pledge_initiate")
+        benchmark("TrackingClientType.combinedProperties") { client.combinedProperties(properties) }
+    }
+}
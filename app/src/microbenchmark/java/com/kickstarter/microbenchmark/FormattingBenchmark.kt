@@ -0,0 +1,37 @@
+package com.kickstarter.microbenchmark
+
+import com.kickstarter.mock.factories.ProjectFactory
+import org.junit.Test
+
+class FormattingBenchmark : MicroBenchmarkTestCase() {
+
+    @Test
+    fun ksStringFormat() {
+        val ksString = ksString()
+        benchmark("KSString.format") {
+            ksString.format("%{remaining} of %{total}", "remaining", "1", "total", "5")
+        }
+    }
+
+    @Test
+    fun ksStringPluralFormat() {
+        val ksString = ksString()
+        benchmark("KSString.format(plural)") {
+            ksString.format("Filter_name_project_count_live_projects", 1, "filter_name", "Art")
+        }
+    }
+
+    @Test
+    fun ksCurrencyFormat() {
+        val ksCurrency = environment().ksCurrency()
+        val project = ProjectFactory.project()
+        benchmark("KSCurrency.format") { ksCurrency?.format(1234.56, project) }
+    }
+
+    @Test
+    fun ksCurrencyFormatBritishProject() {
+        val ksCurrency = environment().ksCurrency()
+        val project = ProjectFactory.britishProject()
+        benchmark("KSCurrency.format(GBP)") { ksCurrency?.format(1234.56, project) }
+    }
+}
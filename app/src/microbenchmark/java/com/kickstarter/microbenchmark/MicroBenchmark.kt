@@ -0,0 +1,81 @@
+package com.kickstarter.microbenchmark
+
+import java.lang.management.ManagementFactory
+
+/**
+ * Result of a single micro benchmark run.
+ *
+ * @param opsPerSecond measured throughput
+ * @param bytesPerOp heap allocated on the benchmark thread per operation, -1 if the JVM can not report it
+ */
+data class BenchmarkResult(
+    val name: String,
+    val opsPerSecond: Double,
+    val bytesPerOp: Long
+) {
+    override fun toString(): String =
+        "%-60s %,14.0f ops/s %,10d B/op".format(name, opsPerSecond, bytesPerOp)
+}
+
+/**
+ * Minimal JMH-like harness: runs the operation through warmup iterations first so the JIT
+ * compiles it, then measures throughput and thread allocations over the measurement iterations.
+ */
+object MicroBenchmark {
+    private const val WARMUP_ITERATIONS = 3
+    private const val MEASUREMENT_ITERATIONS = 5
+    private const val ITERATION_NANOS = 200_000_000L
+
+    /**
+     * Results are accumulated here so the JIT can not consider the benchmarked operation dead code.
+     */
+    @Volatile
+    private var blackhole: Int = 0
+
+    private val threadBean = ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean
+
+    fun measure(name: String, operation: () -> Any?): BenchmarkResult {
+        repeat(WARMUP_ITERATIONS) { runIteration(operation) }
+
+        var totalOps = 0L
+        var totalNanos = 0L
+        val allocatedBefore = allocatedBytes()
+        repeat(MEASUREMENT_ITERATIONS) {
+            val (ops, nanos) = runIteration(operation)
+            totalOps += ops
+            totalNanos += nanos
+        }
+        val allocatedAfter = allocatedBytes()
+
+        val bytesPerOp = if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+            (allocatedAfter - allocatedBefore) / totalOps
+        } else -1L
+
+        return BenchmarkResult(
+            name = name,
+            opsPerSecond = totalOps * 1_000_000_000.0 / totalNanos,
+            bytesPerOp = bytesPerOp
+        )
+    }
+
+    private fun runIteration(operation: () -> Any?): Pair<Long, Long> {
+        var ops = 0L
+        var sink = 0
+        val start = System.nanoTime()
+        var elapsed: Long
+        do {
+            sink += operation().hashCode()
+            ops++
+            elapsed = System.nanoTime() - start
+        } while (elapsed < ITERATION_NANOS)
+        blackhole += sink
+        return ops to elapsed
+    }
+
+    private fun allocatedBytes(): Long {
+        val bean = threadBean ?: return -1L
+        return if (bean.isThreadAllocatedMemorySupported && bean.isThreadAllocatedMemoryEnabled) {
+            bean.getThreadAllocatedBytes(Thread.currentThread().id)
+        } else -1L
+    }
+}
@@ -0,0 +1,25 @@
+package com.kickstarter.microbenchmark
+
+import com.kickstarter.KSRobolectricTestCase
+
+/**
+ * Base class for the micro benchmarks, runs on the same Robolectric environment as the unit tests
+ * so the `mock/factories` and the `Environment` dependencies are available.
+ *
+ * Run with `./gradlew testExternalDebugUnitTest -Pmicrobenchmark --tests "com.kickstarter.microbenchmark.*"`,
+ * every result is written to `app/build/microbenchmark/results.properties`.
+ */
+abstract class MicroBenchmarkTestCase : KSRobolectricTestCase() {
+
+    protected fun benchmark(name: String, operation: () -> Any?) {
+        val result = MicroBenchmark.measure("${javaClass.simpleName}.$name", operation)
+        BenchmarkBaseline.record(result)
+
+        val regressions = baseline.regressions(result)
+        assertTrue("Performance regression detected:\n${regressions.joinToString("\n")}", regressions.isEmpty())
+    }
+
+    companion object {
+        private val baseline by lazy { BenchmarkBaseline.load() }
+    }
+}
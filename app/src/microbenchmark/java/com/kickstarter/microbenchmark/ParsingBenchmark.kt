@@ -0,0 +1,22 @@
+package com.kickstarter.microbenchmark
+
+import com.kickstarter.libs.htmlparser.HTMLParser
+import org.junit.Test
+
+class ParsingBenchmark : MicroBenchmarkTestCase() {
+
+    private val campaignHtml = (1..20).joinToString("") { index ->
+        "<p>Paragraph $index with <a href=\"https://www.kickstarter.com\">a link</a> and <strong>bold text</strong></p>" +
+            "<div class=\"template asset\" contenteditable=\"false\" data-id=\"$index\">" +
+            "<figure><img alt=\"\" class=\"fit\" src=\"https://ksr-ugc.imgix.net/assets/$index.png\"></figure></div>" +
+            "<div class=\"template oembed\" contenteditable=\"false\" data-href=\"https://www.youtube.com/watch?v=$index\">" +
+            "<iframe width=\"356\" height=\"200\" src=\"https://www.youtube.com/embed/$index?feature=oembed\"></iframe></div>" +
+            "<h1 id=\"h:header-$index\">Header $index</h1><ul><li>one</li><li>two</li></ul>"
+    }
+
+    @Test
+    fun htmlParserParse() {
+        val parser = HTMLParser()
+        benchmark("HTMLParser.parse") { parser.parse(campaignHtml) }
+    }
+}
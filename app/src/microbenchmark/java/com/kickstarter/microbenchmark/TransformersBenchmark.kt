@@ -0,0 +1,97 @@
+package com.kickstarter.microbenchmark
+
+import com.kickstarter.fragment.Amount
+import com.kickstarter.fragment.Country
+import com.kickstarter.fragment.Full
+import com.kickstarter.fragment.Location
+import com.kickstarter.fragment.ProjectCard
+import com.kickstarter.fragment.User
+import com.kickstarter.services.transformers.projectTransformer
+import com.kickstarter.type.CountryCode
+import com.kickstarter.type.CurrencyCode
+import com.kickstarter.type.ProjectState
+import org.joda.time.DateTime
+import org.junit.Test
+
+class TransformersBenchmark : MicroBenchmarkTestCase() {
+
+    @Test
+    fun projectCardTransformer() {
+        val projectCard = projectCard()
+        benchmark("projectTransformer(ProjectCard)") { projectTransformer(projectCard) }
+    }
+
+    /**
+     * A fully populated card, as received from the discovery query. Built from the generated
+     * Apollo data classes so the benchmark measures the transformer and not mocked getters.
+     */
+    private fun projectCard(): ProjectCard {
+        val now = DateTime.now()
+        val usd = Amount(amount = "1000.0", currency = CurrencyCode.USD, symbol = "$")
+        val friends = listOf("VXNlci0x", "VXNlci0y", "VXNlci0z").mapIndexed { index, id ->
+            ProjectCard.Node(__typename = "User", user = user(id, "Friend $index"))
+        }
+
+        return ProjectCard(
+            __typename = "Project",
+            backersCount = 100,
+            description = "A graphic tee with a skull on it",
+            isLaunched = true,
+            backing = null,
+            category = ProjectCard.Category(
+                __typename = "Category",
+                category = com.kickstarter.fragment.Category(
+                    analyticsName = "Apparel",
+                    id = "Q2F0ZWdvcnktMjg=",
+                    name = "Apparel",
+                    slug = "fashion/apparel",
+                    totalProjectCount = 250,
+                    url = "https://www.kickstarter.com/discover/categories/fashion/apparel",
+                    parentCategory = null
+                )
+            ),
+            country = ProjectCard.Country(
+                __typename = "Country",
+                country = Country(code = CountryCode.US, name = "the United States")
+            ),
+            createdAt = now.minusDays(30),
+            creator = ProjectCard.Creator(__typename = "User", user = user("VXNlci0xMTg2MjM4NjY4", "Creator")),
+            prelaunchActivated = false,
+            projectOfTheDayAt = null,
+            friends = ProjectCard.Friends(nodes = friends),
+            fxRate = 1.0,
+            deadlineAt = now.plusDays(10),
+            goal = ProjectCard.Goal(__typename = "Money", amount = usd),
+            pledged = ProjectCard.Pledged(__typename = "Money", amount = usd.copy(amount = "850.0")),
+            id = "UHJvamVjdC0xNzQ4MjQ4MDM2",
+            isWatched = false,
+            launchedAt = now.minusDays(10),
+            location = ProjectCard.Location(
+                __typename = "Location",
+                location = Location(
+                    displayableName = "Brooklyn, NY",
+                    country = "US",
+                    id = "TG9jYXRpb24tMjQ1OTExNQ==",
+                    name = "Brooklyn"
+                )
+            ),
+            name = "Skull Graphic Tee",
+            full = Full(image = Full.Image(url = "https://ksr-ugc.imgix.net/assets/011/full.jpg")),
+            slug = "skull-graphic-tee",
+            isProjectWeLove = true,
+            state = ProjectState.LIVE,
+            stateChangedAt = now.minusDays(10),
+            url = "https://www.kickstarter.com/projects/1186238668/skull-graphic-tee",
+            isInPostCampaignPledgingPhase = false,
+            postCampaignPledgingEnabled = false
+        )
+    }
+
+    private fun user(id: String, name: String) = User(
+        name = name,
+        id = id,
+        imageUrl = "https://ksr-ugc.imgix.net/assets/avatar.png",
+        isCreator = false,
+        chosenCurrency = "USD"
+    )
+}
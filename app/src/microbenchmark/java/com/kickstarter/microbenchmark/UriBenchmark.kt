@@ -0,0 +1,47 @@
+package com.kickstarter.microbenchmark
+
+import android.net.Uri
+import com.kickstarter.libs.deeplink.DeepLinkRoute
+import com.kickstarter.libs.deeplink.DeepLinkRouter
+import com.kickstarter.libs.utils.extensions.isCheckoutUri
+import com.kickstarter.libs.utils.extensions.isProjectCommentUri
+import com.kickstarter.libs.utils.extensions.isProjectSurveyUri
+import com.kickstarter.libs.utils.extensions.isProjectUpdateCommentsUri
+import com.kickstarter.libs.utils.extensions.isProjectUri
+import com.kickstarter.libs.utils.extensions.isSettingsUrl
+import org.junit.Test
+
+class UriBenchmark : MicroBenchmarkTestCase() {
+
+    private val webEndpoint = "https://www.kickstarter.com"
+    private val uris = listOf(
+        "https://www.kickstarter.com/projects/1186238668/skull-graphic-tee",
+        "https://www.kickstarter.com/projects/1186238668/skull-graphic-tee/comments",
+        "https://www.kickstarter.com/projects/1186238668/skull-graphic-tee/surveys/123",
+        "https://www.kickstarter.com/projects/1186238668/skull-graphic-tee/posts/123/comments",
+        "https://www.kickstarter.com/settings/notify_mobile_of_marketing_update/true",
+        "https://www.kickstarter.com/discover/categories/art"
+    ).map { Uri.parse(it) }
+
+    @Test
+    fun deepLinkPredicates() {
+        benchmark("UriExt.deepLinkPredicates") {
+            uris.count { uri ->
+                uri.isProjectUri(webEndpoint) ||
+                    uri.isProjectCommentUri(webEndpoint) ||
+                    uri.isProjectSurveyUri(webEndpoint) ||
+                    uri.isProjectUpdateCommentsUri(webEndpoint) ||
+                    uri.isSettingsUrl() ||
+                    uri.isCheckoutUri(webEndpoint)
+            }
+        }
+    }
+
+    @Test
+    fun deepLinkRouter() {
+        val router = DeepLinkRouter(webEndpoint)
+        benchmark("DeepLinkRouter.route") {
+            uris.count { router.route(it) != DeepLinkRoute.Unknown }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.kickstarter.features.pledgedprojectsoverview.data
+
+import androidx.paging.PagingConfig
+import androidx.paging.PagingSource
+import androidx.paging.testing.TestPager
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.SnapshotStore
+import io.reactivex.schedulers.Schedulers
+import kotlinx.coroutines.test.runTest
+import org.junit.Test
+import java.io.File
+
+class PPOCardsStoreTest : KSRobolectricTestCase() {
+
+    private var now = 1_000L
+
+    private val snapshotStore by lazy {
+        SnapshotStore<PPOCardsStore.Cards>(
+            File(context().cacheDir, "ppo_snapshots_test"),
+            requireNotNull(environment().gson()),
+            PPOCardsStore.Cards::class.java
+        ) { now }
+    }
+
+    private fun store() = PPOCardsStore(snapshotStore, 100L, { now }, Schedulers.trampoline())
+
+    @Test
+    fun testNeedsRefresh() {
+        val store = store()
+        assertTrue(store.needsRefresh())
+
+        store.totalAlerts.value = 2
+        store.replace(listOf(PPOCardFactory.confirmAddressCard()), "cursor")
+        assertFalse(store.needsRefresh())
+
+        // - A new process reads the stored cards
+        val restored = store()
+        assertFalse(restored.needsRefresh())
+        assertEquals(1, restored.cards().cards.size)
+        assertEquals("cursor", restored.cards().nextCursor)
+        assertEquals(2, restored.totalAlerts.value)
+
+        now += 101
+        assertTrue(restored.needsRefresh())
+    }
+
+    @Test
+    fun testInvalidate_survivesNewProcess() {
+        val store = store()
+        store.replace(listOf(PPOCardFactory.confirmAddressCard()), null)
+
+        store.invalidate()
+        assertTrue(store.needsRefresh())
+
+        val restored = store()
+        assertTrue(restored.needsRefresh())
+        assertEquals(1, restored.cards().cards.size)
+
+        restored.replace(listOf(PPOCardFactory.fixPaymentCard()), null)
+        assertFalse(restored.needsRefresh())
+    }
+
+    @Test
+    fun testClear_deletesTheSnapshot() {
+        val store = store()
+        store.replace(listOf(PPOCardFactory.confirmAddressCard()), null)
+
+        store.clear()
+
+        assertTrue(store.cards().cards.isEmpty())
+        assertTrue(store().needsRefresh())
+    }
+
+    @Test
+    fun testPagingSource_pagesThroughStoredCards() = runTest {
+        val store = store()
+        store.replace(listOf(PPOCardFactory.confirmAddressCard(), PPOCardFactory.fixPaymentCard()), "cursor")
+        store.append(listOf(PPOCardFactory.authenticationRequiredCard()), null)
+
+        val source = store.pagingSource()
+        val pager = TestPager(PagingConfig(pageSize = 2, initialLoadSize = 2, enablePlaceholders = true), source)
+
+        val first = pager.refresh() as PagingSource.LoadResult.Page
+        assertEquals(2, first.data.size)
+        assertEquals(1, first.itemsAfter)
+
+        val next = pager.append() as PagingSource.LoadResult.Page
+        assertEquals(1, next.data.size)
+        assertNull(next.nextKey)
+
+        // - Writing cards invalidates the sources
+        store.replace(emptyList(), null)
+        assertTrue(source.invalid)
+    }
+}
@@ -1,11 +1,17 @@
 package com.kickstarter.features.pledgedprojectsoverview.viewmodel
 
+import androidx.paging.ExperimentalPagingApi
+import androidx.paging.LoadType
 import androidx.paging.PagingConfig
 import androidx.paging.PagingSource
+import androidx.paging.PagingState
+import androidx.paging.RemoteMediator
 import androidx.paging.testing.TestPager
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.R
+import com.kickstarter.features.pledgedprojectsoverview.data.PPOCard
 import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardFactory
+import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardsStore
 import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOverviewEnvelope
 import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOverviewQueryData
 import com.kickstarter.libs.AnalyticEvents
@@ -19,6 +25,7 @@ import com.kickstarter.mock.factories.ProjectFactory
 import com.kickstarter.mock.factories.UserFactory
 import com.kickstarter.mock.services.MockApolloClientV2
 import com.kickstarter.models.Project
+import com.kickstarter.services.apiresponses.commentresponse.PageInfoEnvelope
 import com.kickstarter.services.mutations.CreateOrUpdateBackingAddressData
 import io.reactivex.Observable
 import io.reactivex.subscribers.TestSubscriber
@@ -306,6 +313,52 @@ class PledgedProjectsOverviewViewModelTest : KSRobolectricTestCase() {
         }
     }
 
+    @OptIn(ExperimentalPagingApi::class)
+    @Test
+    fun `remote mediator fetches pages into the store`() {
+        runTest {
+            val cursors = mutableListOf<String>()
+            val mockApolloClientV2 = object : MockApolloClientV2() {
+
+                override fun getPledgedProjectsOverviewPledges(inputData: PledgedProjectsOverviewQueryData): Observable<PledgedProjectsOverviewEnvelope> {
+                    cursors.add(inputData.after ?: "")
+                    return Observable.just(
+                        PledgedProjectsOverviewEnvelope.builder().totalCount(4)
+                            .pledges(listOf(PPOCardFactory.confirmAddressCard()))
+                            .pageInfoEnvelope(
+                                PageInfoEnvelope.builder().hasNextPage(cursors.size == 1).endCursor("next").build()
+                            )
+                            .build()
+                    )
+                }
+            }
+            val store = PPOCardsStore(null)
+            val analyticEvents = AnalyticEvents(listOf(MockTrackingClient(MockCurrentUserV2(), MockCurrentConfigV2(), TrackingClientType.Type.SEGMENT, MockFeatureFlagClient())))
+            val mediator = PledgedProjectsRemoteMediator(
+                store,
+                PledgedProjectsPagingSource(mockApolloClientV2, analyticEvents, store.totalAlerts),
+                analyticEvents
+            )
+            val state = PagingState<Int, PPOCard>(emptyList(), null, PagingConfig(pageSize = 3), 0)
+
+            assertEquals(RemoteMediator.InitializeAction.LAUNCH_INITIAL_REFRESH, mediator.initialize())
+
+            val refresh = mediator.load(LoadType.REFRESH, state) as RemoteMediator.MediatorResult.Success
+            assertFalse(refresh.endOfPaginationReached)
+            val append = mediator.load(LoadType.APPEND, state) as RemoteMediator.MediatorResult.Success
+            assertTrue(append.endOfPaginationReached)
+
+            assertEquals(listOf("", "next"), cursors)
+            assertEquals(2, store.cards().cards.size)
+            assertEquals(4, store.totalAlerts.value)
+
+            // - Stored cards are displayed without fetching them again
+            assertEquals(RemoteMediator.InitializeAction.SKIP_INITIAL_REFRESH, mediator.initialize())
+            store.invalidate()
+            assertEquals(RemoteMediator.InitializeAction.LAUNCH_INITIAL_REFRESH, mediator.initialize())
+        }
+    }
+
 // TODO will add tests back after spike MBL-1638 completed
 //    @Test
 //    fun `emits_error_state_when_errored`() =
@@ -0,0 +1,63 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.StoredCardFactory
+import com.kickstarter.models.StoredCard
+import io.reactivex.Observable
+import org.junit.Test
+
+class CheckoutPrewarmTest : KSRobolectricTestCase() {
+
+    private var now = 1_000L
+    private var requests = 0
+
+    private val request = Observable.fromCallable {
+        requests++
+        listOf(StoredCardFactory.visa())
+    }
+
+    @Test
+    fun testStoredCards_handedOnceToTheSameUser() {
+        val prewarm = CheckoutPrewarm(100L) { now }
+
+        prewarm.start(1L, request)
+        prewarm.start(1L, request)
+        assertEquals(1, requests)
+
+        assertNull(prewarm.storedCards(2L))
+        assertNull(prewarm.storedCards(1L))
+
+        prewarm.start(1L, request)
+        assertEquals(listOf(StoredCardFactory.visa()), prewarm.storedCards(1L)?.blockingFirst())
+        assertEquals(2, requests)
+    }
+
+    @Test
+    fun testDroppedPrewarm_cancelsItsRequest() {
+        val prewarm = CheckoutPrewarm(100L) { now }
+        var cancelled = 0
+        val pending = Observable.never<List<StoredCard>>().doOnDispose { cancelled++ }
+
+        prewarm.start(1L, pending)
+        prewarm.discard()
+        assertEquals(1, cancelled)
+
+        // - Replaced by the prewarm of another user
+        prewarm.start(1L, pending)
+        prewarm.start(2L, pending)
+        assertEquals(2, cancelled)
+
+        // - Handed to the checkout, which now owns the request
+        assertNotNull(prewarm.storedCards(2L))
+        assertEquals(2, cancelled)
+    }
+
+    @Test
+    fun testStoredCards_expire() {
+        val prewarm = CheckoutPrewarm(100L) { now }
+        prewarm.start(1L, request)
+
+        now += 101
+        assertNull(prewarm.storedCards(1L))
+    }
+}
@@ -0,0 +1,79 @@
+package com.kickstarter.libs
+
+import com.google.gson.FieldNamingPolicy
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.TypeAdapter
+import com.google.gson.TypeAdapterFactory
+import com.google.gson.reflect.TypeToken
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.models.Category
+import com.kickstarter.services.GsonAdapterPrewarmer
+import org.joda.time.DateTime
+import org.junit.Test
+import java.lang.reflect.Type
+
+class DateTimeTypeConverterTest : KSRobolectricTestCase() {
+
+    private data class Dated(val launchedAt: DateTime?)
+
+    private val gson: Gson = GsonBuilder()
+        .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+        .registerTypeAdapter(DateTime::class.java, DateTimeTypeConverter())
+        .create()
+
+    @Test
+    fun testRead_seconds() {
+        val dated = gson.fromJson("{\"launched_at\":1475361315}", Dated::class.java)
+        assertEquals(DateTime(1475361315000L), dated.launchedAt)
+    }
+
+    @Test
+    fun testRead_numericString() {
+        val dated = gson.fromJson("{\"launched_at\":\"1475361315\"}", Dated::class.java)
+        assertEquals(DateTime(1475361315000L), dated.launchedAt)
+    }
+
+    @Test
+    fun testRead_null() {
+        val dated = gson.fromJson("{\"launched_at\":null}", Dated::class.java)
+        assertNull(dated.launchedAt)
+    }
+
+    @Test
+    fun testWrite_roundTrip() {
+        val dated = Dated(DateTime(1475361315000L))
+        val json = gson.toJson(dated)
+
+        assertEquals("{\"launched_at\":1475361315}", json)
+        assertEquals(dated, gson.fromJson(json, Dated::class.java))
+    }
+
+    @Test
+    fun testRead_fractionalSeconds() {
+        val dated = gson.fromJson("{\"launched_at\":1475361315.75}", Dated::class.java)
+        assertEquals(DateTime(1475361315000L), dated.launchedAt)
+    }
+
+    @Test
+    fun testPrewarm_apiTypes() {
+        val created = mutableListOf<Type>()
+        val gson = GsonBuilder()
+            .registerTypeAdapterFactory(object : TypeAdapterFactory {
+                override fun <T : Any?> create(gson: Gson, type: TypeToken<T>): TypeAdapter<T>? {
+                    created.add(type.type)
+                    return null
+                }
+            })
+            .registerTypeAdapter(DateTime::class.java, DateTimeTypeConverter())
+            .create()
+
+        GsonAdapterPrewarmer.prewarm(gson)
+        GsonAdapterPrewarmer.API_TYPES.forEach { assertTrue(created.contains(it)) }
+
+        // - Parsing a prewarmed type hits the adapter cache
+        val prewarmed = created.size
+        gson.fromJson("{\"id\":1,\"name\":\"Art\"}", Category::class.java)
+        assertEquals(prewarmed, created.size)
+    }
+}
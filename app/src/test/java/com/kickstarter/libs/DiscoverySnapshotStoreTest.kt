@@ -0,0 +1,99 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.CategoryFactory
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.services.DiscoveryParams
+import org.junit.Test
+import java.io.File
+
+class DiscoverySnapshotStoreTest : KSRobolectricTestCase() {
+
+    private var now = 1_000L
+
+    private fun store(directory: File = File(context().cacheDir, "discovery_snapshots_test")) =
+        DiscoverySnapshotStore(directory, requireNotNull(environment().gson()), 100L) { now }
+
+    @Test
+    fun testProjects_roundTrip() {
+        val store = store()
+        val params = DiscoveryParams.builder().sort(DiscoveryParams.Sort.POPULAR).build()
+        val projects = listOf(ProjectFactory.project(), ProjectFactory.allTheWayProject())
+
+        store.saveProjects(params, projects)
+        val snapshot = store.projects(params)
+
+        assertEquals(now, snapshot?.savedAtMillis)
+        assertEquals(projects.map { it.id() }, snapshot?.data?.map { it.id() })
+        assertEquals(projects.map { it.name() }, snapshot?.data?.map { it.name() })
+
+        // - Other tabs are kept apart
+        assertNull(store.projects(DiscoveryParams.builder().sort(DiscoveryParams.Sort.NEWEST).build()))
+        store.clear()
+    }
+
+    @Test
+    fun testCategories_roundTrip() {
+        val store = store()
+        val categories = listOf(CategoryFactory.artCategory(), CategoryFactory.ceramicsCategory())
+
+        store.saveCategories(categories)
+
+        assertEquals(categories, store.categories()?.data)
+        store.clear()
+    }
+
+    @Test
+    fun testSnapshot_expires() {
+        val store = store()
+        store.saveCategories(listOf(CategoryFactory.artCategory()))
+
+        now += 101L
+
+        assertNull(store.categories())
+        now -= 101L
+        // - Expired snapshots are deleted
+        assertNull(store.categories())
+    }
+
+    @Test
+    fun testSnapshot_corruptedFileIsIgnored() {
+        val directory = File(context().cacheDir, "discovery_snapshots_corrupted")
+        val file = File(directory, "categories/categories")
+        file.parentFile?.mkdirs()
+        file.writeText("not a snapshot")
+
+        assertNull(store(directory).categories())
+        assertFalse(file.exists())
+    }
+
+    @Test
+    fun testClear() {
+        val store = store()
+        val params = DiscoveryParams.builder().sort(DiscoveryParams.Sort.MAGIC).build()
+        store.saveProjects(params, listOf(ProjectFactory.project()))
+        store.saveCategories(listOf(CategoryFactory.artCategory()))
+
+        store.clear()
+
+        assertNull(store.projects(params))
+        assertNull(store.categories())
+    }
+
+    @Test
+    fun testKey() {
+        assertEquals("projects_magic", DiscoverySnapshotStore.key(DiscoveryParams.builder().build()))
+        assertEquals(
+            "projects_newest_recommended",
+            DiscoverySnapshotStore.key(
+                DiscoveryParams.builder().sort(DiscoveryParams.Sort.NEWEST).recommended(true).backed(-1).build()
+            )
+        )
+
+        // - Filtered, searched or later pages are not saved
+        assertNull(DiscoverySnapshotStore.key(DiscoveryParams.builder().category(CategoryFactory.artCategory()).build()))
+        assertNull(DiscoverySnapshotStore.key(DiscoveryParams.builder().term("cats").build()))
+        assertNull(DiscoverySnapshotStore.key(DiscoveryParams.builder().starred(1).build()))
+        assertNull(DiscoverySnapshotStore.key(DiscoveryParams.builder().page(2).build()))
+    }
+}
@@ -1,15 +1,24 @@
 package com.kickstarter.libs
 
+import com.google.android.gms.tasks.OnSuccessListener
+import com.google.android.gms.tasks.Task
 import com.google.firebase.remoteconfig.FirebaseRemoteConfig
+import com.google.firebase.remoteconfig.FirebaseRemoteConfigInfo
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.featureflag.FeatureFlagClient
 import com.kickstarter.libs.featureflag.FeatureFlagClient.Companion.INTERNAL_INTERVAL
 import com.kickstarter.libs.featureflag.FeatureFlagClient.Companion.RELEASE_INTERVAL
+import com.kickstarter.libs.featureflag.FeatureFlagSnapshot
 import com.kickstarter.libs.featureflag.FlagKey
+import com.kickstarter.libs.featureflag.FlipperFlagKey
 import com.kickstarter.libs.featureflag.getFetchInterval
+import com.kickstarter.models.UserPrivacy
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkStatic
+import io.mockk.slot
+import io.reactivex.Observable
+import io.reactivex.schedulers.Schedulers
 import org.junit.Test
 
 class FeatureFlagClientTest : KSRobolectricTestCase() {
@@ -106,4 +115,88 @@ class FeatureFlagClientTest : KSRobolectricTestCase() {
         ffClient.initialize(null)
         assertEquals(ffClient2.getString(FlagKey.ANDROID_HIDE_APP_RATING_DIALOG), "")
     }
+
+    @Test
+    fun testSnapshot_materializedOnceRemoteConfigIsInitialized() {
+        val mockFirebase = mockk<FirebaseRemoteConfig>(relaxed = true)
+        val mockBuild = mockk<Build>()
+        val initialized = mockk<Task<FirebaseRemoteConfigInfo>>(relaxed = true)
+        val onInitialized = slot<OnSuccessListener<FirebaseRemoteConfigInfo>>()
+        every { initialized.addOnSuccessListener(capture(onInitialized)) } returns initialized
+        every { mockFirebase.ensureInitialized() } returns initialized
+        every { mockFirebase.getBoolean(FlagKey.ANDROID_ENCRYPT.key) } returns true
+        every { mockBuild.isDebug } returns false
+
+        val ffClient = FeatureFlagClient(mockBuild, Schedulers.trampoline())
+        ffClient.initialize(mockFirebase)
+
+        // - Read from Remote Config until the activated values are loaded
+        assertTrue(ffClient.getBoolean(FlagKey.ANDROID_ENCRYPT))
+
+        onInitialized.captured.onSuccess(mockk())
+
+        // - Later changes are only picked up once activated
+        every { mockFirebase.getBoolean(FlagKey.ANDROID_ENCRYPT.key) } returns false
+
+        assertTrue(ffClient.getBoolean(FlagKey.ANDROID_ENCRYPT))
+        assertFalse(ffClient.getBoolean(FlagKey.ANDROID_OAUTH))
+    }
+
+    @Test
+    fun testIsBackendEnabledFlag() {
+        val mockBuild = mockk<Build>()
+        every { mockBuild.isDebug } returns false
+        val privacy = UserPrivacy(
+            "Hola holita",
+            "hola@gmail.com",
+            true,
+            true,
+            true,
+            true,
+            "MXN",
+            enabledFeatures = listOf(FlipperFlagKey.FLIPPER_PLEDGED_PROJECTS_OVERVIEW.key)
+        )
+
+        val ffClient = FeatureFlagClient(mockBuild)
+        ffClient.isBackendEnabledFlag(Observable.just(privacy), FlipperFlagKey.FLIPPER_PLEDGED_PROJECTS_OVERVIEW)
+            .test()
+            .assertValue(true)
+
+        assertTrue(ffClient.snapshot().isBackendEnabled(FlipperFlagKey.FLIPPER_PLEDGED_PROJECTS_OVERVIEW))
+    }
+
+    @Test
+    fun testSnapshots_emitOnlyOnChanges() {
+        val mockFirebase = mockk<FirebaseRemoteConfig>(relaxed = true)
+        val mockBuild = mockk<Build>()
+        val initialized = mockk<Task<FirebaseRemoteConfigInfo>>(relaxed = true)
+        val onInitialized = slot<OnSuccessListener<FirebaseRemoteConfigInfo>>()
+        every { initialized.addOnSuccessListener(capture(onInitialized)) } returns initialized
+        every { mockFirebase.ensureInitialized() } returns initialized
+        every { mockFirebase.getBoolean(FlagKey.ANDROID_ENCRYPT.key) } returns true
+        every { mockBuild.isDebug } returns false
+
+        val ffClient = FeatureFlagClient(mockBuild, Schedulers.trampoline())
+        val snapshots = ffClient.snapshots().test()
+        snapshots.assertValue(FeatureFlagSnapshot.EMPTY)
+
+        ffClient.updateConfigFeatures(mapOf("android_feature" to true))
+        ffClient.updateConfigFeatures(mapOf("android_feature" to true))
+        snapshots.assertValueCount(2)
+        assertTrue(ffClient.snapshot().isConfigFeatureEnabled("android_feature"))
+        assertFalse(ffClient.snapshot().isConfigFeatureEnabled("android_other_feature"))
+
+        ffClient.updateBackendFeatures(listOf(FlipperFlagKey.FLIPPER_PLEDGED_PROJECTS_OVERVIEW.key))
+        snapshots.assertValueCount(3)
+
+        ffClient.initialize(mockFirebase)
+        onInitialized.captured.onSuccess(mockk())
+        snapshots.assertValueCount(4)
+
+        // - Every source is kept when another one changes
+        val last = snapshots.values().last()
+        assertTrue(last.getBoolean(FlagKey.ANDROID_ENCRYPT))
+        assertTrue(last.isConfigFeatureEnabled("android_feature"))
+        assertTrue(last.isBackendEnabled(FlipperFlagKey.FLIPPER_PLEDGED_PROJECTS_OVERVIEW))
+    }
 }
@@ -0,0 +1,77 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import io.reactivex.schedulers.Schedulers
+import org.junit.Test
+import java.io.File
+import java.net.HttpCookie
+import java.net.URI
+
+class PersistentCookieStoreTest : KSRobolectricTestCase() {
+
+    private var now = 1_000_000L
+
+    private fun file() = File(context().cacheDir, "cookies_test.json")
+
+    private fun store(maxCookies: Int = PersistentCookieStore.MAX_COOKIES) =
+        PersistentCookieStore(file(), requireNotNull(environment().gson()), maxCookies, { now }, Schedulers.trampoline())
+
+    private fun cookie(name: String, maxAge: Long, domain: String = "www.kickstarter.com") =
+        HttpCookie(name, "value").also {
+            it.domain = domain
+            it.path = "/"
+            it.maxAge = maxAge
+        }
+
+    public override fun tearDown() {
+        file().delete()
+        super.tearDown()
+    }
+
+    @Test
+    fun testFind_indexesCookiesByName() {
+        val store = store()
+        store.add(null, cookie("ref_1", 60))
+        store.add(null, cookie("ref_2", 60))
+
+        assertEquals("ref_2", store.find("ref_2")?.name)
+        assertNull(store.find("ref_3"))
+
+        now += 60_000
+        assertNull(store.find("ref_2"))
+    }
+
+    @Test
+    fun testCookies_surviveNewProcess() {
+        val store = store()
+        store.add(null, cookie("ref_1", 60))
+        store.add(URI.create("https://www.kickstarter.com"), HttpCookie("session", "value"))
+
+        // - Session cookies are not kept
+        val restored = store()
+        assertEquals(listOf("ref_1"), restored.cookies.map { it.name })
+        assertEquals(1, restored.get(URI.create("https://www.kickstarter.com/projects")).size)
+        assertTrue(restored.get(URI.create("https://api.example.com")).isEmpty())
+
+        restored.removeAll()
+        assertTrue(store().cookies.isEmpty())
+    }
+
+    @Test
+    fun testAdd_replacesAndCompacts() {
+        val store = store(maxCookies = 2)
+        store.add(null, cookie("ref_1", 10))
+        store.add(null, cookie("ref_1", 30))
+        assertEquals(1, store.cookies.size)
+
+        store.add(null, cookie("ref_2", 20))
+        store.add(null, cookie("ref_3", 40))
+
+        // - Over the limit, the cookie expiring first is dropped
+        assertEquals(listOf("ref_1", "ref_3"), store.cookies.map { it.name })
+
+        // - A zero max age deletes the cookie
+        store.add(null, cookie("ref_1", 0))
+        assertNull(store.find("ref_1"))
+    }
+}
@@ -0,0 +1,102 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.CategoryFactory
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.Project
+import org.junit.Test
+
+class ProjectSearchIndexTest : KSRobolectricTestCase() {
+
+    private fun project(id: Long, name: String, blurb: String = "", creator: String = "Creator"): Project =
+        ProjectFactory.project().toBuilder()
+            .id(id)
+            .name(name)
+            .blurb(blurb)
+            .creator(UserFactory.creator().toBuilder().name(creator).build())
+            .category(CategoryFactory.ceramicsCategory())
+            .build()
+
+    @Test
+    fun testSearch_matchesPrefixesOfEveryWord() {
+        val index = ProjectSearchIndex()
+        val board = project(1, "Exploding Kittens: Board Game")
+        val mugs = project(2, "Handmade mugs", blurb = "Coffee mugs for cat lovers")
+        index.add(listOf(board, mugs))
+
+        assertEquals(listOf(board), index.search("explod kit"))
+        assertEquals(listOf(mugs), index.search("COFFEE"))
+        assertEquals(listOf(board, mugs), index.search("ceramics").sortedBy { it.id() })
+        assertTrue(index.search("kittens coffee").isEmpty())
+        assertTrue(index.search("  ").isEmpty())
+    }
+
+    @Test
+    fun testSearch_ranksNameMatchesFirst() {
+        val index = ProjectSearchIndex()
+        val inBlurb = project(1, "Handmade mugs", blurb = "A cat on every mug")
+        val inName = project(2, "Cat towers")
+        index.add(listOf(inName, inBlurb))
+
+        assertEquals(listOf(inName, inBlurb), index.search("cat"))
+    }
+
+    @Test
+    fun testSearch_ignoresDiacritics() {
+        val index = ProjectSearchIndex()
+        val cafe = project(1, "Le Café Poster", creator = "Zoë")
+        index.add(cafe)
+
+        assertEquals(listOf(cafe), index.search("cafe"))
+        assertEquals(listOf(cafe), index.search("zoe"))
+    }
+
+    @Test
+    fun testAdd_evictsLeastRecentlySeen() {
+        val index = ProjectSearchIndex(maxProjects = 2)
+        val first = project(1, "Tabletop one")
+        val second = project(2, "Tabletop two")
+        val third = project(3, "Tabletop three")
+
+        index.add(listOf(first, second))
+        // - Seeing the first project again makes the second one the least recently seen
+        index.add(first)
+        index.add(third)
+
+        assertEquals(2, index.size())
+        assertEquals(listOf(first, third), index.search("tabletop").sortedBy { it.id() })
+        assertTrue(index.search("two").isEmpty())
+    }
+
+    @Test
+    fun testAdd_replacesPreviousVersion() {
+        val index = ProjectSearchIndex()
+        index.add(project(1, "Working title"))
+        index.add(project(1, "Final title"))
+
+        assertEquals(1, index.size())
+        assertTrue(index.search("working").isEmpty())
+        assertEquals("Final title", index.search("final").first().name())
+    }
+
+    @Test
+    fun testMerge() {
+        val local = project(1, "Local")
+        val both = project(2, "Both")
+        val remote = project(3, "Remote")
+
+        assertEquals(listOf(remote, both, local), ProjectSearchIndex.merge(listOf(remote, both), listOf(both, local)))
+    }
+
+    @Test
+    fun testClear() {
+        val index = ProjectSearchIndex()
+        index.add(project(1, "Board game"))
+
+        index.clear()
+
+        assertEquals(0, index.size())
+        assertTrue(index.search("board").isEmpty())
+    }
+}
@@ -0,0 +1,49 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+import java.io.File
+
+class SnapshotStoreTest : KSRobolectricTestCase() {
+
+    private var now = 10_000L
+
+    private fun store(directory: String) = SnapshotStore<String>(
+        File(context().cacheDir, directory).apply { deleteRecursively() },
+        requireNotNull(environment().gson()),
+        String::class.java,
+        maxAgeMillis = 5_000L,
+        maxEntries = 2
+    ) { now }
+
+    @Test
+    fun testWrite_evictsTheLeastRecentlyUsed() {
+        val store = store("snapshots_lru_test")
+        store.write("1", "one")
+        now += 1_000
+        store.write("2", "two")
+        now += 1_000
+
+        // - Reading the first one makes the second the least recently used
+        assertEquals("one", store.read("1")?.data)
+        now += 1_000
+        store.write("3", "three")
+
+        assertEquals("one", store.read("1")?.data)
+        assertNull(store.read("2"))
+        assertEquals("three", store.read("3")?.data)
+    }
+
+    @Test
+    fun testWrite_deletesExpiredSnapshots() {
+        val directory = File(context().cacheDir, "snapshots_expired_test")
+        val store = store(directory.name)
+        store.write("1", "one")
+        now += 6_000
+
+        store.write("2", "two")
+
+        assertFalse(File(directory, "1").exists())
+        assertTrue(File(directory, "2").exists())
+    }
+}
@@ -0,0 +1,66 @@
+package com.kickstarter.libs
+
+import android.content.SharedPreferences
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.extensions.PushNotification
+import com.kickstarter.models.extensions.getTraits
+import org.junit.Test
+
+class UserTraitsSnapshotTest : KSRobolectricTestCase() {
+
+    private class CountingSharedPreferences : MockSharedPreferences() {
+        var edits = 0
+
+        override fun edit(): SharedPreferences.Editor {
+            edits++
+            return super.edit()
+        }
+    }
+
+    private val user = UserFactory.allTraitsTrue()
+        .toBuilder()
+        .name("Pikachu pikachez")
+        .build()
+
+    @Test
+    fun testPersist_onlyWritesWhenTraitsChange() {
+        val preferences = CountingSharedPreferences()
+        val snapshot = UserTraitsSnapshot(preferences)
+
+        assertTrue(snapshot.persist(user))
+        assertFalse(snapshot.persist(user))
+        assertFalse(snapshot.persist(user.toBuilder().build()))
+        assertEquals(1, preferences.edits)
+
+        assertTrue(snapshot.persist(user.toBuilder().notifyMobileOfBackings(false).build()))
+        assertEquals(2, preferences.edits)
+        assertEquals("false", preferences.getString(PushNotification.PUSH_BACKINGS.field, ""))
+        assertEquals(user.getTraits().size, preferences.all.size)
+    }
+
+    @Test
+    fun testUniqueTraits_diffsAgainstMemory() {
+        val snapshot = UserTraitsSnapshot(MockSharedPreferences())
+
+        assertEquals(user.getTraits(), snapshot.uniqueTraits(user))
+
+        snapshot.persist(user)
+        assertTrue(snapshot.uniqueTraits(user).isEmpty())
+
+        val uniqueTraits = snapshot.uniqueTraits(user.toBuilder().notifyMobileOfBackings(false).build())
+        assertEquals(mapOf(PushNotification.PUSH_BACKINGS.field to false), uniqueTraits)
+    }
+
+    @Test
+    fun testUniqueTraits_loadsPreviouslyPersistedTraits() {
+        val preferences = CountingSharedPreferences()
+        UserTraitsSnapshot(preferences).persist(user)
+
+        val snapshot = UserTraitsSnapshot(preferences)
+
+        assertTrue(snapshot.uniqueTraits(user).isEmpty())
+        assertFalse(snapshot.persist(user))
+        assertEquals(1, preferences.edits)
+    }
+}
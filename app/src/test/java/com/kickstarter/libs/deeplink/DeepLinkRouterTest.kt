@@ -0,0 +1,159 @@
+package com.kickstarter.libs.deeplink
+
+import android.net.Uri
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.deeplink.DeepLinkRoute.SurveyType
+import com.kickstarter.libs.utils.extensions.isCheckoutUri
+import com.kickstarter.libs.utils.extensions.isProjectCommentUri
+import com.kickstarter.libs.utils.extensions.isProjectPreviewUri
+import com.kickstarter.libs.utils.extensions.isProjectSaveUri
+import com.kickstarter.libs.utils.extensions.isProjectSurveyUri
+import com.kickstarter.libs.utils.extensions.isProjectUpdateCommentsUri
+import com.kickstarter.libs.utils.extensions.isProjectUpdateUri
+import com.kickstarter.libs.utils.extensions.isProjectUri
+import com.kickstarter.libs.utils.extensions.isRewardFulfilledDl
+import com.kickstarter.libs.utils.extensions.isSettingsUrl
+import org.junit.Test
+
+class DeepLinkRouterTest : KSRobolectricTestCase() {
+
+    private val webEndpoint = "https://www.kickstarter.com"
+    private val router = DeepLinkRouter(webEndpoint)
+
+    private val urls = listOf(
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/",
+        "https://www.kickstarter.com/projects/smithsonian-anthology-of-hip-hop-and-rap",
+        "ksr://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?ref=discovery",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?save=true",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?save=false",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap?token=beepboop",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/comment",
+        "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap/pledge?ref=discovery",
+        "https://www.kickstarter.com/projects/smithsonian/pledge",
+        "https://www.kickstarter.com/projects/fjorden/fjorden-iphone-photography-reinvented/comments?ref=discovery",
+        "https://www.kickstarter.com/projects/fjorden/comments",
+        "https://www.kickstarter.com/projects/fjorden/comments/",
+        "https://www.kickstarter.com/projects/fjorden/fjorden-iphone-photography-reinvented/comments/",
+        "https://www.kickstarter.com/projects/fjorden/fjorden-iphone-photography-reinvented/posts",
+        "https://www.kickstarter.com/projects/fjorden/fjorden-iphone-photography-reinvented/posts/3254626?ref=discovery",
+        "https://www.kickstarter.com/projects/fjorden/posts/3254626",
+        "https://www.kickstarter.com/projects/fjorden/fjorden-iphone-photography-reinvented/posts/3254626/comments",
+        "https://www.kickstarter.com/projects/alexlidell/power-of-five-collectors-edition-omnibus/backing/survey_responses",
+        "https://www.kickstarter.com/projects/alexlidell/power-of-five-collectors-edition-omnibus/surveys/0",
+        "https://www.kickstarter.com/projects/alexlidell/power-of-five-collectors-edition-omnibus/surveys/0/edit",
+        "https://www.kickstarter.com/projects/creator/project/surveys/survey-param/edit_address",
+        "https://www.kickstarter.com/projects/alexlidell/power-of-five-collectors-edition-omnibus/backing/redeem",
+        "https://www.kickstarter.com/projects/creator/project/backing/pledge_redemption",
+        "https://www.kickstarter.com/projects/creator/project/surveys",
+        "https://staging.kickstarter.com/projects/polymernai/baby-spirits-plush-collection/mark_reward_fulfilled/true",
+        "ksr://www.kickstarter.com/projects/polymernai/baby-spirits-plush-collection/mark_reward_fulfilled/true",
+        "https://www.kickstarter.com/settings/notify_mobile_of_marketing_update/true",
+        "ksr://staging.kickstarter.com/settings/notify_mobile_of_marketing_update/true",
+        "https://staging.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap",
+        "https://www.kickstarter.com/projects/smith$onian/anthology",
+        "https://www.kickstarter.com/projects//anthology",
+        "https://www.kickstarter.com/projects",
+        "https://www.kickstarter.com/discover/categories/art",
+        "https://www.kickstarter.com/users/creator/surveys/1",
+        "ksr://www.kickstarter.com/?app_banner=1&ref=nav",
+        "https://www.kickstarter.com/"
+    )
+
+    /**
+     * Resolution of the `UriExt` predicates, in the order [com.kickstarter.viewmodels.DeepLinkViewModel] applied them.
+     */
+    private fun predicatesRoute(uri: Uri): Class<out DeepLinkRoute> = when {
+        uri.isSettingsUrl() -> DeepLinkRoute.MarketingSettings::class.java
+        uri.isRewardFulfilledDl() -> DeepLinkRoute.RewardFulfilled::class.java
+        uri.isProjectSaveUri(webEndpoint) -> DeepLinkRoute.ProjectSave::class.java
+        uri.isCheckoutUri(webEndpoint) -> DeepLinkRoute.Checkout::class.java
+        uri.isProjectPreviewUri(webEndpoint) -> DeepLinkRoute.ProjectPreview::class.java
+        uri.isProjectCommentUri(webEndpoint) -> DeepLinkRoute.ProjectComments::class.java
+        uri.isProjectUpdateCommentsUri(webEndpoint) -> DeepLinkRoute.ProjectUpdateComments::class.java
+        uri.isProjectUpdateUri(webEndpoint) -> DeepLinkRoute.ProjectUpdate::class.java
+        uri.isProjectSurveyUri(webEndpoint) -> DeepLinkRoute.ProjectSurvey::class.java
+        uri.isProjectUri(webEndpoint) -> DeepLinkRoute.Project::class.java
+        else -> DeepLinkRoute.Unknown::class.java
+    }
+
+    @Test
+    fun testRoute_isEquivalentToUriPredicates() {
+        urls.map { Uri.parse(it) }.forEach { uri ->
+            assertEquals(uri.toString(), predicatesRoute(uri), router.route(uri).javaClass)
+        }
+    }
+
+    @Test
+    fun testRoute_project() {
+        assertEquals(
+            DeepLinkRoute.Project("smithsonian", "anthology"),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/smithsonian/anthology?ref=discovery"))
+        )
+        assertEquals(
+            DeepLinkRoute.Project(null, "anthology"),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/anthology/"))
+        )
+    }
+
+    @Test
+    fun testRoute_projectQueryParams() {
+        assertEquals(
+            DeepLinkRoute.ProjectSave("smithsonian", "anthology", true),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/smithsonian/anthology?save=true"))
+        )
+        assertEquals(
+            DeepLinkRoute.ProjectPreview("smithsonian", "anthology", "beepboop"),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/smithsonian/anthology?token=beepboop"))
+        )
+    }
+
+    @Test
+    fun testRoute_literalSegmentsWinOverParams() {
+        assertEquals(
+            DeepLinkRoute.ProjectComments(null, "fjorden"),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/fjorden/comments"))
+        )
+        // - Comments links do not accept a trailing slash, it resolves to a project with a `comments` slug
+        assertEquals(
+            DeepLinkRoute.Project("fjorden", "comments"),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/fjorden/comments/"))
+        )
+    }
+
+    @Test
+    fun testRoute_updates() {
+        assertEquals(
+            DeepLinkRoute.ProjectUpdate("fjorden", "iphone", "3254626"),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/fjorden/iphone/posts/3254626"))
+        )
+        assertEquals(
+            DeepLinkRoute.ProjectUpdateComments("fjorden", "iphone", "3254626"),
+            router.route(Uri.parse("ksr://www.kickstarter.com/projects/fjorden/iphone/posts/3254626/comments"))
+        )
+    }
+
+    @Test
+    fun testRoute_surveys() {
+        assertEquals(
+            DeepLinkRoute.ProjectSurvey("creator", "project", SurveyType.EDIT_ADDRESS, "survey-param"),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/creator/project/surveys/survey-param/edit_address"))
+        )
+        assertEquals(
+            DeepLinkRoute.ProjectSurvey("creator", "project", SurveyType.PLEDGE_REDEMPTION),
+            router.route(Uri.parse("https://www.kickstarter.com/projects/creator/project/backing/pledge_redemption"))
+        )
+    }
+
+    @Test
+    fun testRoute_otherHosts() {
+        assertEquals(
+            DeepLinkRoute.RewardFulfilled("polymernai", "plush"),
+            router.route(Uri.parse("https://staging.kickstarter.com/projects/polymernai/plush/mark_reward_fulfilled/true"))
+        )
+        assertEquals(
+            DeepLinkRoute.Unknown,
+            router.route(Uri.parse("https://www.example.com/projects/polymernai/plush/comments"))
+        )
+    }
+}
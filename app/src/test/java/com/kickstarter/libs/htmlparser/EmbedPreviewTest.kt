@@ -0,0 +1,45 @@
+package com.kickstarter.libs.htmlparser
+
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+
+class EmbedPreviewTest : KSRobolectricTestCase() {
+
+    private fun iframe(src: String) =
+        ExternalSourceViewElement("<iframe width=\"100%\" height=\"315\" src=\"$src\" frameborder=\"0\"></iframe>")
+
+    @Test
+    fun testParseEmbedPreview_youtube() {
+        val preview = iframe("https://www.youtube.com/embed/3u7EIiohs6U?feature=oembed&wmode=transparent")
+            .parseEmbedPreview()
+
+        assertEquals("www.youtube.com", preview.host)
+        assertEquals("https://img.youtube.com/vi/3u7EIiohs6U/hqdefault.jpg", preview.thumbnailUrl)
+    }
+
+    @Test
+    fun testParseEmbedPreview_protocolRelativeWithoutThumbnail() {
+        val preview = iframe("//open.spotify.com/embed/track/31H5dHBR7g381udIzXSKIE").parseEmbedPreview()
+
+        assertEquals("https://open.spotify.com/embed/track/31H5dHBR7g381udIzXSKIE", preview.sourceUrl)
+        assertEquals("open.spotify.com", preview.host)
+        assertNull(preview.thumbnailUrl)
+    }
+
+    @Test
+    fun testParseEmbedPreview_withoutIframe() {
+        val preview = ExternalSourceViewElement("<div></div>").parseEmbedPreview()
+
+        assertEquals(EmbedPreview(null, null, null), preview)
+    }
+
+    @Test
+    fun testEmbedPreviewCache() {
+        val cache = EmbedPreviewCache()
+        val element = iframe("https://www.youtube.com/embed/3u7EIiohs6U")
+
+        val preview = cache.preview(element)
+        assertSame(preview, cache.preview(element.copy()))
+        assertEquals("<body style=\"margin: 0; padding: 0\">${element.htmlContent}</body>", cache.html(element))
+    }
+}
@@ -0,0 +1,32 @@
+package com.kickstarter.libs.htmlparser
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ProjectFactory
+import org.junit.Test
+
+class StoryViewElementsCacheTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testWarm_parsesTheStoryOnce() {
+        val cache = StoryViewElementsCache()
+        val project = ProjectFactory.project().toBuilder().story("<p>Our story</p>").build()
+
+        cache.warm(project).test().assertComplete()
+        val elements = cache.elements(project)
+
+        assertEquals(1, elements.size)
+        assertTrue(elements[0] is TextViewElement)
+        assertSame(elements, cache.elements(project))
+
+        // - An edited story is parsed again
+        val edited = project.toBuilder().story("<p>Our story</p><p>Edited</p>").build()
+        assertEquals(2, cache.elements(edited).size)
+    }
+
+    @Test
+    fun testElements_withoutStory() {
+        val project = ProjectFactory.project().toBuilder().story(null).build()
+
+        assertTrue(StoryViewElementsCache().elements(project).isEmpty())
+    }
+}
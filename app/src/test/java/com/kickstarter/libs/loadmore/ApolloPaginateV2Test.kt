@@ -0,0 +1,96 @@
+package com.kickstarter.libs.loadmore
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.models.ApolloEnvelope
+import com.kickstarter.services.apiresponses.commentresponse.PageInfoEnvelope
+import io.reactivex.Observable
+import io.reactivex.subjects.PublishSubject
+import org.junit.Test
+
+class ApolloPaginateV2Test : KSRobolectricTestCase() {
+
+    private class NumbersEnvelope(val numbers: List<Int>, private val endCursor: String?) : ApolloEnvelope {
+        override fun pageInfoEnvelope(): PageInfoEnvelope? =
+            endCursor?.let { PageInfoEnvelope.builder().endCursor(it).build() }
+    }
+
+    private val requestedCursors = mutableListOf<String>()
+
+    // - Pages of two numbers, the cursor being the index of the page
+    private fun loadPage(cursor: String): Observable<NumbersEnvelope> {
+        requestedCursors.add(cursor)
+        val index = if (cursor.isEmpty()) 0 else cursor.toInt()
+        return Observable.just(NumbersEnvelope(listOf(index * 10, index * 10 + 1), "${index + 1}"))
+    }
+
+    private fun paginate(
+        nextPage: Observable<Unit>,
+        previousPage: Observable<Unit>,
+        windowSize: Int
+    ) = ApolloPaginateV2.builder<Int, NumbersEnvelope, Unit>()
+        .nextPage(nextPage)
+        .previousPage(previousPage)
+        .windowSize(windowSize)
+        .startOverWith(Observable.just(Unit))
+        .envelopeToListOfData { it.numbers }
+        .loadWithParams { loadPage(it.second) }
+        .build()
+
+    @Test
+    fun testWindowedPagination_keepsOnlyWindowPages() {
+        val nextPage = PublishSubject.create<Unit>()
+        val previousPage = PublishSubject.create<Unit>()
+        val data = paginate(nextPage, previousPage, windowSize = 2).paginatedData()!!.test()
+
+        nextPage.onNext(Unit)
+        nextPage.onNext(Unit)
+        nextPage.onNext(Unit)
+
+        data.assertValues(
+            listOf(0, 1),
+            listOf(0, 1, 10, 11),
+            listOf(10, 11, 20, 21),
+            listOf(20, 21, 30, 31)
+        )
+    }
+
+    @Test
+    fun testWindowedPagination_refetchesEvictedPages() {
+        val nextPage = PublishSubject.create<Unit>()
+        val previousPage = PublishSubject.create<Unit>()
+        val data = paginate(nextPage, previousPage, windowSize = 2).paginatedData()!!.test()
+
+        nextPage.onNext(Unit)
+        nextPage.onNext(Unit)
+        previousPage.onNext(Unit)
+        // - Nothing left to load back
+        previousPage.onNext(Unit)
+
+        data.assertValueAt(3, listOf(0, 1, 10, 11))
+        data.assertValueCount(4)
+        assertEquals(listOf("", "1", "2", ""), requestedCursors)
+
+        // - Continues from the page evicted at the end of the window
+        nextPage.onNext(Unit)
+        data.assertValueAt(4, listOf(10, 11, 20, 21))
+        assertEquals("2", requestedCursors.last())
+    }
+
+    @Test
+    fun testWithoutWindow_keepsEveryPage() {
+        val nextPage = PublishSubject.create<Unit>()
+        val data = ApolloPaginateV2.builder<Int, NumbersEnvelope, Unit>()
+            .nextPage(nextPage)
+            .startOverWith(Observable.just(Unit))
+            .envelopeToListOfData { it.numbers }
+            .loadWithParams { loadPage(it.second) }
+            .build()
+            .paginatedData()!!
+            .test()
+
+        nextPage.onNext(Unit)
+        nextPage.onNext(Unit)
+
+        data.assertValueAt(2, listOf(0, 1, 10, 11, 20, 21))
+    }
+}
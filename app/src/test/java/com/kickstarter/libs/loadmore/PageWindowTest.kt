@@ -0,0 +1,78 @@
+package com.kickstarter.libs.loadmore
+
+import junit.framework.TestCase
+import org.junit.Test
+
+class PageWindowTest : TestCase() {
+
+    private fun page(index: Int, isLast: Boolean = false) = PageWindow.Page(
+        requestCursor = if (index == 0) "" else "cursor-$index",
+        items = listOf(index * 10, index * 10 + 1),
+        nextCursor = if (isLast) null else "cursor-${index + 1}"
+    )
+
+    @Test
+    fun testAppend_evictsFirstPagesBeyondWindow() {
+        val window = PageWindow<Int>(2)
+        assertEquals("", window.nextCursor())
+
+        window.append(page(0))
+        window.append(page(1))
+        assertFalse(window.hasEvictedPreviousPages())
+
+        window.append(page(2))
+        assertEquals(listOf(10, 11, 20, 21), window.items())
+        assertEquals("", window.previousCursor())
+        assertEquals("cursor-3", window.nextCursor())
+
+        window.append(page(3))
+        assertEquals(listOf(20, 21, 30, 31), window.items())
+        assertEquals("cursor-1", window.previousCursor())
+    }
+
+    @Test
+    fun testPrepend_restoresEvictedPageAndEvictsLastPage() {
+        val window = PageWindow<Int>(2)
+        (0..3).forEach { window.append(page(it)) }
+
+        window.prepend(page(1))
+        assertEquals(listOf(10, 11, 20, 21), window.items())
+        assertEquals("", window.previousCursor())
+        // - The evicted last page is fetched again with the cursor of the page before it
+        assertEquals("cursor-3", window.nextCursor())
+
+        window.prepend(page(0))
+        assertEquals(listOf(0, 1, 10, 11), window.items())
+        assertNull(window.previousCursor())
+        assertEquals("cursor-2", window.nextCursor())
+    }
+
+    @Test
+    fun testPrepend_ignoresPagesNotRequestedWithPreviousCursor() {
+        val window = PageWindow<Int>(2)
+        (0..2).forEach { window.append(page(it)) }
+
+        window.prepend(page(1))
+        assertEquals(listOf(10, 11, 20, 21), window.items())
+        assertEquals("", window.previousCursor())
+    }
+
+    @Test
+    fun testEmptyPage_endsPagination() {
+        val window = PageWindow<Int>(2)
+        window.append(page(0))
+        window.append(PageWindow.Page("cursor-1", emptyList(), null))
+
+        assertNull(window.nextCursor())
+        assertEquals(listOf(0, 1), window.items())
+    }
+
+    @Test
+    fun testItems_reversed() {
+        val window = PageWindow<Int>(3)
+        window.append(page(0))
+        window.append(page(1))
+
+        assertEquals(listOf(10, 11, 0, 1), window.items(isReversed = true))
+    }
+}
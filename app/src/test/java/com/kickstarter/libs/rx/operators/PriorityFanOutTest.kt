@@ -0,0 +1,87 @@
+package com.kickstarter.libs.rx.operators
+
+import io.reactivex.Observable
+import io.reactivex.subjects.PublishSubject
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class PriorityFanOutTest {
+
+    @Test
+    fun testFirstDistinct_keepsPriorityOrder() {
+        val first = PublishSubject.create<Int>()
+        val second = PublishSubject.create<Int>()
+
+        val test = PriorityFanOut.firstDistinct(listOf<Observable<Int>>(first, second), 3).test()
+
+        // - The lower priority source completes first, its items must wait for the first source
+        second.onNext(3)
+        second.onNext(4)
+        second.onComplete()
+        test.assertNoValues()
+
+        first.onNext(1)
+        first.onNext(3)
+        first.onComplete()
+
+        test.assertValue(listOf(1, 3, 4))
+        test.assertComplete()
+    }
+
+    @Test
+    fun testFirstDistinct_disposesRemainingSourcesOnceEnoughItems() {
+        val first = PublishSubject.create<Int>()
+        val second = PublishSubject.create<Int>()
+        val third = PublishSubject.create<Int>()
+
+        val test = PriorityFanOut.firstDistinct(listOf<Observable<Int>>(first, second, third), 2).test()
+        assertTrue(third.hasObservers())
+
+        first.onNext(1)
+        first.onComplete()
+        test.assertNoValues()
+
+        second.onNext(1)
+        second.onNext(2)
+        second.onComplete()
+
+        test.assertValue(listOf(1, 2))
+        test.assertComplete()
+        assertFalse(third.hasObservers())
+    }
+
+    @Test
+    fun testFirstDistinct_errorCountsAsEmpty() {
+        val first = PublishSubject.create<Int>()
+        val second = PublishSubject.create<Int>()
+
+        val test = PriorityFanOut.firstDistinct(listOf<Observable<Int>>(first, second), 2).test()
+
+        first.onError(Throwable("error"))
+        second.onNext(5)
+        second.onNext(6)
+        second.onComplete()
+
+        test.assertValue(listOf(5, 6))
+        test.assertNoErrors()
+    }
+
+    @Test
+    fun testFirstDistinct_fewerItemsThanCount() {
+        val test = PriorityFanOut.firstDistinct(
+            listOf(Observable.just(1, 2), Observable.just(2), Observable.empty()),
+            3
+        ).test()
+
+        test.assertValue(listOf(1, 2))
+        test.assertComplete()
+    }
+
+    @Test
+    fun testFirstDistinct_noSources() {
+        PriorityFanOut.firstDistinct(emptyList<Observable<Int>>(), 3)
+            .test()
+            .assertValue(emptyList())
+    }
+}
@@ -0,0 +1,150 @@
+package com.kickstarter.libs.startup
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.util.concurrent.Executor
+
+class StartupOrchestratorTest {
+
+    private val pendingBackground = mutableListOf<Runnable>()
+    private val pendingIdle = mutableListOf<Runnable>()
+    private val executed = mutableListOf<String>()
+    private var clock = 0L
+
+    private fun orchestrator(steps: List<StartupStep>, trace: StartupTrace) = StartupOrchestrator(
+        steps,
+        trace,
+        Executor { pendingBackground.add(it) },
+        { pendingIdle.add(it) }
+    )
+
+    private fun step(name: String, stage: StartupStage, vararg dependsOn: String, cost: Long = 1L) =
+        StartupStep(name, stage, dependsOn.toList()) {
+            clock += cost
+            executed.add(name)
+        }
+
+    @Test
+    fun testStart_runsOnlyEagerStepsSynchronously() {
+        val trace = StartupTrace { clock }
+        orchestrator(
+            listOf(
+                step("push", StartupStage.BACKGROUND),
+                step("cookie", StartupStage.EAGER),
+                step("segment", StartupStage.IDLE)
+            ),
+            trace
+        ).start()
+
+        assertEquals(listOf("cookie"), executed)
+        assertEquals(1, pendingBackground.size)
+        assertTrue(pendingIdle.isEmpty())
+
+        pendingBackground.removeAt(0).run()
+        assertEquals(listOf("cookie", "push"), executed)
+        assertEquals(1, pendingIdle.size)
+
+        pendingIdle.removeAt(0).run()
+        assertEquals(listOf("cookie", "push", "segment"), executed)
+        assertEquals(listOf("segment"), trace.executedSteps(StartupStage.IDLE))
+    }
+
+    @Test
+    fun testStart_respectsDependencyOrder() {
+        val trace = StartupTrace { clock }
+        orchestrator(
+            listOf(
+                step("c", StartupStage.EAGER, "b"),
+                step("b", StartupStage.EAGER, "a"),
+                step("a", StartupStage.EAGER)
+            ),
+            trace
+        ).start()
+
+        assertEquals(listOf("a", "b", "c"), executed)
+        assertEquals(listOf("a", "b", "c"), trace.executedSteps())
+    }
+
+    @Test
+    fun testTrace_recordsTimings() {
+        val trace = StartupTrace { clock }
+        orchestrator(
+            listOf(
+                step("firebase", StartupStage.EAGER, cost = 5_000_000L),
+                step("timber", StartupStage.EAGER, cost = 2_000_000L),
+                step("push", StartupStage.BACKGROUND, cost = 40_000_000L)
+            ),
+            trace
+        ).start()
+        pendingBackground.removeAt(0).run()
+
+        assertEquals(5L, trace.timing("firebase")?.durationMillis)
+        assertEquals(2L, trace.timing("timber")?.durationMillis)
+        assertEquals(40L, trace.timing("push")?.durationMillis)
+        assertEquals(7_000_000L, trace.criticalPathNanos())
+    }
+
+    @Test
+    fun testStart_failingDeferredStepDoesNotStopTheGraph() {
+        val trace = StartupTrace { clock }
+        orchestrator(
+            listOf(
+                StartupStep("broken", StartupStage.BACKGROUND) { throw IllegalStateException("boom") },
+                step("push", StartupStage.BACKGROUND)
+            ),
+            trace
+        ).start()
+        pendingBackground.removeAt(0).run()
+
+        assertEquals(listOf("push"), executed)
+        assertNotNull(trace.timing("broken")?.error)
+        assertNull(trace.timing("push")?.error)
+    }
+
+    @Test
+    fun testStart_failingEagerStepIsRethrown() {
+        val trace = StartupTrace { clock }
+        val orchestrator = orchestrator(
+            listOf(
+                StartupStep("broken", StartupStage.EAGER) { throw IllegalStateException("boom") },
+                step("cookie", StartupStage.EAGER)
+            ),
+            trace
+        )
+
+        val error = runCatching { orchestrator.start() }.exceptionOrNull()
+
+        assertTrue(error is IllegalStateException)
+        assertTrue(executed.isEmpty())
+        assertTrue(pendingBackground.isEmpty())
+        assertNotNull(trace.timing("broken")?.error)
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun testSort_dependencyOnLaterStage_fails() {
+        StartupOrchestrator.sortByDependencies(
+            listOf(
+                step("cookie", StartupStage.EAGER, "push"),
+                step("push", StartupStage.BACKGROUND)
+            )
+        )
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun testSort_unknownDependency_fails() {
+        StartupOrchestrator.sortByDependencies(listOf(step("cookie", StartupStage.EAGER, "missing")))
+    }
+
+    @Test(expected = IllegalStateException::class)
+    fun testSort_cyclicDependency_fails() {
+        StartupOrchestrator.sortByDependencies(
+            listOf(
+                step("a", StartupStage.EAGER, "b"),
+                step("b", StartupStage.EAGER, "a")
+            )
+        )
+    }
+}
@@ -6,6 +6,7 @@ import com.kickstarter.KSRobolectricTestCase;
 import com.kickstarter.libs.utils.extensions.ProjectExt;
 import com.kickstarter.mock.factories.ProjectFactory;
 import com.kickstarter.libs.MockSharedPreferences;
+import com.kickstarter.libs.PersistentCookieStore;
 import com.kickstarter.libs.RefTag;
 import com.kickstarter.models.Project;
 import com.kickstarter.models.Urls;
@@ -14,10 +15,13 @@ import com.kickstarter.models.Web;
 import org.joda.time.DateTime;
 import org.junit.Test;
 
+import java.io.File;
 import java.net.CookieManager;
 import java.net.CookieStore;
 import java.net.HttpCookie;
 
+import io.reactivex.schedulers.Schedulers;
+
 public final class RefTagUtilsTest extends KSRobolectricTestCase {
   final static SharedPreferences sharedPreferences = new MockSharedPreferences();
 
@@ -100,4 +104,23 @@ public final class RefTagUtilsTest extends KSRobolectricTestCase {
 
     assertNull(cookie);
   }
+
+  @Test
+  public void testFindRefTagCookieForProject_MovesSharedPreferenceToPersistentStore() {
+    final File file = new File(context().getCacheDir(), "ref_tag_cookies_test.json");
+    final CookieManager cookieManager = new CookieManager(
+      new PersistentCookieStore(file, environment().gson(), PersistentCookieStore.MAX_COOKIES, System::currentTimeMillis, Schedulers.trampoline()),
+      null
+    );
+    final SharedPreferences preferences = new MockSharedPreferences();
+    final Project project = ProjectFactory.project();
+    final RefTag refTag = RefTag.recommended();
+    preferences.edit().putString(RefTagUtils.cookieNameForProject(project), RefTagUtils.cookieValueForRefTag(refTag)).apply();
+
+    assertEquals(refTag, RefTagUtils.storedCookieRefTagForProject(project, cookieManager, preferences));
+    assertNull(preferences.getString(RefTagUtils.cookieNameForProject(project), null));
+    assertEquals(refTag, RefTagUtils.storedCookieRefTagForProject(project, cookieManager, preferences));
+
+    file.delete();
+  }
 }
@@ -2,13 +2,12 @@ package com.kickstarter.libs.utils.extensions
 
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.MockSharedPreferences
+import com.kickstarter.libs.UserTraitsSnapshot
 import com.kickstarter.mock.factories.UserFactory
 import com.kickstarter.models.extensions.PushNotification
 import com.kickstarter.models.extensions.getTraits
-import com.kickstarter.models.extensions.getUniqueTraits
 import com.kickstarter.models.extensions.isLocationGermany
 import com.kickstarter.models.extensions.isUserEmailVerified
-import com.kickstarter.models.extensions.persistTraits
 import org.junit.Test
 
 class UserExtensionTest : KSRobolectricTestCase() {
@@ -421,7 +420,7 @@ class UserExtensionTest : KSRobolectricTestCase() {
             .name("Pikachu pikachez")
             .build()
 
-        user.persistTraits(mockShared)
+        UserTraitsSnapshot(mockShared).persist(user)
 
         val persisted = mockShared.all.toSortedMap()
         val onMemory = user.getTraits().toSortedMap()
@@ -443,11 +442,11 @@ class UserExtensionTest : KSRobolectricTestCase() {
             .name("Pikachu pikachez")
             .build()
 
-        user.persistTraits(mockShared)
+        UserTraitsSnapshot(mockShared).persist(user)
 
         val updatedUser = user.toBuilder().notifyMobileOfBackings(false).build()
 
-        val uniqueTraits = updatedUser.getUniqueTraits(mockShared)
+        val uniqueTraits = UserTraitsSnapshot(mockShared).uniqueTraits(updatedUser)
 
         assertTrue(uniqueTraits.size == 1)
         assertTrue(uniqueTraits.containsKey(PushNotification.PUSH_BACKINGS.field))
@@ -462,7 +461,7 @@ class UserExtensionTest : KSRobolectricTestCase() {
             .name("Pikachu pikachez")
             .build()
 
-        user.persistTraits(mockShared)
+        UserTraitsSnapshot(mockShared).persist(user)
 
         val updatedUser = user.toBuilder()
             .notifyMobileOfBackings(false)
@@ -470,7 +469,7 @@ class UserExtensionTest : KSRobolectricTestCase() {
             .notifyMobileOfFollower(false)
             .build()
 
-        val uniqueTraits = updatedUser.getUniqueTraits(mockShared)
+        val uniqueTraits = UserTraitsSnapshot(mockShared).uniqueTraits(updatedUser)
 
         assertTrue(uniqueTraits.size == 3)
         assertTrue(uniqueTraits.containsKey(PushNotification.PUSH_BACKINGS.field))
@@ -489,9 +488,9 @@ class UserExtensionTest : KSRobolectricTestCase() {
             .name("Pikachu pikachez")
             .build()
 
-        user.persistTraits(mockShared)
+        UserTraitsSnapshot(mockShared).persist(user)
 
-        val uniqueTraits = user.getUniqueTraits(mockShared)
+        val uniqueTraits = UserTraitsSnapshot(mockShared).uniqueTraits(user)
 
         assertTrue(uniqueTraits.isEmpty())
     }
@@ -0,0 +1,86 @@
+package com.kickstarter.services
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.mock.services.MockApiClientV2
+import com.kickstarter.mock.services.MockApolloClientV2
+import com.kickstarter.models.SurveyResponse
+import com.kickstarter.models.User
+import com.kickstarter.viewmodels.usecases.RefreshUserUseCase
+import io.reactivex.Observable
+import org.junit.Test
+
+class ActivityFeedRepositoryTest : KSRobolectricTestCase() {
+
+    private var userFetches = 0
+    private var unseenActivityCleared = 0
+
+    private val apolloClient = object : MockApolloClientV2() {
+        override fun clearUnseenActivity(): Observable<Int> {
+            unseenActivityCleared++
+            return Observable.just(0)
+        }
+    }
+
+    private fun repository(apiClient: ApiClientTypeV2 = MockApiClientV2()): ActivityFeedRepository {
+        val userClient = object : MockApiClientV2() {
+            override fun fetchCurrentUser(): Observable<User> {
+                userFetches++
+                return Observable.just(UserFactory.user())
+            }
+        }
+        return ActivityFeedRepository(apiClient, apolloClient, RefreshUserUseCase(userClient, MockCurrentUserV2()), null)
+    }
+
+    @Test
+    fun testLoad_emitsAllSectionsTogether() {
+        val repository = repository()
+
+        val feed = repository.load(UserFactory.user(), withActivities = true).test()
+
+        feed.assertValueCount(1)
+        feed.assertComplete()
+        val sections = feed.values().first()
+        assertNotNull(sections.activities)
+        assertNotNull(sections.surveys)
+        assertNotNull(sections.erroredBackings)
+        assertEquals(
+            setOf(ActivityFeedRepository.Source.ACTIVITIES, ActivityFeedRepository.Source.SURVEYS, ActivityFeedRepository.Source.ERRORED_BACKINGS),
+            repository.latencies().keys
+        )
+        assertEquals(0, unseenActivityCleared)
+    }
+
+    @Test
+    fun testLoad_loggedOutLoadsActivitiesOnly() {
+        val sections = repository().load(null, withActivities = true).test().values().first()
+
+        assertNotNull(sections.activities)
+        assertNull(sections.surveys)
+        assertNull(sections.erroredBackings)
+    }
+
+    @Test
+    fun testLoad_keepsSectionsLoadedWhenOneFails() {
+        val repository = repository(object : MockApiClientV2() {
+            override fun fetchUnansweredSurveys(): Observable<List<SurveyResponse>> = Observable.error(Throwable("error"))
+        })
+
+        val sections = repository.load(UserFactory.user(), withActivities = false).test().values().first()
+
+        assertNull(sections.activities)
+        assertNull(sections.surveys)
+        assertNotNull(sections.erroredBackings)
+    }
+
+    @Test
+    fun testLoad_clearsUnseenActivity() {
+        val user = UserFactory.user().toBuilder().unseenActivityCount(2).build()
+
+        repository().load(user, withActivities = true).test().assertComplete()
+
+        assertEquals(1, unseenActivityCleared)
+        assertEquals(1, userFetches)
+    }
+}
@@ -0,0 +1,59 @@
+package com.kickstarter.services
+
+import com.kickstarter.KSRobolectricTestCase
+import io.reactivex.Single
+import io.reactivex.schedulers.Schedulers
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class GraphQLTransformationsTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testMeasure_recordsTimingsPerOperation() {
+        var now = 0L
+        val transformations = GraphQLTransformations(
+            scheduler = Schedulers.trampoline(),
+            reportSlowTransforms = false,
+            nanoClock = { now }
+        )
+
+        val result = transformations.measure("FetchProject") {
+            now += TimeUnit.MILLISECONDS.toNanos(5)
+            "project"
+        }
+        transformations.measure("FetchProject") {
+            now += TimeUnit.MILLISECONDS.toNanos(20)
+        }
+        transformations.measure("GetProjectComments") {
+            now += TimeUnit.MILLISECONDS.toNanos(1)
+        }
+
+        assertEquals("project", result)
+        assertEquals(2L, transformations.timing("FetchProject")?.count())
+        assertEquals(25L, transformations.timing("FetchProject")?.totalMillis())
+        assertEquals(20L, transformations.timing("FetchProject")?.maxMillis())
+        assertEquals(1L, transformations.timing("GetProjectComments")?.count())
+        assertNull(transformations.timing("GetProjectUpdates"))
+    }
+
+    @Test
+    fun testMeasure_recordsFailedTransforms() {
+        val transformations = GraphQLTransformations(Schedulers.trampoline())
+
+        try {
+            transformations.measure("FetchProject") { throw IllegalStateException() }
+            fail()
+        } catch (e: IllegalStateException) {
+            assertEquals(1L, transformations.timing("FetchProject")?.count())
+        }
+    }
+
+    @Test
+    fun testDefaultScheduler_runsOnTransformThreads() {
+        val threadName = Single.fromCallable { Thread.currentThread().name }
+            .subscribeOn(GraphQLTransformations().scheduler)
+            .blockingGet()
+
+        assertTrue(threadName.startsWith("graphql-transform-"))
+    }
+}
@@ -7,12 +7,14 @@ import com.kickstarter.fragment.AiDisclosure
 import com.kickstarter.fragment.Amount
 import com.kickstarter.fragment.EnvironmentalCommitment
 import com.kickstarter.fragment.Faq
+import com.kickstarter.fragment.ProjectCard
 import com.kickstarter.fragment.Reward
 import com.kickstarter.fragment.Reward.AllowedAddons
 import com.kickstarter.fragment.User
 import com.kickstarter.services.transformers.aiDisclosureTransformer
 import com.kickstarter.services.transformers.decodeRelayId
 import com.kickstarter.services.transformers.environmentalCommitmentTransformer
+import com.kickstarter.services.transformers.projectCardsTransformer
 import com.kickstarter.services.transformers.projectFaqTransformer
 import com.kickstarter.services.transformers.rewardTransformer
 import com.kickstarter.services.transformers.simpleShippingRuleTransformer
@@ -139,6 +141,44 @@ class GraphQLTransformersTest : KSRobolectricTestCase() {
         assertTrue(user.avatar().medium() == "https://ksr-qa-ugc.imgix.net/assets/005/791/327/f120c4cfe49495849b526b2cc6da44f9_original.png")
     }
 
+    @Test
+    fun testProjectCardsTransformer() {
+        val categoryFragment = mock(com.kickstarter.fragment.Category::class.java)
+        `when`(categoryFragment.id).thenReturn("Q2F0ZWdvcnktMzQ=")
+        `when`(categoryFragment.name).thenReturn("Tabletop Games")
+        val category = mock(ProjectCard.Category::class.java)
+        `when`(category.category).thenReturn(categoryFragment)
+
+        val friendFragment = mock(User::class.java)
+        `when`(friendFragment.id).thenReturn("VXNlci0yMzc5NjEyNDM=")
+        `when`(friendFragment.name).thenReturn("Brotherwise Games")
+        val friend = mock(ProjectCard.Node::class.java)
+        `when`(friend.user).thenReturn(friendFragment)
+        val friends = mock(ProjectCard.Friends::class.java)
+        `when`(friends.nodes).thenReturn(listOf(friend))
+
+        val firstCard = mock(ProjectCard::class.java)
+        `when`(firstCard.id).thenReturn("UHJvamVjdC0x")
+        `when`(firstCard.category).thenReturn(category)
+        `when`(firstCard.friends).thenReturn(friends)
+        val secondCard = mock(ProjectCard::class.java)
+        `when`(secondCard.id).thenReturn("UHJvamVjdC0y")
+        `when`(secondCard.category).thenReturn(category)
+        `when`(secondCard.friends).thenReturn(friends)
+
+        val projects = projectCardsTransformer(listOf(firstCard, secondCard))
+
+        assertEquals(1L, projects[0].id())
+        assertEquals(2L, projects[1].id())
+        assertEquals(34L, projects[0].category()?.id())
+        assertEquals("Tabletop Games", projects[0].category()?.name())
+        assertEquals(237961243L, projects[0].friends().first().id())
+
+        // - Objects repeated across the page are transformed once
+        assertSame(projects[0].category(), projects[1].category())
+        assertSame(projects[0].friends().first(), projects[1].friends().first())
+    }
+
     @Test
     fun testUserPrivacyTransformer() {
         val userPrivacyQuery = mock(UserPrivacyQuery.Me::class.java)
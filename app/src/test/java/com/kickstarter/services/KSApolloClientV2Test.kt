@@ -0,0 +1,82 @@
+package com.kickstarter.services
+
+import com.apollographql.apollo3.ApolloClient
+import com.apollographql.apollo3.api.http.HttpRequest
+import com.apollographql.apollo3.api.http.HttpResponse
+import com.apollographql.apollo3.network.http.HttpEngine
+import com.google.gson.Gson
+import com.kickstarter.services.mutations.CreateAttributionEventData
+import kotlinx.coroutines.delay
+import okio.Buffer
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class KSApolloClientV2Test {
+
+    /**
+     * Answers every operation with an empty payload once [latencyMillis] went by, counting the answers, a cancelled
+     * call is never answered.
+     */
+    private class SlowHttpEngine(private val latencyMillis: Long = 200) : HttpEngine {
+        val answered = CountDownLatch(1)
+
+        override suspend fun execute(request: HttpRequest): HttpResponse {
+            delay(latencyMillis)
+            answered.countDown()
+
+            return HttpResponse.Builder(200)
+                .body(Buffer().writeUtf8("{\"data\":null}"))
+                .build()
+        }
+
+        override fun dispose() {}
+    }
+
+    private fun client(engine: HttpEngine, requestLanes: RequestLanes = RequestLanes()) = KSApolloClientV2(
+        ApolloClient.Builder()
+            .serverUrl("https://www.kickstarter.com/graph")
+            .httpEngine(engine)
+            .build(),
+        Gson(),
+        requestLanes
+    )
+
+    @Test
+    fun testDisposedQuery_isCancelled() {
+        val engine = SlowHttpEngine()
+
+        client(engine).userPrivacy().test().dispose()
+
+        assertFalse(engine.answered.await(1, TimeUnit.SECONDS))
+    }
+
+    @Test
+    fun testDisposedMutation_isStillSent() {
+        val engine = SlowHttpEngine()
+
+        client(engine).clearUnseenActivity().test().dispose()
+
+        assertTrue(engine.answered.await(2, TimeUnit.SECONDS))
+    }
+
+    @Test
+    fun testDisposedBackgroundMutation_isSentOnceTheLaneIsIdle() {
+        val engine = SlowHttpEngine()
+        val requestLanes = RequestLanes()
+        requestLanes.started(RequestLane.INTERACTIVE)
+
+        // - Disposed while deferred behind the interactive request
+        client(engine, requestLanes)
+            .createAttributionEvent(CreateAttributionEventData("Page Viewed", emptyMap()))
+            .test()
+            .dispose()
+        assertEquals(1L, engine.answered.count)
+
+        requestLanes.finished(RequestLane.INTERACTIVE)
+        assertTrue(engine.answered.await(2, TimeUnit.SECONDS))
+    }
+}
@@ -0,0 +1,103 @@
+package com.kickstarter.services
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.mock.services.MockApolloClientV2
+import com.kickstarter.models.Project
+import com.kickstarter.services.mutations.CreateAttributionEventData
+import io.reactivex.Observable
+import io.reactivex.schedulers.Schedulers
+import org.junit.Test
+import java.io.File
+import java.io.IOException
+
+class MutationOutboxTest : KSRobolectricTestCase() {
+
+    private var drainsScheduled = 0
+
+    private fun outbox(file: File = File(context().cacheDir, "mutation_outbox_test.json")) =
+        MutationOutbox(file, requireNotNull(environment().gson()), { drainsScheduled++ }, { 1_000L }, Schedulers.trampoline())
+
+    private fun event(name: String) = CreateAttributionEventData(
+        eventName = name,
+        eventProperties = mapOf("context_page" to "project"),
+        projectId = "UHJvamVjdC0x"
+    )
+
+    public override fun tearDown() {
+        File(context().cacheDir, "mutation_outbox_test.json").delete()
+        super.tearDown()
+    }
+
+    @Test
+    fun testEnqueueWatch_coalescesToggles() {
+        val outbox = outbox()
+
+        outbox.enqueueWatch(1L, true)
+        outbox.enqueueWatch(1L, true)
+        assertEquals(1, outbox.size())
+        assertTrue(outbox.hasPendingWatch(1L))
+
+        // - Saved then unsaved before being sent, nothing left to send
+        outbox.enqueueWatch(1L, false)
+        assertEquals(0, outbox.size())
+        assertFalse(outbox.hasPendingWatch(1L))
+        assertEquals(1, drainsScheduled)
+    }
+
+    @Test
+    fun testQueue_survivesNewProcess() {
+        outbox().enqueueAttributionEvent(event("Page Viewed"))
+
+        val sent = mutableListOf<String>()
+        val restored = outbox()
+        assertEquals(1, restored.size())
+
+        val drained = restored.drain(object : MockApolloClientV2() {
+            override fun createAttributionEvent(eventInput: CreateAttributionEventData): Observable<Boolean> {
+                sent.add(eventInput.eventName)
+                return Observable.just(true)
+            }
+        })
+
+        assertTrue(drained)
+        assertEquals(listOf("Page Viewed"), sent)
+        assertEquals(0, restored.size())
+    }
+
+    @Test
+    fun testDrain_keepsMutationsFailingOnNetwork() {
+        val outbox = outbox()
+        outbox.enqueueAttributionEvent(event("Offline"))
+        outbox.enqueueAttributionEvent(event("Rejected"))
+
+        val drained = outbox.drain(object : MockApolloClientV2() {
+            override fun createAttributionEvent(eventInput: CreateAttributionEventData): Observable<Boolean> =
+                if (eventInput.eventName == "Offline") Observable.error(IOException()) else Observable.error(Exception("Invalid"))
+        })
+
+        // - The rejected event is dropped, the offline one is retried later
+        assertFalse(drained)
+        assertEquals(1, outbox.size())
+    }
+
+    @Test
+    fun testWatch_queuesWhileOffline() {
+        val outbox = outbox()
+        val project = ProjectFactory.project().toBuilder().isStarred(false).watchesCount(3).build()
+        val offline = object : MockApolloClientV2() {
+            override fun watchProject(project: Project): Observable<Project> = Observable.error(IOException())
+        }
+
+        val saved = outbox.watch(offline, project, true).test()
+
+        saved.assertValueCount(1)
+        assertTrue(saved.values().first().isStarred())
+        assertEquals(4, saved.values().first().watchesCount())
+        assertTrue(outbox.hasPendingWatch(project.id()))
+
+        // - Unsaved before the queued save was sent, both cancel out without a request
+        outbox.watch(MockApolloClientV2(), saved.values().first(), false).test().assertValueCount(1)
+        assertEquals(0, outbox.size())
+    }
+}
@@ -0,0 +1,107 @@
+package com.kickstarter.services
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.services.interceptors.RequestLaneInterceptor
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.reactivex.Observable
+import io.reactivex.schedulers.TestScheduler
+import okhttp3.Interceptor
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class RequestLanesTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testDeferUntilIdle_waitsForInteractiveRequests() {
+        val scheduler = TestScheduler()
+        val lanes = RequestLanes(1_000L, scheduler)
+
+        lanes.started(RequestLane.INTERACTIVE)
+        val background = Observable.just(true)
+            .compose(lanes.deferUntilIdle<Boolean>(RequestLane.BACKGROUND))
+            .test()
+        background.assertNoValues()
+
+        lanes.finished(RequestLane.INTERACTIVE)
+        background.assertValue(true)
+    }
+
+    @Test
+    fun testDeferUntilIdle_backgroundWaitsForPrefetch() {
+        val lanes = RequestLanes(1_000L, TestScheduler())
+
+        lanes.started(RequestLane.PREFETCH)
+
+        // - Prefetching only waits for interactive requests
+        Observable.just(1)
+            .compose(lanes.deferUntilIdle<Int>(RequestLane.PREFETCH))
+            .test()
+            .assertValue(1)
+
+        val background = Observable.just(2)
+            .compose(lanes.deferUntilIdle<Int>(RequestLane.BACKGROUND))
+            .test()
+        background.assertNoValues()
+
+        lanes.finished(RequestLane.PREFETCH)
+        background.assertValue(2)
+    }
+
+    @Test
+    fun testDeferUntilIdle_isBounded() {
+        val scheduler = TestScheduler()
+        val lanes = RequestLanes(1_000L, scheduler)
+
+        lanes.started(RequestLane.INTERACTIVE)
+        val background = Observable.just(true)
+            .compose(lanes.deferUntilIdle<Boolean>(RequestLane.BACKGROUND))
+            .test()
+
+        scheduler.advanceTimeBy(999L, TimeUnit.MILLISECONDS)
+        background.assertNoValues()
+
+        scheduler.advanceTimeBy(1L, TimeUnit.MILLISECONDS)
+        background.assertValue(true)
+    }
+
+    @Test
+    fun testInterceptor_countsAndStripsLane() {
+        val lanes = RequestLanes()
+        val interceptor = RequestLaneInterceptor(lanes)
+        val sent = slot<Request>()
+        val request = Request.Builder()
+            .url("https://www.kickstarter.com/graph")
+            .header(RequestLane.HEADER, RequestLane.BACKGROUND.name)
+            .build()
+
+        val chain = mockk<Interceptor.Chain>()
+        every { chain.request() } returns request
+        every { chain.proceed(capture(sent)) } answers {
+            assertEquals(1, lanes.inFlight(RequestLane.BACKGROUND))
+            assertEquals(0, lanes.inFlight(RequestLane.INTERACTIVE))
+            Response.Builder()
+                .request(sent.captured)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .build()
+        }
+
+        interceptor.intercept(chain)
+
+        assertNull(sent.captured.header(RequestLane.HEADER))
+        assertEquals(0, lanes.inFlight(RequestLane.BACKGROUND))
+    }
+
+    @Test
+    fun testFromHeader() {
+        assertEquals(RequestLane.BACKGROUND, RequestLane.fromHeader("BACKGROUND"))
+        assertEquals(RequestLane.INTERACTIVE, RequestLane.fromHeader(null))
+        assertEquals(RequestLane.INTERACTIVE, RequestLane.fromHeader("unknown"))
+    }
+}
@@ -0,0 +1,65 @@
+package com.kickstarter.services
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.SnapshotStore
+import com.kickstarter.mock.factories.UpdateFactory
+import com.kickstarter.mock.services.MockApiClientV2
+import com.kickstarter.models.Update
+import io.reactivex.Observable
+import io.reactivex.schedulers.Schedulers
+import io.reactivex.subjects.PublishSubject
+import org.junit.Test
+import java.io.File
+
+class UpdatesRepositoryTest : KSRobolectricTestCase() {
+
+    private val store by lazy {
+        SnapshotStore<Update>(File(context().cacheDir, "updates_snapshots_test"), requireNotNull(environment().gson()), Update::class.java)
+    }
+
+    private fun update(id: Long, body: String? = "body $id") =
+        UpdateFactory.update().toBuilder().id(id).sequence(id.toInt()).body(body).build()
+
+    private fun repository(fetched: Observable<Update>) = UpdatesRepository(
+        object : MockApiClientV2() {
+            override fun fetchUpdate(projectParam: String, updateParam: String): Observable<Update> = fetched
+        },
+        store,
+        Schedulers.trampoline()
+    )
+
+    @Test
+    fun testPrefetch_storesTheNextUpdatesWithoutBody() {
+        val updates = (1L..6L).map { update(it) }
+
+        repository(Observable.empty()).prefetch(updates, updates[1], count = 2)
+
+        assertNull(store.read("1"))
+        assertEquals(listOf(2, 3, 4), (2L..4L).map { store.read(it.toString())?.data?.sequence() })
+        assertNull(store.read("3")?.data?.body())
+        assertNull(store.read("5"))
+    }
+
+    @Test
+    fun testUpdate_storedUpdateSkipsTheRequest() {
+        val fetched = PublishSubject.create<Update>()
+        repository(fetched).prefetch(listOf(update(7L)), update(7L))
+
+        val update = repository(fetched).update("slug", "7").test()
+
+        update.assertValueCount(1)
+        update.assertComplete()
+        assertEquals(7, update.values().first().sequence())
+        assertFalse(fetched.hasObservers())
+    }
+
+    @Test
+    fun testUpdate_withoutStoredUpdateFetchesIt() {
+        val update = repository(Observable.just(update(8L))).update("slug", "8").test()
+
+        update.assertValueCount(1)
+        update.assertComplete()
+        assertEquals("body 8", update.values().first().body())
+        assertEquals(8, store.read("8")?.data?.sequence())
+    }
+}
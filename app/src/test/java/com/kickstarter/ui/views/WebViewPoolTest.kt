@@ -0,0 +1,52 @@
+package com.kickstarter.ui.views
+
+import android.widget.FrameLayout
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+
+class WebViewPoolTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testAcquire_reusesReleasedWebViews() {
+        val pool = WebViewPool(context(), maxSize = 2)
+
+        val first = pool.acquire { }
+        pool.release(first)
+        val second = pool.acquire { }
+
+        assertSame(first, second)
+        assertEquals(1, pool.createdCount())
+        assertEquals(1, pool.activeCount())
+    }
+
+    @Test
+    fun testAcquire_reclaimsOldestOnceFull() {
+        val pool = WebViewPool(context(), maxSize = 2)
+        val reclaimed = mutableListOf<String>()
+        val container = FrameLayout(context())
+
+        val first = pool.acquire { reclaimed.add("first") }
+        container.addView(first)
+        val second = pool.acquire { reclaimed.add("second") }
+        val third = pool.acquire { reclaimed.add("third") }
+
+        assertSame(first, third)
+        assertNotSame(second, third)
+        assertEquals(listOf("first"), reclaimed)
+        assertNull(first.parent)
+        assertEquals(2, pool.createdCount())
+        assertEquals(2, pool.activeCount())
+    }
+
+    @Test
+    fun testDestroy() {
+        val pool = WebViewPool(context(), maxSize = 2)
+        pool.acquire { }
+        pool.release(pool.acquire { })
+
+        pool.destroy()
+
+        assertEquals(0, pool.createdCount())
+        assertEquals(0, pool.activeCount())
+    }
+}
@@ -1,6 +1,7 @@
 package com.kickstarter.viewmodels
 
 import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.CheckoutPrewarm
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.MockCurrentUserV2
 import com.kickstarter.libs.utils.EventName
@@ -12,10 +13,13 @@ import com.kickstarter.mock.factories.ProjectFactory
 import com.kickstarter.mock.factories.RewardFactory
 import com.kickstarter.mock.factories.ShippingRuleFactory
 import com.kickstarter.mock.factories.ShippingRulesEnvelopeFactory
+import com.kickstarter.mock.factories.StoredCardFactory
 import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.mock.services.MockApolloClientV2
 import com.kickstarter.models.Backing
 import com.kickstarter.models.Project
 import com.kickstarter.models.Reward
+import com.kickstarter.models.StoredCard
 import com.kickstarter.ui.data.PledgeReason
 import com.kickstarter.ui.data.ProjectData
 import com.kickstarter.viewmodels.projectpage.FlowUIState
@@ -23,6 +27,7 @@ import com.kickstarter.viewmodels.projectpage.RewardSelectionUIState
 import com.kickstarter.viewmodels.projectpage.RewardsSelectionViewModel
 import com.kickstarter.viewmodels.usecases.GetShippingRulesUseCase
 import com.kickstarter.viewmodels.usecases.ShippingRulesState
+import io.reactivex.Observable
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.launch
@@ -609,4 +614,35 @@ class RewardsSelectionViewModelTest : KSRobolectricTestCase() {
         assertEquals(viewModel.shouldShowAlert(), false)
         assertEquals(viewModel.getPledgeData()?.second, PledgeReason.LATE_PLEDGE)
     }
+
+    @Test
+    fun `selecting a reward prewarms the stored cards of the checkout until the flow is closed`() = runTest {
+        var storedCardsRequests = 0
+        val user = UserFactory.user()
+        val checkoutPrewarm = CheckoutPrewarm()
+        createViewModel(
+            environment().toBuilder()
+                .currentUserV2(MockCurrentUserV2(user))
+                .apolloClientV2(object : MockApolloClientV2() {
+                    override fun getStoredCards(): Observable<List<StoredCard>> {
+                        storedCardsRequests++
+                        return Observable.just(listOf(StoredCardFactory.visa()))
+                    }
+                })
+                .checkoutPrewarm(checkoutPrewarm)
+                .build()
+        )
+
+        val testRewards = (0..2).map { Reward.builder().id(it.toLong()).isAvailable(true).build() }
+        viewModel.provideProjectData(ProjectData.builder().project(Project.builder().rewards(testRewards).build()).build())
+
+        viewModel.onUserRewardSelection(testRewards[1])
+        assertEquals(1, storedCardsRequests)
+        assertEquals(listOf(StoredCardFactory.visa()), checkoutPrewarm.storedCards(user.id())?.blockingFirst())
+
+        // - Closing the pledge flow drops the prewarmed cards
+        viewModel.onUserRewardSelection(testRewards[2])
+        viewModel.sendEvent(expanded = false)
+        assertNull(checkoutPrewarm.storedCards(user.id()))
+    }
 }
@@ -138,20 +138,20 @@ class SearchViewModelTest : KSRobolectricTestCase() {
         scheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS)
         segmentTrack.assertValues(EventName.CTA_CLICKED.eventName)
 
-        // Typing more search terms doesn't emit more values
+        // Typing more search terms clears the results of the previous term, no project seen matches it
         vm.inputs.search("hello world!")
 
-        searchProjectsPresent.assertValues(false, true)
+        searchProjectsPresent.assertValues(false, true, false)
         scheduler.advanceTimeBy(300, TimeUnit.MILLISECONDS)
         segmentTrack.assertValues(EventName.CTA_CLICKED.eventName, EventName.PAGE_VIEWED.eventName)
 
         // Waiting enough time emits search results
         scheduler.advanceTimeBy(500, TimeUnit.MILLISECONDS)
-        searchProjectsPresent.assertValues(false, true, false, true)
+        searchProjectsPresent.assertValues(false, true, false, false, true)
 
         // Clearing search terms brings back popular projects.
         vm.inputs.search("")
-        searchProjectsPresent.assertValues(false, true, false, true, false)
+        searchProjectsPresent.assertValues(false, true, false, false, true, false)
         popularProjectsPresent.assertValues(true, false, true)
     }
 
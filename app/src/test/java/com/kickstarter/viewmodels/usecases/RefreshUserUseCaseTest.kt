@@ -0,0 +1,107 @@
+package com.kickstarter.viewmodels.usecases
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.CurrentUserV2
+import com.kickstarter.libs.DeviceRegistrarType
+import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.libs.preferences.MockStringPreference
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.mock.services.MockApiClientV2
+import com.kickstarter.models.User
+import io.reactivex.Observable
+import io.reactivex.subjects.PublishSubject
+import org.junit.Test
+
+class RefreshUserUseCaseTest : KSRobolectricTestCase() {
+
+    private var now = 0L
+    private var requests = 0
+    private var response = PublishSubject.create<User>()
+
+    private val apiClient = object : MockApiClientV2() {
+        override fun fetchCurrentUser(): Observable<User> {
+            requests++
+            return response
+        }
+    }
+
+    @Test
+    fun testFetch_coalescesConcurrentFetches() {
+        val user = UserFactory.user()
+        val useCase = RefreshUserUseCase(apiClient, MockCurrentUserV2(), 1_000L) { now }
+
+        val first = useCase.fetch().test()
+        val second = useCase.fetch().test()
+        response.onNext(user)
+        response.onComplete()
+
+        assertEquals(1, requests)
+        first.assertValue(user)
+        second.assertValue(user)
+        assertEquals(RefreshUserUseCase.Stats(fetches = 1, coalesced = 1), useCase.stats())
+    }
+
+    @Test
+    fun testFetch_answersWithinTtlWithoutRequest() {
+        val user = UserFactory.user()
+        val useCase = RefreshUserUseCase(apiClient, MockCurrentUserV2(), 1_000L) { now }
+        useCase.fetch().test()
+        response.onNext(user)
+        response.onComplete()
+
+        now = 999L
+        useCase.fetch().test().assertValue(user)
+        assertEquals(1, requests)
+
+        now = 1_000L
+        response = PublishSubject.create()
+        useCase.fetch().test().assertNoValues()
+        assertEquals(2, requests)
+
+        // - Forced fetches do not wait for the request in flight
+        useCase.fetch(force = true).test()
+        assertEquals(3, requests)
+        assertEquals(1, useCase.stats().fresh)
+    }
+
+    @Test
+    fun testFrom_sharedInstanceOfTheEnvironment() {
+        val environment = environment().toBuilder()
+            .apiClientV2(apiClient)
+            .currentUserV2(MockCurrentUserV2())
+            .build()
+        val shared = RefreshUserUseCase.from(environment)
+
+        assertSame(shared, environment.refreshUserUseCase())
+        assertSame(shared, RefreshUserUseCase.from(environment))
+        // - Like tests replacing the current user or the api client, another environment shares another instance
+        assertNotSame(shared, RefreshUserUseCase.from(environment.toBuilder().currentUserV2(MockCurrentUserV2()).build()))
+        assertNotSame(shared, RefreshUserUseCase.from(environment.toBuilder().apiClientV2(MockApiClientV2()).build()))
+    }
+
+    @Test
+    fun testRefresh_skipsUnchangedUser() {
+        val userPreference = MockStringPreference()
+        val currentUser = CurrentUserV2(
+            MockStringPreference("token"),
+            object : DeviceRegistrarType {
+                override fun registerDevice() {}
+                override fun unregisterDevice() {}
+            },
+            requireNotNull(environment().gson()),
+            userPreference
+        )
+        val useCase = RefreshUserUseCase(apiClient, currentUser)
+        val user = UserFactory.user()
+
+        useCase.refresh(user)
+        useCase.refresh(user.toBuilder().build())
+
+        // - The initial null and the first refresh only
+        assertEquals(2, userPreference.values().size)
+        assertEquals(1, useCase.stats().unchanged)
+
+        useCase.refresh(user.toBuilder().name("Renamed").build())
+        assertEquals(3, userPreference.values().size)
+    }
+}
@@ -0,0 +1,73 @@
+package com.kickstarter.viewmodels.usecases
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.mock.services.MockApiClientV2
+import com.kickstarter.models.User
+import io.reactivex.Observable
+import io.reactivex.subjects.PublishSubject
+import org.junit.Test
+
+class UpdateUserSettingsUseCaseTest : KSRobolectricTestCase() {
+
+    private val writes = mutableListOf<Pair<User, User?>>()
+    private val responses = mutableListOf<PublishSubject<User>>()
+
+    private val apiClient = object : MockApiClientV2() {
+        override fun updateUserSettings(user: User): Observable<User> = write(user, null)
+
+        override fun updateUserSettings(user: User, previous: User): Observable<User> = write(user, previous)
+
+        private fun write(user: User, previous: User?): Observable<User> {
+            writes.add(user to previous)
+            return PublishSubject.create<User>().also { responses.add(it) }
+        }
+    }
+
+    private fun respond(index: Int) {
+        responses[index].onNext(writes[index].first)
+        responses[index].onComplete()
+    }
+
+    @Test
+    fun testWrite_coalescesChangesMadeWhileWriting() {
+        val user = UserFactory.user()
+        val users = PublishSubject.create<User>()
+        val written = users.compose(UpdateUserSettingsUseCase(apiClient, MockCurrentUserV2(user)).write()).test()
+
+        val backings = user.toBuilder().notifyOfBackings(true).build()
+        val comments = backings.toBuilder().notifyOfComments(true).build()
+        val messages = comments.toBuilder().notifyOfMessages(true).build()
+        users.onNext(backings)
+        users.onNext(comments)
+        users.onNext(messages)
+
+        assertEquals(listOf<Pair<User, User?>>(backings to user), writes)
+
+        // - The last changes are sent against the settings the server acknowledged
+        respond(0)
+        assertEquals(messages to backings, writes[1])
+        written.assertNoValues()
+
+        respond(1)
+        assertEquals(2, writes.size)
+        written.assertValueCount(1)
+        assertEquals(messages, written.values().first().value)
+    }
+
+    @Test
+    fun testWrite_dropsCoalescedChangesOnError() {
+        val user = UserFactory.user()
+        val users = PublishSubject.create<User>()
+        val written = users.compose(UpdateUserSettingsUseCase(apiClient, MockCurrentUserV2(user)).write()).test()
+
+        users.onNext(user.toBuilder().notifyOfBackings(true).build())
+        users.onNext(user.toBuilder().notifyOfBackings(true).notifyOfComments(true).build())
+        responses[0].onError(Throwable("error"))
+
+        assertEquals(1, writes.size)
+        written.assertValueCount(1)
+        assertTrue(written.values().first().isOnError)
+    }
+}
@@ -0,0 +1,44 @@
+package com.kickstarter.benchmark
+
+import androidx.benchmark.macro.junit4.BaselineProfileRule
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Generates the Baseline Profile and the startup profile consumed by :app.
+ *
+ * Run it with `make baseline_profile`, which copies the generated files into `app/src/main`.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class BaselineProfileGenerator {
+
+    @get:Rule
+    val baselineProfileRule = BaselineProfileRule()
+
+    @Test
+    fun startup() = baselineProfileRule.collect(
+        packageName = TARGET_PACKAGE,
+        includeInStartupProfile = true
+    ) {
+        pressHome()
+        startActivityAndWait()
+        waitForDiscovery()
+    }
+
+    @Test
+    fun journeys() = baselineProfileRule.collect(
+        packageName = TARGET_PACKAGE
+    ) {
+        pressHome()
+        startActivityAndWait()
+        waitForDiscovery()
+        scrollDiscovery()
+        openFirstProject()
+        openCheckout()
+        backToDiscovery()
+    }
+}
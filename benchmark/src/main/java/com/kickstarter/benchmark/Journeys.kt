@@ -0,0 +1,55 @@
+package com.kickstarter.benchmark
+
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.test.uiautomator.By
+import androidx.test.uiautomator.Direction
+import androidx.test.uiautomator.Until
+
+/**
+ * Application id of the `externalBenchmark` variant of :app
+ */
+const val TARGET_PACKAGE = "com.kickstarter.kickstarter"
+
+private const val UI_TIMEOUT_MS = 5_000L
+
+/**
+ * User journeys shared by the benchmarks and the Baseline Profile generator.
+ * The `benchmark` build of :app is backed by `MockApiClientV2` and `MockApolloClientV2`,
+ * so every journey renders the same data without network access.
+ */
+fun MacrobenchmarkScope.waitForDiscovery() {
+    device.wait(Until.hasObject(By.res(TARGET_PACKAGE, "discovery_recycler_view")), UI_TIMEOUT_MS)
+    device.wait(Until.hasObject(By.res(TARGET_PACKAGE, "project_card_view_group")), UI_TIMEOUT_MS)
+}
+
+fun MacrobenchmarkScope.scrollDiscovery() {
+    val list = device.findObject(By.res(TARGET_PACKAGE, "discovery_recycler_view")) ?: return
+    // - Keep the gesture away from the navigation bar
+    list.setGestureMargin(device.displayWidth / 5)
+
+    repeat(3) {
+        list.fling(Direction.DOWN)
+        device.waitForIdle()
+    }
+    list.fling(Direction.UP)
+    device.waitForIdle()
+}
+
+fun MacrobenchmarkScope.openFirstProject() {
+    device.findObject(By.res(TARGET_PACKAGE, "project_card_view_group"))?.click() ?: return
+    device.wait(Until.hasObject(By.res(TARGET_PACKAGE, "project_pager")), UI_TIMEOUT_MS)
+    device.waitForIdle()
+}
+
+fun MacrobenchmarkScope.openCheckout() {
+    device.findObject(By.res(TARGET_PACKAGE, "pledge_action_button"))?.click() ?: return
+    device.waitForIdle()
+}
+
+fun MacrobenchmarkScope.backToDiscovery() {
+    repeat(2) {
+        device.pressBack()
+        device.waitForIdle()
+    }
+    waitForDiscovery()
+}
@@ -0,0 +1,75 @@
+package com.kickstarter.benchmark
+
+import androidx.benchmark.macro.BaselineProfileMode
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.FrameTimingMetric
+import androidx.benchmark.macro.StartupMode
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Measures frame timing of the discovery scroll, project page open and checkout journeys.
+ */
+@LargeTest
+@RunWith(AndroidJUnit4::class)
+class JourneysBenchmark {
+
+    @get:Rule
+    val benchmarkRule = MacrobenchmarkRule()
+
+    private val compilationMode = CompilationMode.Partial(BaselineProfileMode.Require)
+
+    @Test
+    fun discoveryScroll() = benchmarkRule.measureRepeated(
+        packageName = TARGET_PACKAGE,
+        metrics = listOf(FrameTimingMetric()),
+        compilationMode = compilationMode,
+        startupMode = StartupMode.WARM,
+        iterations = ITERATIONS,
+        setupBlock = {
+            startActivityAndWait()
+            waitForDiscovery()
+        }
+    ) {
+        scrollDiscovery()
+    }
+
+    @Test
+    fun projectPageOpen() = benchmarkRule.measureRepeated(
+        packageName = TARGET_PACKAGE,
+        metrics = listOf(FrameTimingMetric()),
+        compilationMode = compilationMode,
+        startupMode = StartupMode.WARM,
+        iterations = ITERATIONS,
+        setupBlock = {
+            startActivityAndWait()
+            waitForDiscovery()
+        }
+    ) {
+        openFirstProject()
+    }
+
+    @Test
+    fun checkoutOpen() = benchmarkRule.measureRepeated(
+        packageName = TARGET_PACKAGE,
+        metrics = listOf(FrameTimingMetric()),
+        compilationMode = compilationMode,
+        startupMode = StartupMode.WARM,
+        iterations = ITERATIONS,
+        setupBlock = {
+            startActivityAndWait()
+            waitForDiscovery()
+            openFirstProject()
+        }
+    ) {
+        openCheckout()
+    }
+
+    companion object {
+        const val ITERATIONS = 5
+    }
+}